@@ -0,0 +1,27 @@
+package mineopoly_three;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Mine-opoly JMH benchmarks with the GC profiler attached, so every result also shows how many bytes
+ *  were allocated per operation. Any arguments are passed to JMH as normal command line options, for example
+ *  "GameThroughputBenchmark -p boardSize=20" to only measure whole games on a 20x20 board
+ */
+public class BenchmarkMain {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            // No benchmarks picked on the command line, so run all of them
+            options.include("mineopoly_three\\..*Benchmark");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,67 @@
+package mineopoly_three.action;
+
+import mineopoly_three.game.GameBoard;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.MinePlayer;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.EmptyTile;
+import mineopoly_three.tiles.Tile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures MoveAction.performAction() by stepping the red player right and then back left between two
+ *  empty tiles, recharging first so every move has the energy it needs
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoveActionBenchmark {
+    private GameBoard board;
+    private MinePlayer player;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameEngine gameEngine = new GameEngine(20, new RandomStrategy(), new RandomStrategy(), 0);
+        board = gameEngine.getBoard();
+        player = gameEngine.getRedPlayer();
+
+        // Stand the player on an empty tile with another empty tile to its right
+        for (int x = 0; x < board.getSize() - 1; x++) {
+            for (int y = 0; y < board.getSize(); y++) {
+                Tile tile = board.getTileAtLocation(x, y);
+                Tile rightTile = board.getTileAtLocation(x + 1, y);
+                boolean bothEmpty = (tile instanceof EmptyTile) && (rightTile instanceof EmptyTile);
+                if (bothEmpty && tile.getPlayerOnTile() == null && rightTile.getPlayerOnTile() == null) {
+                    player.getCurrentTile().onExit(player);
+                    tile.onEnter(player);
+                    player.setCurrentTile(tile);
+                    return;
+                }
+            }
+        }
+        throw new IllegalStateException("No two empty tiles next to each other on the benchmark board");
+    }
+
+    @Benchmark
+    public Tile moveRightAndBack() {
+        player.rechargeEnergy(1);
+        TurnAction.MOVE_RIGHT.getActionToPerform().performAction(board, player, TurnAction.MOVE_RIGHT);
+        TurnAction.MOVE_LEFT.getActionToPerform().performAction(board, player, TurnAction.MOVE_LEFT);
+        return player.getCurrentTile();
+    }
+}
@@ -0,0 +1,62 @@
+package mineopoly_three.game;
+
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-turn board work of GameBoardBenchmark on a ChunkedGameBoard, for boards far bigger than a
+ *  GameBoard could generate each game. Both players stand on their starting tiles, so only the chunks around
+ *  them and the starting autominers have been generated
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkedGameBoardBenchmark {
+    @Param({"64", "1024", "8192"})
+    public int boardSize;
+
+    private GameEngine gameEngine;
+    private ChunkedGameBoard board;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // The engine is only there to make the players, which stand on the chunked board instead of its own
+        gameEngine = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0);
+        board = new ChunkedGameBoard(boardSize, 0);
+        board.placePlayer(gameEngine.getRedPlayer(), board.getRedStartTileLocation());
+        board.placePlayer(gameEngine.getBluePlayer(), board.getBlueStartTileLocation());
+    }
+
+    @Benchmark
+    public ChunkedGameBoard createBoard() {
+        return new ChunkedGameBoard(boardSize, 0);
+    }
+
+    @Benchmark
+    public ChunkedGameBoard update() {
+        board.update();
+        return board;
+    }
+
+    @Benchmark
+    public PlayerBoardView convertToView() {
+        return board.convertToView(gameEngine.getRedPlayer(), gameEngine.getBluePlayer());
+    }
+}
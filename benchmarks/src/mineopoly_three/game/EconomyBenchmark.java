@@ -0,0 +1,96 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures selling a full inventory of mixed resources, the demand increase the engine applies every turn, and
+ *  reading and forecasting prices the way strategies do
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EconomyBenchmark {
+    private static final ItemType[] RESOURCE_TYPES =
+            Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new);
+
+    private Economy economy;
+    private List<InventoryItem> fullInventory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        economy = new Economy(RESOURCE_TYPES);
+        fullInventory = new ArrayList<>();
+        for (int i = 0; i < MinePlayer.MAX_ITEMS; i++) {
+            fullInventory.add(new InventoryItem(RESOURCE_TYPES[i % RESOURCE_TYPES.length]));
+        }
+    }
+
+    /**
+     * An economy of its own for selling, put back to its starting prices before every sale. Selling lowers prices,
+     *  so without this they would quickly all reach 0. Resetting also clears the price history and sales ledger,
+     *  so it happens outside of the measured sale
+     */
+    @State(Scope.Thread)
+    public static class SaleState {
+        private final Economy economy = new Economy(RESOURCE_TYPES);
+
+        @Setup(Level.Invocation)
+        public void resetPrices() {
+            economy.resetPrices();
+        }
+    }
+
+    @Benchmark
+    public int sellResources(SaleState saleState) {
+        return saleState.economy.sellResources(fullInventory);
+    }
+
+    @Benchmark
+    public Economy increaseDemand() {
+        economy.increaseDemand();
+        return economy;
+    }
+
+    @Benchmark
+    public int quoteSaleInFutureTurn() {
+        return economy.quoteSale(fullInventory, 100);
+    }
+
+    @Benchmark
+    public int readPrices() {
+        int totalPrice = 0;
+        for (ItemType resourceType : RESOURCE_TYPES) {
+            totalPrice += economy.getPrice(resourceType);
+        }
+        return totalPrice;
+    }
+
+    @Benchmark
+    public int readPricesFromMap() {
+        int totalPrice = 0;
+        for (ItemType resourceType : RESOURCE_TYPES) {
+            totalPrice += economy.getCurrentPrices().get(resourceType);
+        }
+        return totalPrice;
+    }
+}
@@ -0,0 +1,54 @@
+package mineopoly_three.game;
+
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the two things the engine does to the board every turn: updating it and building each player's view.
+ * The board comes straight from world generation, so update() works on the starting autominers and each
+ *  measurement iteration starts again from a freshly generated board
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBoardBenchmark {
+    @Param({"14", "20", "26", "32", "64"})
+    public int boardSize;
+
+    private GameEngine gameEngine;
+    private GameBoard board;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        gameEngine = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), 0);
+        board = gameEngine.getBoard();
+    }
+
+    @Benchmark
+    public GameBoard update() {
+        board.update();
+        return board;
+    }
+
+    @Benchmark
+    public PlayerBoardView convertToView() {
+        return board.convertToView(gameEngine.getRedPlayer(), gameEngine.getBluePlayer());
+    }
+}
@@ -0,0 +1,65 @@
+package mineopoly_three.game;
+
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlayerStrategy;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.util.SeedStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many whole games per second one thread can play, the way TournamentRunner plays them:
+ *  one engine reset between games, fresh strategies every game, and RandomStrategy as the blue player.
+ * Every game uses the next seed from a fixed SeedStream, so runs are comparable with each other
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GameThroughputBenchmark {
+    @Param({"14", "20", "26", "32", "64"})
+    public int boardSize;
+
+    @Param({"RandomStrategy", "PlayerStrategy"})
+    public String redStrategy;
+
+    private SeedStream seedStream;
+    private long gameNumber;
+    private GameEngine gameEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        seedStream = new SeedStream(0);
+        gameNumber = 0;
+        gameEngine = new GameEngine(boardSize, createRedStrategy(), new RandomStrategy(), seedStream.seedForGame(0));
+        gameEngine.setGuiEnabled(false);
+    }
+
+    @Benchmark
+    public int playGame() {
+        gameEngine.reset(boardSize, seedStream.seedForGame(gameNumber++), createRedStrategy(), new RandomStrategy());
+        gameEngine.runGame();
+        return gameEngine.getRedPlayerScore();
+    }
+
+    private MinePlayerStrategy createRedStrategy() {
+        if ("PlayerStrategy".equals(redStrategy)) {
+            return new PlayerStrategy();
+        }
+        return new RandomStrategy();
+    }
+}
@@ -0,0 +1,57 @@
+package mineopoly_three.game;
+
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the same per-turn board work as GameBoardBenchmark on a PackedGameBoard, so the two board
+ *  representations can be compared. The packed board is a copy of a freshly generated GameBoard with both
+ *  players standing on their starting tiles
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackedGameBoardBenchmark {
+    @Param({"14", "20", "26", "32", "64"})
+    public int boardSize;
+
+    private GameEngine gameEngine;
+    private PackedGameBoard board;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        gameEngine = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), 0);
+        GameBoard generatedBoard = gameEngine.getBoard();
+        board = PackedGameBoard.fromBoard(generatedBoard);
+        board.placePlayer(gameEngine.getRedPlayer(), generatedBoard.getRedStartTileLocation());
+        board.placePlayer(gameEngine.getBluePlayer(), generatedBoard.getBlueStartTileLocation());
+    }
+
+    @Benchmark
+    public PackedGameBoard update() {
+        board.update();
+        return board;
+    }
+
+    @Benchmark
+    public PlayerBoardView convertToView() {
+        return board.convertToView(gameEngine.getRedPlayer(), gameEngine.getBluePlayer());
+    }
+}
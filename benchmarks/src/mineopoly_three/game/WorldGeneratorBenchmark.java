@@ -0,0 +1,59 @@
+package mineopoly_three.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating a brand-new board against regenerating an existing board in place,
+ *  which is what GameEngine.reset() does when the board size doesn't change, with each way of placing resources
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorldGeneratorBenchmark {
+    @Param({"14", "20", "26", "32", "64"})
+    public int boardSize;
+
+    @Param({"REJECTION_SAMPLING", "CANDIDATE_LIST"})
+    public ResourcePlacement resourcePlacement;
+
+    private WorldGenerator worldGenerator;
+    private GameBoard reusedBoard;
+    private long nextSeed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        worldGenerator = new WorldGenerator(0);
+        worldGenerator.setResourcePlacement(resourcePlacement);
+        reusedBoard = worldGenerator.generateBoard(boardSize);
+        nextSeed = 0;
+    }
+
+    @Benchmark
+    public GameBoard generateBoard() {
+        worldGenerator.setSeed(nextSeed++);
+        return worldGenerator.generateBoard(boardSize);
+    }
+
+    @Benchmark
+    public GameBoard regenerateBoard() {
+        worldGenerator.setSeed(nextSeed++);
+        worldGenerator.regenerateBoard(reusedBoard);
+        return reusedBoard;
+    }
+}
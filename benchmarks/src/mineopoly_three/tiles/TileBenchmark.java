@@ -0,0 +1,45 @@
+package mineopoly_three.tiles;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.ItemType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Point;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Tile.interact() for the interactions autominers and players cause most often:
+ *  mining a resource tile until it cracks, and cracking an empty tile
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TileBenchmark {
+    private final Point tileLocation = new Point(3, 4);
+
+    @Benchmark
+    public Tile mineResourceTile() {
+        Tile tile = new ResourceTile(tileLocation, ItemType.DIAMOND);
+        Tile minedTile = tile;
+        while (minedTile == tile) {
+            minedTile = tile.interact(null, TurnAction.MINE);
+        }
+        return minedTile;
+    }
+
+    @Benchmark
+    public Tile mineEmptyTile() {
+        return new EmptyTile(tileLocation).interact(null, TurnAction.MINE);
+    }
+}
@@ -5,13 +5,19 @@ import mineopoly_three.graphics.UserInterface;
 import mineopoly_three.replay.Replay;
 import mineopoly_three.replay.ReplayIO;
 import mineopoly_three.strategy.*;
+import mineopoly_three.tournament.SequentialEvaluator;
+import mineopoly_three.tournament.TournamentRunner;
+import mineopoly_three.tournament.WinRateEvaluation;
 
 import javax.swing.*;
+import java.util.function.Supplier;
 
 public class MineopolyMain {
     private static final int DEFAULT_BOARD_SIZE = 20;
     private static final int PREFERRED_GUI_WIDTH = 750; // Bump this up or down according to your screen size
     private static final boolean TEST_STRATEGY_WIN_PERCENT = false; // Change to true to test your win percent
+    // Every win percent game's seed comes from this, so the same value always plays the same games
+    private static final long WIN_PERCENT_MASTER_SEED = 0;
 
     // Use this if you want to view a past match replay
     private static final String savedReplayFilePath = null;
@@ -20,12 +26,14 @@ public class MineopolyMain {
 
     public static void main(String[] args) {
         if (TEST_STRATEGY_WIN_PERCENT) {
-            MinePlayerStrategy yourStrategy = new PlayerStrategy(); // TODO: Replace this with your strategy
+            Supplier<MinePlayerStrategy> yourStrategy = PlayerStrategy::new; // TODO: Replace this with your strategy
             int[] assignmentBoardSizes = new int[]{14, 20, 26, 32};
 
             for (int testBoardSize : assignmentBoardSizes) {
-                double strategyWinPercent = getStrategyWinPercent(yourStrategy, testBoardSize);
-                System.out.println("(Board size, win percent): (" + testBoardSize + ", " + strategyWinPercent + ")");
+                WinRateEvaluation evaluation = evaluateStrategyWinPercent(yourStrategy, testBoardSize);
+                System.out.println("(Board size, passed, win percent, games played): (" + testBoardSize + ", "
+                                   + evaluation.isPassed() + ", " + evaluation.getWinRate() + ", "
+                                   + evaluation.getNumGamesPlayed() + ")");
             }
         } else {
             // Not testing the win percent, show the game instead
@@ -65,30 +73,21 @@ public class MineopolyMain {
         }
     }
 
-    private static double getStrategyWinPercent(MinePlayerStrategy yourStrategy, int boardSize) {
-        final int numTotalRounds = 1000;
-        int numRoundsWonByMinScore = 0;
-        MinePlayerStrategy randomStrategy = new RandomStrategy();
+    private static WinRateEvaluation evaluateStrategyWinPercent(Supplier<MinePlayerStrategy> yourStrategy,
+                                                                int boardSize) {
+        final int maxTotalRounds = 1000;
+        final int roundsPerBatch = 100;
 
         /*
-         * TODO: Fill in the code here to play 1000 games and calculate your strategy's win percent
-         * Note that you should only count a win if your strategy scores enough points to win
-         *  by the minimum score. Do not count wins as scoring more than RandomStrategy() (which always scores 0)
+         * Note that a win is only counted if your strategy scores enough points to win by the minimum score.
+         *  Wins are not counted as scoring more than RandomStrategy() (which always scores 0)
+         * Every game gets a fresh copy of each strategy, and the games are spread across all available cores
+         * Games are played in batches, stopping once it is 95% certain whether you win at least 99% of the time
          */
-        GameEngine gameEngine;
-
-        for (int i = 0; i < numTotalRounds; i++) {
-            long randomSeed = System.currentTimeMillis();
-            gameEngine = new GameEngine(boardSize, yourStrategy, randomStrategy, randomSeed);
-            gameEngine.setGuiEnabled(false);
-            gameEngine.runGame();
-
-            if (gameEngine.getRedPlayer().getScore() > gameEngine.getMinScoreToWin()) {
-                numRoundsWonByMinScore++;
-            }
+        try (TournamentRunner tournamentRunner = new TournamentRunner(boardSize, yourStrategy, RandomStrategy::new)) {
+            SequentialEvaluator evaluator = new SequentialEvaluator(tournamentRunner, 0.99, 0.95, roundsPerBatch,
+                                                                    maxTotalRounds);
+            return evaluator.evaluate(WIN_PERCENT_MASTER_SEED);
         }
-
-
-        return ((double) numRoundsWonByMinScore) / numTotalRounds; // TODO: Uncomment this line
     }
 }
@@ -12,7 +12,7 @@ import java.util.Random;
  * This Action moves the player one tile in the direction specified by xChange and yChange.
  */
 public class MoveAction extends Action {
-    private static final double NO_ENERGY_MOVE_CHANCE = 0.25;
+    public static final double NO_ENERGY_MOVE_CHANCE = 0.25;
     private int xChange;
     private int yChange;
 
@@ -16,7 +16,7 @@ import java.util.*;
 
 
 public class PlayerStrategy implements MinePlayerStrategy {
-    private Map<ItemType, Integer> resourcePrices;
+    private Economy economy;
     private Map<Point, List<InventoryItem>>  itemsOnBoard;
     private HashSet<Point> closestChargingStation = new HashSet<>();
     private HashSet<Point> closestMarket = new HashSet<>();
@@ -89,7 +89,7 @@ public class PlayerStrategy implements MinePlayerStrategy {
      */
     @Override
     public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge, boolean isRedTurn) {
-        this.resourcePrices = economy.getCurrentPrices();
+        this.economy = economy;
         this.itemsOnBoard = boardView.getItemsOnGround();
         this.userLocation = boardView.getYourLocation();
         this.boardView = boardView;
@@ -350,9 +350,9 @@ public class PlayerStrategy implements MinePlayerStrategy {
      * @return
      */
     private Map<ItemType, Double> pricePerMiningTime() {
-        double diamondPrice = resourcePrices.get(ItemType.DIAMOND)/3;
-        double emeraldPrice = resourcePrices.get(ItemType.EMERALD)/2;
-        double rubyPrice = resourcePrices.get(ItemType.RUBY)/1;
+        double diamondPrice = economy.getPrice(ItemType.DIAMOND)/3;
+        double emeraldPrice = economy.getPrice(ItemType.EMERALD)/2;
+        double rubyPrice = economy.getPrice(ItemType.RUBY)/1;
         Map<ItemType, Double> calculatedPrice = new HashMap<>();
 
         calculatedPrice.put(ItemType.DIAMOND, diamondPrice);
@@ -387,9 +387,9 @@ public class PlayerStrategy implements MinePlayerStrategy {
         droppedEmeraldDistance = DistanceUtil.getManhattanDistance(userLocation, closestDroppedEmerald);
         droppedDiamondDistance = DistanceUtil.getManhattanDistance(userLocation, closestDroppedDiamond);
 
-        double rubyValue = economy.getCurrentPrices().get(ItemType.RUBY)/droppedRubyDistance;
-        double emeraldValue = economy.getCurrentPrices().get(ItemType.EMERALD)/droppedEmeraldDistance;
-        double diamondValue = economy.getCurrentPrices().get(ItemType.DIAMOND)/droppedDiamondDistance;
+        double rubyValue = economy.getPrice(ItemType.RUBY)/droppedRubyDistance;
+        double emeraldValue = economy.getPrice(ItemType.EMERALD)/droppedEmeraldDistance;
+        double diamondValue = economy.getPrice(ItemType.DIAMOND)/droppedDiamondDistance;
 
         mineralValues.put(ItemType.RUBY, rubyValue);
         mineralValues.put(ItemType.EMERALD, emeraldValue);
@@ -0,0 +1,8 @@
+package mineopoly_three.event;
+
+/**
+ * Something that happened during a game of Mine-opoly which listeners can subscribe to through a GameEventBus.
+ * Events are immutable, so they can safely be handed to listeners running on other threads
+ */
+public interface GameEvent {
+}
@@ -0,0 +1,140 @@
+package mineopoly_three.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Delivers GameEvents from the game to anything that wants to know about them, like the GUI.
+ * Listeners subscribe to one exact event class. Publishers should check hasListeners() before building an event,
+ *  so a game nobody is watching never pays for creating or delivering events.
+ *
+ * Slow listeners, like Swing panels, should use subscribeCoalescing() so they run on their own thread instead of
+ *  the game thread. If several events arrive before such a listener gets to run, it only receives the latest one.
+ */
+public class GameEventBus {
+    private final Map<Class<? extends GameEvent>, List<GameEventListener<? extends GameEvent>>> listenersByType;
+
+    public GameEventBus() {
+        this.listenersByType = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Subscribes a listener that is called on the publishing thread for every event of the given type
+     *
+     * @param eventType The exact class of event to listen for
+     * @param listener The listener to call for every event of that type
+     * @param <E> The type of event to listen for
+     */
+    public <E extends GameEvent> void subscribe(Class<E> eventType, GameEventListener<? super E> listener) {
+        listenersByType.computeIfAbsent(eventType, type -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Subscribes a listener that is called through the given Executor instead of on the publishing thread.
+     * At most one delivery is waiting in the Executor at a time, and it always carries the most recent event,
+     *  so events published faster than the listener can handle them are dropped instead of piling up.
+     * Passing SwingUtilities::invokeLater as the Executor runs the listener on the Event Dispatch Thread
+     *
+     * @param eventType The exact class of event to listen for
+     * @param listener The listener to call with the latest event of that type
+     * @param deliveryExecutor The Executor that calls the listener
+     * @param <E> The type of event to listen for
+     */
+    public <E extends GameEvent> void subscribeCoalescing(Class<E> eventType, GameEventListener<? super E> listener,
+                                                          Executor deliveryExecutor) {
+        subscribe(eventType, new CoalescingListener<E>(listener, deliveryExecutor));
+    }
+
+    /**
+     * Removes a listener subscribed with either subscribe() or subscribeCoalescing(). A coalescing listener's
+     *  delivery that is already waiting in its Executor still happens
+     *
+     * @param eventType The exact class of event the listener was subscribed to
+     * @param listener The listener that was passed in when subscribing
+     * @return True if the listener was subscribed to that type of event and has been removed
+     */
+    public boolean unsubscribe(Class<? extends GameEvent> eventType, GameEventListener<?> listener) {
+        List<GameEventListener<? extends GameEvent>> listeners = listenersByType.get(eventType);
+        if (listeners == null) {
+            return false;
+        }
+        for (GameEventListener<? extends GameEvent> subscribedListener : listeners) {
+            boolean isWrapperOfListener = subscribedListener instanceof CoalescingListener
+                                          && ((CoalescingListener<?>) subscribedListener).listener == listener;
+            if ((subscribedListener == listener || isWrapperOfListener) && listeners.remove(subscribedListener)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes every listener from this bus
+     */
+    public void clear() {
+        listenersByType.clear();
+    }
+
+    /**
+     * @param eventType The exact class of event to check
+     * @return True if anything is listening for events of that type
+     */
+    public boolean hasListeners(Class<? extends GameEvent> eventType) {
+        if (listenersByType.isEmpty()) {
+            return false;
+        }
+        List<GameEventListener<? extends GameEvent>> listeners = listenersByType.get(eventType);
+        return listeners != null && !listeners.isEmpty();
+    }
+
+    /**
+     * Delivers an event to every listener subscribed to its exact class
+     *
+     * @param event The event to deliver
+     */
+    @SuppressWarnings("unchecked")
+    public void publish(GameEvent event) {
+        List<GameEventListener<? extends GameEvent>> listeners = listenersByType.get(event.getClass());
+        if (listeners == null) {
+            return;
+        }
+        for (GameEventListener<? extends GameEvent> listener : listeners) {
+            // Listeners are only ever stored under the class of event they accept
+            ((GameEventListener<GameEvent>) listener).onEvent(event);
+        }
+    }
+
+    /**
+     * Holds on to only the newest event until the Executor gets around to delivering it
+     */
+    private static class CoalescingListener<E extends GameEvent> implements GameEventListener<E> {
+        private final GameEventListener<? super E> listener;
+        private final Executor deliveryExecutor;
+        private final AtomicReference<E> pendingEvent;
+
+        CoalescingListener(GameEventListener<? super E> listener, Executor deliveryExecutor) {
+            this.listener = listener;
+            this.deliveryExecutor = deliveryExecutor;
+            this.pendingEvent = new AtomicReference<>();
+        }
+
+        @Override
+        public void onEvent(E event) {
+            // Only schedule a delivery if one isn't already waiting, otherwise the waiting one picks up this event
+            if (pendingEvent.getAndSet(event) == null) {
+                deliveryExecutor.execute(this::deliverPendingEvent);
+            }
+        }
+
+        private void deliverPendingEvent() {
+            E event = pendingEvent.getAndSet(null);
+            if (event != null) {
+                listener.onEvent(event);
+            }
+        }
+    }
+}
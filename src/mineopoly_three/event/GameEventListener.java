@@ -0,0 +1,18 @@
+package mineopoly_three.event;
+
+/**
+ * Receives events of one type published on a GameEventBus
+ *
+ * @param <E> The type of GameEvent this listener receives
+ */
+@FunctionalInterface
+public interface GameEventListener<E extends GameEvent> {
+
+    /**
+     * Called once for every event this listener receives. Listeners subscribed with
+     *  GameEventBus.subscribe() are called on the game thread, so they should return quickly
+     *
+     * @param event The event that happened
+     */
+    void onEvent(E event);
+}
@@ -0,0 +1,26 @@
+package mineopoly_three.event;
+
+import mineopoly_three.item.ItemType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Published by the Economy whenever resource prices change, either from demand increasing at the end
+ *  of a turn or from a player selling resources
+ */
+public class PriceChangedEvent implements GameEvent {
+    private final Map<ItemType, Integer> prices;
+
+    public PriceChangedEvent(Map<ItemType, Integer> prices) {
+        this.prices = Collections.unmodifiableMap(new EnumMap<>(prices));
+    }
+
+    /**
+     * @return An unmodifiable Map from each resource ItemType to its price after the change
+     */
+    public Map<ItemType, Integer> getPrices() {
+        return prices;
+    }
+}
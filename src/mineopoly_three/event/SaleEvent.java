@@ -0,0 +1,22 @@
+package mineopoly_three.event;
+
+/**
+ * Published by the Economy whenever a player sells their inventory at a market
+ */
+public class SaleEvent implements GameEvent {
+    private final int numResourcesSold;
+    private final int totalSellPrice;
+
+    public SaleEvent(int numResourcesSold, int totalSellPrice) {
+        this.numResourcesSold = numResourcesSold;
+        this.totalSellPrice = totalSellPrice;
+    }
+
+    public int getNumResourcesSold() {
+        return numResourcesSold;
+    }
+
+    public int getTotalSellPrice() {
+        return totalSellPrice;
+    }
+}
@@ -0,0 +1,30 @@
+package mineopoly_three.event;
+
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+
+/**
+ * Published by the GameBoard whenever the Tile at some location is replaced by a different Tile,
+ *  like a resource being mined out or an autominer cracking a tile
+ */
+public class TileChangedEvent implements GameEvent {
+    private final Point location;
+    private final TileType newTileType;
+
+    public TileChangedEvent(Point location, TileType newTileType) {
+        this.location = new Point(location.x, location.y);
+        this.newTileType = newTileType;
+    }
+
+    /**
+     * @return A copy of the location of the Tile that changed
+     */
+    public Point getLocation() {
+        return new Point(location.x, location.y);
+    }
+
+    public TileType getNewTileType() {
+        return newTileType;
+    }
+}
@@ -0,0 +1,41 @@
+package mineopoly_three.event;
+
+/**
+ * Published by the GameEngine after both players have taken their turn and the board has updated,
+ *  and one last time when the game ends
+ */
+public class TurnCompletedEvent implements GameEvent {
+    private final int turnNumber;
+    private final int redPlayerScore;
+    private final int bluePlayerScore;
+    private final boolean gameOver;
+
+    public TurnCompletedEvent(int turnNumber, int redPlayerScore, int bluePlayerScore, boolean gameOver) {
+        this.turnNumber = turnNumber;
+        this.redPlayerScore = redPlayerScore;
+        this.bluePlayerScore = bluePlayerScore;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * @return The number of turns that have been completed so far in this game
+     */
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    public int getRedPlayerScore() {
+        return redPlayerScore;
+    }
+
+    public int getBluePlayerScore() {
+        return bluePlayerScore;
+    }
+
+    /**
+     * @return True if this is the final event of the game, because the game ended or a strategy threw an exception
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
@@ -0,0 +1,136 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.tiles.CrackedTile;
+import mineopoly_three.tiles.EmptyTile;
+import mineopoly_three.tiles.MarketTile;
+import mineopoly_three.tiles.RechargeTile;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The complete state of a GameBoard packed into arrays, one entry per tile. Tiles are numbered row by row in the
+ *  same order GameBoard stores them, so tile (x, y) has the index ((boardSize - 1 - y) * boardSize + x).
+ * Every array is private to the game package and never modified after the snapshot is taken
+ */
+class BoardSnapshot {
+    static final byte EMPTY_TILE = 0;
+    static final byte CRACKED_TILE = 1;
+    static final byte RECHARGE_TILE = 2;
+    static final byte RED_MARKET_TILE = 3;
+    static final byte BLUE_MARKET_TILE = 4;
+    // Resource tiles are stored as this plus the ordinal of the resource's ItemType
+    static final byte FIRST_RESOURCE_TILE = 5;
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+
+    final int boardSize;
+    final byte[] tileCodes;
+    // How many times each resource tile has been mined so far, 0 for every other kind of tile
+    final byte[] timesMined;
+    // The ItemType ordinals of the items on each tile, or null if a tile has none
+    final byte[][] itemsOnTiles;
+    // What PlayerBoardViews show as on the ground at each tile, which can differ from the items actually there
+    final byte[][] itemsOnGround;
+    final int redStartIndex;
+    final int blueStartIndex;
+    final int[] autominerTileIndices;
+    final int[] autominerTurnsMined;
+
+    BoardSnapshot(int boardSize, byte[] tileCodes, byte[] timesMined, byte[][] itemsOnTiles, byte[][] itemsOnGround,
+                  int redStartIndex, int blueStartIndex, int[] autominerTileIndices, int[] autominerTurnsMined) {
+        this.boardSize = boardSize;
+        this.tileCodes = tileCodes;
+        this.timesMined = timesMined;
+        this.itemsOnTiles = itemsOnTiles;
+        this.itemsOnGround = itemsOnGround;
+        this.redStartIndex = redStartIndex;
+        this.blueStartIndex = blueStartIndex;
+        this.autominerTileIndices = autominerTileIndices;
+        this.autominerTurnsMined = autominerTurnsMined;
+    }
+
+    static int toIndex(Point location, int boardSize) {
+        return ((boardSize - 1) - location.y) * boardSize + location.x;
+    }
+
+    static Point toLocation(int index, int boardSize) {
+        return new Point(index % boardSize, (boardSize - 1) - (index / boardSize));
+    }
+
+    /**
+     * Packs the kind of a Tile into one byte. Only the kinds of tile the game itself creates can be packed
+     */
+    static byte encodeTile(Tile tile) {
+        Class<? extends Tile> tileClass = tile.getClass();
+        if (tileClass == EmptyTile.class) {
+            return EMPTY_TILE;
+        } else if (tileClass == CrackedTile.class) {
+            return CRACKED_TILE;
+        } else if (tileClass == RechargeTile.class) {
+            return RECHARGE_TILE;
+        } else if (tileClass == MarketTile.class) {
+            return (tile.getType() == TileType.RED_MARKET) ? RED_MARKET_TILE : BLUE_MARKET_TILE;
+        } else if (tileClass == ResourceTile.class) {
+            return (byte) (FIRST_RESOURCE_TILE + ((ResourceTile) tile).getTileResource().ordinal());
+        }
+        throw new IllegalStateException("Cannot take a snapshot of a " + tileClass.getSimpleName());
+    }
+
+    /**
+     * Creates a new Tile from its packed kind, with no items and no player on it
+     */
+    static Tile decodeTile(byte tileCode, int timesMined, Point location) {
+        switch (tileCode) {
+            case EMPTY_TILE:
+                return new EmptyTile(location);
+            case CRACKED_TILE:
+                return new CrackedTile(location);
+            case RECHARGE_TILE:
+                return new RechargeTile(location);
+            case RED_MARKET_TILE:
+                return new MarketTile(location, true);
+            case BLUE_MARKET_TILE:
+                return new MarketTile(location, false);
+            default:
+                return new ResourceTile(location, ITEM_TYPES[tileCode - FIRST_RESOURCE_TILE], timesMined);
+        }
+    }
+
+    /**
+     * @return The ItemType ordinals of the items, or null if there are no items so empty tiles cost nothing
+     */
+    static byte[] encodeItems(List<InventoryItem> items) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        byte[] itemCodes = new byte[items.size()];
+        for (int i = 0; i < itemCodes.length; i++) {
+            itemCodes[i] = (byte) items.get(i).getItemType().ordinal();
+        }
+        return itemCodes;
+    }
+
+    /**
+     * Adds a new InventoryItem for every packed item to the end of a list
+     */
+    static void decodeItems(byte[] itemCodes, List<InventoryItem> itemsToAddTo) {
+        if (itemCodes == null) {
+            return;
+        }
+        for (byte itemCode : itemCodes) {
+            itemsToAddTo.add(new InventoryItem(ITEM_TYPES[itemCode]));
+        }
+    }
+
+    static List<InventoryItem> decodeItems(byte[] itemCodes) {
+        List<InventoryItem> items = new ArrayList<>();
+        decodeItems(itemCodes, items);
+        return items;
+    }
+}
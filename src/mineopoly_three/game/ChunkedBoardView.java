@@ -0,0 +1,258 @@
+package mineopoly_three.game;
+
+import mineopoly_three.game.ChunkedGameBoard.ChunkView;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static mineopoly_three.game.ChunkedGameBoard.CHUNK_SIZE;
+
+/**
+ * A PlayerBoardView of a ChunkedGameBoard, which looks up tiles and items in the views of the board's chunks
+ *  instead of keeping arrays as big as the board.
+ * Chunks that had not changed since being generated when this view was made are looked up from the board when
+ *  they are first needed, generating them if nothing has looked at them yet. Nearest tile and item queries search
+ *  outwards a ring of chunks at a time, so they only generate the chunks that could hold something nearer than
+ *  what they already found
+ */
+final class ChunkedBoardView extends PlayerBoardView {
+    private final ChunkedGameBoard board;
+    private final int boardSize;
+    private final int chunksPerSide;
+    // Shared with other views, so entries are only ever filled in with what the chunk looked like when generated
+    private final ChunkView[] chunkViews;
+    private Map<Point, List<InventoryItem>> itemsOnGround;
+
+    ChunkedBoardView(ChunkedGameBoard board, ChunkView[] chunkViews, Point thisPlayerLocation,
+                     Point otherPlayerLocation, int otherPlayerScore) {
+        super(null, null, thisPlayerLocation, otherPlayerLocation, otherPlayerScore);
+        this.board = board;
+        this.boardSize = board.getSize();
+        this.chunksPerSide = board.getChunksPerSide();
+        this.chunkViews = chunkViews;
+    }
+
+    @Override
+    public TileType getTileTypeAtLocation(int x, int y) {
+        if (!isValidLocation(x, y)) {
+            return null;
+        }
+        return getChunkView(x / CHUNK_SIZE, y / CHUNK_SIZE).tileTypes[getTileIndexInChunk(x, y)];
+    }
+
+    /**
+     * {@inheritDoc}
+     * The map is made up from the board's chunks as it is used. Looking up a location only generates its chunk,
+     *  but iterating over the whole map generates every chunk on the board
+     */
+    @Override
+    public Map<Point, List<InventoryItem>> getItemsOnGround() {
+        if (itemsOnGround == null) {
+            itemsOnGround = new ItemsOnGroundMap();
+        }
+        return itemsOnGround;
+    }
+
+    @Override
+    public Point getNearestTileOfType(Point from, TileType tileType) {
+        return findNearest(from, tileType.ordinal(), true);
+    }
+
+    @Override
+    public List<Point> getTilesOfTypeWithinDistance(Point from, TileType tileType, int maxDistance) {
+        return findWithinDistance(from, tileType.ordinal(), true, maxDistance);
+    }
+
+    @Override
+    public Point getNearestItemOnGround(Point from, ItemType itemType) {
+        return findNearest(from, itemType.ordinal(), false);
+    }
+
+    @Override
+    public List<Point> getItemsOnGroundWithinDistance(Point from, ItemType itemType, int maxDistance) {
+        return findWithinDistance(from, itemType.ordinal(), false, maxDistance);
+    }
+
+    /**
+     * Searches rings of chunks around the chunk nearest to a location, stopping once every chunk left is further
+     *  away than the nearest match found so far
+     *
+     * @param ordinal The ordinal of the TileType or ItemType to look for
+     * @param isTileType True to look for tiles of a TileType, false to look for items of an ItemType on the ground
+     */
+    private Point findNearest(Point from, int ordinal, boolean isTileType) {
+        // Measuring from the nearest tile on the board never makes a tile on the board look further away
+        int fromChunkX = Math.min(Math.max(from.x, 0), boardSize - 1) / CHUNK_SIZE;
+        int fromChunkY = Math.min(Math.max(from.y, 0), boardSize - 1) / CHUNK_SIZE;
+
+        Point nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (int ring = 0; ring < chunksPerSide; ring++) {
+            // Every tile in a chunk this many chunks away is at least this many steps away
+            int ringDistance = (ring - 1) * CHUNK_SIZE + 1;
+            if (ring > 0 && ringDistance >= nearestDistance) {
+                break;
+            }
+
+            for (int chunkY = fromChunkY - ring; chunkY <= fromChunkY + ring; chunkY++) {
+                // Rows in the middle of the ring only have a chunk on each side
+                boolean isEdgeRow = (Math.abs(chunkY - fromChunkY) == ring);
+                int chunkXStep = (isEdgeRow || ring == 0) ? 1 : 2 * ring;
+                for (int chunkX = fromChunkX - ring; chunkX <= fromChunkX + ring; chunkX += chunkXStep) {
+                    if (chunkX < 0 || chunkX >= chunksPerSide || chunkY < 0 || chunkY >= chunksPerSide) {
+                        continue;
+                    }
+
+                    ChunkView chunkView = getChunkView(chunkX, chunkY);
+                    int numMatches = isTileType ? chunkView.numTilesOfType[ordinal]
+                                                : chunkView.numTilesWithItemType[ordinal];
+                    if (numMatches == 0) {
+                        continue;
+                    }
+                    for (int tileIndex = 0; tileIndex < ChunkedGameBoard.TILES_PER_CHUNK; tileIndex++) {
+                        if (!matches(chunkView, tileIndex, ordinal, isTileType)) {
+                            continue;
+                        }
+                        int x = chunkX * CHUNK_SIZE + (tileIndex % CHUNK_SIZE);
+                        int y = chunkY * CHUNK_SIZE + (tileIndex / CHUNK_SIZE);
+                        int distance = Math.abs(x - from.x) + Math.abs(y - from.y);
+                        if (distance < nearestDistance) {
+                            nearestDistance = distance;
+                            nearest = new Point(x, y);
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * @return Every matching location within a Manhattan distance of a location, ordered by rows from the bottom
+     */
+    private List<Point> findWithinDistance(Point from, int ordinal, boolean isTileType, int maxDistance) {
+        List<Point> locationsFound = new ArrayList<>();
+        int firstRow = Math.max(from.y - maxDistance, 0);
+        int lastRow = Math.min(from.y + maxDistance, boardSize - 1);
+        for (int y = firstRow; y <= lastRow; y++) {
+            int xDistanceLeft = maxDistance - Math.abs(y - from.y);
+            int firstColumn = Math.max(from.x - xDistanceLeft, 0);
+            int lastColumn = Math.min(from.x + xDistanceLeft, boardSize - 1);
+            for (int x = firstColumn; x <= lastColumn; x++) {
+                ChunkView chunkView = getChunkView(x / CHUNK_SIZE, y / CHUNK_SIZE);
+                if (matches(chunkView, getTileIndexInChunk(x, y), ordinal, isTileType)) {
+                    locationsFound.add(new Point(x, y));
+                }
+            }
+        }
+        return locationsFound;
+    }
+
+    private static boolean matches(ChunkView chunkView, int tileIndex, int ordinal, boolean isTileType) {
+        if (isTileType) {
+            TileType tileType = chunkView.tileTypes[tileIndex];
+            return tileType != null && tileType.ordinal() == ordinal;
+        }
+        for (InventoryItem item : chunkView.itemsOnGround[tileIndex]) {
+            if (item.getItemType().ordinal() == ordinal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ChunkView getChunkView(int chunkX, int chunkY) {
+        int chunkNumber = chunkX + chunkY * chunksPerSide;
+        ChunkView chunkView = chunkViews[chunkNumber];
+        if (chunkView == null) {
+            // The chunk hadn't changed since being generated when this view was made
+            chunkView = board.getGeneratedChunkView(chunkNumber);
+            chunkViews[chunkNumber] = chunkView;
+        }
+        return chunkView;
+    }
+
+    private boolean isValidLocation(int x, int y) {
+        return x >= 0 && x < boardSize && y >= 0 && y < boardSize;
+    }
+
+    private static int getTileIndexInChunk(int x, int y) {
+        return (x % CHUNK_SIZE) + (y % CHUNK_SIZE) * CHUNK_SIZE;
+    }
+
+    /**
+     * A read-only map from every location on the board to the items players can see there, iterated in the same
+     *  order as ItemsOnGroundSnapshot
+     */
+    private class ItemsOnGroundMap extends AbstractMap<Point, List<InventoryItem>> {
+        private Set<Map.Entry<Point, List<InventoryItem>>> entrySet;
+
+        @Override
+        public List<InventoryItem> get(Object key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            Point location = (Point) key;
+            ChunkView chunkView = getChunkView(location.x / CHUNK_SIZE, location.y / CHUNK_SIZE);
+            return chunkView.itemsOnGround[getTileIndexInChunk(location.x, location.y)];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return (key instanceof Point) && isValidLocation(((Point) key).x, ((Point) key).y);
+        }
+
+        @Override
+        public int size() {
+            return boardSize * boardSize;
+        }
+
+        @Override
+        public Set<Map.Entry<Point, List<InventoryItem>>> entrySet() {
+            if (entrySet == null) {
+                entrySet = new AbstractSet<Map.Entry<Point, List<InventoryItem>>>() {
+                    @Override
+                    public Iterator<Map.Entry<Point, List<InventoryItem>>> iterator() {
+                        return new EntryIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return boardSize * boardSize;
+                    }
+                };
+            }
+            return entrySet;
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<Point, List<InventoryItem>>> {
+        private int nextTileNumber;
+
+        @Override
+        public boolean hasNext() {
+            return nextTileNumber < boardSize * boardSize;
+        }
+
+        @Override
+        public Map.Entry<Point, List<InventoryItem>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int tileNumber = nextTileNumber++;
+            Point location = new Point(tileNumber % boardSize, (boardSize - 1) - (tileNumber / boardSize));
+            return new AbstractMap.SimpleImmutableEntry<>(location, getItemsOnGround().get(location));
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.MoveAction;
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.RechargeTile;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A game board for worlds too big to generate or keep in memory all at once. The board is split into square
+ *  chunks of tiles, and each chunk is only generated the first time something looks at one of its tiles.
+ * Every chunk is generated from the board's seed on its own by WorldGenerator.generateChunk(), so a chunk always
+ *  has the same tiles no matter when or in what order chunks are first looked at, and chunks nobody has looked at
+ *  take no memory besides a null reference.
+ * Generated chunks keep their tiles in primitive arrays laid out like PackedGameBoard's and play by the same rules.
+ *  update() only visits chunks with an autominer in them, and convertToView() only rebuilds what players can see
+ *  in chunks that changed since the last view was made.
+ *
+ * Tiles are located by Cartesian (x, y) coordinates with (0, 0) as the bottom left tile, and players' positions
+ *  are kept by this board rather than in MinePlayer.getCurrentTile(), the same as PackedGameBoard
+ */
+public class ChunkedGameBoard {
+    public static final int CHUNK_SIZE = 32;
+    static final int TILES_PER_CHUNK = CHUNK_SIZE * CHUNK_SIZE;
+    private static final int NUM_ITEM_TYPES = PackedTiles.NUM_ITEM_TYPES;
+    private static final int AUTOMINER = PackedTiles.AUTOMINER;
+    private static final TileType[] TILE_TYPES = TileType.values();
+
+    private final int size;
+    private final long rngSeedValue;
+    private final int chunksPerSide;
+    // Chunks are numbered chunkX + chunkY * chunksPerSide, and stay null until they are generated
+    private final Chunk[] chunks;
+    // What players could see in each chunk right after it was generated
+    private final ChunkView[] generatedChunkViews;
+    // The chunks with at least one autominer in them, which are the only ones update() has to visit
+    private final BitSet activeChunks;
+    // The chunks where something players can see has changed since the last view was made
+    private final BitSet changedChunks;
+    // Given to every view until a chunk changes. A null entry is a chunk that was still as generated
+    private ChunkView[] chunkViewsSnapshot;
+
+    private final Point redStartLocation;
+    private final Point blueStartLocation;
+    private MinePlayer redPlayer;
+    private MinePlayer bluePlayer;
+    private Point redPlayerLocation;
+    private Point bluePlayerLocation;
+
+    /**
+     * Creates a board with no chunks generated besides the ones holding the autominers every board starts with
+     *
+     * @param boardSize The width and height of the board, which must be at least 10 like any generated board
+     * @param rngSeedValue The seed value every chunk is generated from
+     */
+    public ChunkedGameBoard(int boardSize, long rngSeedValue) {
+        if (boardSize < 10) {
+            throw new IllegalArgumentException("Cannot generate a board of size " + boardSize);
+        }
+        this.size = boardSize;
+        this.rngSeedValue = rngSeedValue;
+        this.chunksPerSide = (boardSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int numChunks = chunksPerSide * chunksPerSide;
+        this.chunks = new Chunk[numChunks];
+        this.generatedChunkViews = new ChunkView[numChunks];
+        this.activeChunks = new BitSet(numChunks);
+        this.changedChunks = new BitSet(numChunks);
+        this.redStartLocation = WorldGenerator.getRedStartLocation(boardSize);
+        this.blueStartLocation = WorldGenerator.getBlueStartLocation(boardSize);
+
+        // Players can't see these in their views, the same as on a GameBoard
+        for (Point autominerLocation : WorldGenerator.getStartingAutominerLocations(boardSize)) {
+            int chunkNumber = getChunkNumber(autominerLocation.x, autominerLocation.y);
+            Chunk chunk = getChunk(chunkNumber);
+            int tileIndex = getTileIndexInChunk(autominerLocation.x, autominerLocation.y);
+            chunk.itemCounts[tileIndex * NUM_ITEM_TYPES + AUTOMINER]++;
+            trackAutominer(chunkNumber, chunk, tileIndex);
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Point getRedStartTileLocation() {
+        return new Point(redStartLocation);
+    }
+
+    public Point getBlueStartTileLocation() {
+        return new Point(blueStartLocation);
+    }
+
+    /**
+     * @return How many chunks have been generated so far, out of (getSize() / CHUNK_SIZE) squared rounded up
+     */
+    public int getNumGeneratedChunks() {
+        int numGeneratedChunks = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk != null) {
+                numGeneratedChunks++;
+            }
+        }
+        return numGeneratedChunks;
+    }
+
+    /**
+     * Gets the type of the tile at the specified location in Cartesian (x, y) coordinates, generating its chunk
+     *  if nothing has looked at it yet
+     *
+     * @param x The x coordinate of the tile
+     * @param y The y coordinate of the tile
+     * @return The type of the tile, or null if the location is outside the board
+     */
+    public TileType getTileTypeAtLocation(int x, int y) {
+        if (!isValidLocation(x, y)) {
+            return null;
+        }
+        Chunk chunk = getChunk(getChunkNumber(x, y));
+        return PackedTiles.getTileType(chunk.tileCodes[getTileIndexInChunk(x, y)]);
+    }
+
+    /**
+     * Puts a player on a tile without anything that entering it would cause, like selling at a market.
+     * A player already on this board is moved off its old tile first
+     *
+     * @param player The player to put on the board
+     * @param location The location of the tile to put the player on
+     */
+    public void placePlayer(MinePlayer player, Point location) {
+        if (!isValidLocation(location.x, location.y)) {
+            throw new IllegalArgumentException("Cannot place a player at " + location + " outside the board");
+        }
+        Point otherPlayerLocation = player.isRedPlayer() ? bluePlayerLocation : redPlayerLocation;
+        if (location.equals(otherPlayerLocation)) {
+            throw new IllegalArgumentException("Another player is already standing at " + location);
+        }
+
+        // Each side has one player on the board, so this replaces any other player of the same color
+        if (player.isRedPlayer()) {
+            redPlayer = player;
+            redPlayerLocation = new Point(location);
+        } else {
+            bluePlayer = player;
+            bluePlayerLocation = new Point(location);
+        }
+    }
+
+    /**
+     * @param player A player on this board
+     * @return The location of the tile the player is standing on, or null if the player is not on this board
+     */
+    public Point getPlayerLocation(MinePlayer player) {
+        Point playerLocation = getPlayerLocationOnBoard(player);
+        return (playerLocation == null) ? null : new Point(playerLocation);
+    }
+
+    /**
+     * Performs a TurnAction for a player standing on this board, with the same result as the TurnAction's Action
+     *  would have on a GameBoard
+     *
+     * @param player The player performing the action
+     * @param action The action to perform
+     */
+    public void performAction(MinePlayer player, TurnAction action) {
+        Point playerLocation = getPlayerLocationOnBoard(player);
+        if (playerLocation == null) {
+            throw new IllegalArgumentException("The player performing an action is not on this board");
+        }
+
+        switch (action) {
+            case MOVE_UP:
+                movePlayer(player, playerLocation, 0, 1);
+                break;
+            case MOVE_DOWN:
+                movePlayer(player, playerLocation, 0, -1);
+                break;
+            case MOVE_RIGHT:
+                movePlayer(player, playerLocation, 1, 0);
+                break;
+            case MOVE_LEFT:
+                movePlayer(player, playerLocation, -1, 0);
+                break;
+            default:
+                interactWithTile(player, playerLocation, action);
+                break;
+        }
+    }
+
+    private void movePlayer(MinePlayer player, Point playerLocation, int xChange, int yChange) {
+        int nextX = playerLocation.x + xChange;
+        int nextY = playerLocation.y + yChange;
+        if (!isValidLocation(nextX, nextY)) {
+            // Can't step outside the world
+            return;
+        }
+
+        Point otherPlayerLocation = player.isRedPlayer() ? bluePlayerLocation : redPlayerLocation;
+        if (otherPlayerLocation != null && otherPlayerLocation.x == nextX && otherPlayerLocation.y == nextY) {
+            // Can't step on a tile if there's another player there
+            return;
+        }
+
+        // The random number is drawn even with energy left, the same as MoveAction does
+        boolean hasEnergyLeft = (player.getCurrentEnergy() > 0);
+        boolean canMoveWithNoEnergyLeft =
+                (player.getRandomNumberGenerator().nextDouble() < MoveAction.NO_ENERGY_MOVE_CHANCE);
+        if (hasEnergyLeft || canMoveWithNoEnergyLeft) {
+            playerLocation.setLocation(nextX, nextY);
+
+            // Players sell everything they carry when they step onto their own market
+            byte marketCode = player.isRedPlayer() ? BoardSnapshot.RED_MARKET_TILE : BoardSnapshot.BLUE_MARKET_TILE;
+            if (getTileCode(nextX, nextY) == marketCode) {
+                player.sellItems();
+            }
+            player.useEnergy();
+        }
+    }
+
+    private void interactWithTile(MinePlayer player, Point playerLocation, TurnAction action) {
+        int chunkNumber = getChunkNumber(playerLocation.x, playerLocation.y);
+        Chunk chunk = getChunk(chunkNumber);
+        int tileIndex = getTileIndexInChunk(playerLocation.x, playerLocation.y);
+
+        PackedTiles.moveItems(player, action, chunk.itemCounts, tileIndex);
+        if (action == TurnAction.MINE) {
+            byte oldTileCode = chunk.tileCodes[tileIndex];
+            if (PackedTiles.mineTile(chunk.tileCodes, chunk.timesMined, chunk.itemCounts, tileIndex)) {
+                trackTileCodeChange(chunkNumber, oldTileCode, chunk.tileCodes[tileIndex]);
+            }
+        }
+
+        // Players see what is on a tile once they have interacted with it, like GameBoard.trackItemsOnPoint()
+        if (PackedTiles.revealItems(chunk.itemCounts, chunk.visibleItemCounts, tileIndex)) {
+            changedChunks.set(chunkNumber);
+        }
+        trackAutominer(chunkNumber, chunk, tileIndex);
+    }
+
+    /**
+     * Called every turn for the board to update its internal state, recharging players standing on recharge
+     *  tiles and letting every autominer mine. Only chunks with an autominer in them are visited
+     */
+    public void update() {
+        // Recharge tiles only do anything with a player on them, so only the players' tiles need checking
+        if (redPlayerLocation != null
+            && getTileCode(redPlayerLocation.x, redPlayerLocation.y) == BoardSnapshot.RECHARGE_TILE) {
+            redPlayer.rechargeEnergy(RechargeTile.RECHARGE_PERCENT_PER_TURN);
+        }
+        if (bluePlayerLocation != null
+            && getTileCode(bluePlayerLocation.x, bluePlayerLocation.y) == BoardSnapshot.RECHARGE_TILE) {
+            bluePlayer.rechargeEnergy(RechargeTile.RECHARGE_PERCENT_PER_TURN);
+        }
+
+        // Autominers mine their own tile and the 4 tiles next to them, which may be in the next chunk over
+        for (int chunkNumber = activeChunks.nextSetBit(0); chunkNumber >= 0;
+             chunkNumber = activeChunks.nextSetBit(chunkNumber + 1)) {
+            BitSet autominerLocations = chunks[chunkNumber].autominerLocations;
+            int firstX = getFirstX(chunkNumber);
+            int firstY = getFirstY(chunkNumber);
+            for (int tileIndex = autominerLocations.nextSetBit(0); tileIndex >= 0;
+                 tileIndex = autominerLocations.nextSetBit(tileIndex + 1)) {
+                int x = firstX + (tileIndex % CHUNK_SIZE);
+                int y = firstY + (tileIndex / CHUNK_SIZE);
+
+                mineWithAutominer(x, y);
+                if (x > 0) mineWithAutominer(x - 1, y);
+                if (x < size - 1) mineWithAutominer(x + 1, y);
+                if (y > 0) mineWithAutominer(x, y - 1);
+                if (y < size - 1) mineWithAutominer(x, y + 1);
+            }
+        }
+    }
+
+    private void mineWithAutominer(int x, int y) {
+        int chunkNumber = getChunkNumber(x, y);
+        Chunk chunk = getChunk(chunkNumber);
+        int tileIndex = getTileIndexInChunk(x, y);
+        if (chunk.autominerTurnsMined == null) {
+            chunk.autominerTurnsMined = new int[TILES_PER_CHUNK];
+        }
+
+        byte oldTileCode = chunk.tileCodes[tileIndex];
+        if (PackedTiles.mineWithAutominer(chunk.tileCodes, chunk.timesMined, chunk.itemCounts,
+                                          chunk.autominerTurnsMined, tileIndex)) {
+            trackTileCodeChange(chunkNumber, oldTileCode, chunk.tileCodes[tileIndex]);
+        }
+    }
+
+    /**
+     * Converts this board into a restricted information view of the board relative to what one player is
+     *  allowed to know. Only the chunks that changed since the last view are looked at, so making a view doesn't
+     *  take longer on bigger boards. The view generates chunks nothing has looked at yet as the strategy asks
+     *  about them, and always shows the board as it was when the view was made
+     *
+     * @param playerReceivingView The player who will receive this restricted information view
+     * @param otherPlayer The other player, so the player receiving the view can know score information
+     * @return A PlayerBoardView that contains all the information about this board for this turn which a
+     *          player strategy is allowed to know
+     */
+    public PlayerBoardView convertToView(MinePlayer playerReceivingView, MinePlayer otherPlayer) {
+        // Views never change their chunk views, so they share them until a chunk changes
+        if (chunkViewsSnapshot == null) {
+            chunkViewsSnapshot = new ChunkView[chunks.length];
+        } else if (!changedChunks.isEmpty()) {
+            chunkViewsSnapshot = chunkViewsSnapshot.clone();
+        }
+        for (int chunkNumber = changedChunks.nextSetBit(0); chunkNumber >= 0;
+             chunkNumber = changedChunks.nextSetBit(chunkNumber + 1)) {
+            chunkViewsSnapshot[chunkNumber] = createChunkView(chunkNumber);
+        }
+        changedChunks.clear();
+
+        return new ChunkedBoardView(this, chunkViewsSnapshot, getPlayerLocation(playerReceivingView),
+                                    getPlayerLocation(otherPlayer), otherPlayer.getScore());
+    }
+
+    /**
+     * Creates a Tile object showing the tile at a location, for things like the GUI that need one.
+     * The Tile is made fresh on every call and changing it has no effect on this board
+     *
+     * @param x The x coordinate of the tile to get
+     * @param y The y coordinate of the tile to get
+     * @return A Tile with the same kind, items and player as the tile at (x, y), or null if outside the board
+     */
+    public Tile getTileAtLocation(int x, int y) {
+        if (!isValidLocation(x, y)) {
+            return null;
+        }
+
+        Chunk chunk = getChunk(getChunkNumber(x, y));
+        int tileIndex = getTileIndexInChunk(x, y);
+        Point location = new Point(x, y);
+        Tile tile = BoardSnapshot.decodeTile(chunk.tileCodes[tileIndex], chunk.timesMined[tileIndex], location);
+        tile.getItemsOnTile().addAll(PackedTiles.getItems(chunk.itemCounts, tileIndex));
+        if (location.equals(redPlayerLocation)) {
+            tile.restorePlayerOnTile(redPlayer);
+        } else if (location.equals(bluePlayerLocation)) {
+            tile.restorePlayerOnTile(bluePlayer);
+        }
+        return tile;
+    }
+
+    int getChunksPerSide() {
+        return chunksPerSide;
+    }
+
+    /**
+     * @return What players could see in a chunk right after it was generated, generating it if it hasn't been
+     */
+    ChunkView getGeneratedChunkView(int chunkNumber) {
+        getChunk(chunkNumber);
+        return generatedChunkViews[chunkNumber];
+    }
+
+    private Chunk getChunk(int chunkNumber) {
+        Chunk chunk = chunks[chunkNumber];
+        if (chunk == null) {
+            chunk = new Chunk();
+            WorldGenerator.generateChunk(rngSeedValue, size, chunkNumber, getFirstX(chunkNumber),
+                                         getFirstY(chunkNumber), CHUNK_SIZE, chunk.tileCodes);
+            chunks[chunkNumber] = chunk;
+            generatedChunkViews[chunkNumber] = createChunkView(chunkNumber);
+        }
+        return chunk;
+    }
+
+    private ChunkView createChunkView(int chunkNumber) {
+        Chunk chunk = chunks[chunkNumber];
+        int width = Math.min(CHUNK_SIZE, size - getFirstX(chunkNumber));
+        int height = Math.min(CHUNK_SIZE, size - getFirstY(chunkNumber));
+        return new ChunkView(chunk.tileCodes, chunk.visibleItemCounts, width, height);
+    }
+
+    private byte getTileCode(int x, int y) {
+        return getChunk(getChunkNumber(x, y)).tileCodes[getTileIndexInChunk(x, y)];
+    }
+
+    private void trackTileCodeChange(int chunkNumber, byte oldTileCode, byte newTileCode) {
+        // Cracking an empty tile doesn't change anything players can see
+        if (PackedTiles.getTileType(oldTileCode) != PackedTiles.getTileType(newTileCode)) {
+            changedChunks.set(chunkNumber);
+        }
+    }
+
+    private void trackAutominer(int chunkNumber, Chunk chunk, int tileIndex) {
+        chunk.autominerLocations.set(tileIndex, chunk.itemCounts[tileIndex * NUM_ITEM_TYPES + AUTOMINER] > 0);
+        activeChunks.set(chunkNumber, !chunk.autominerLocations.isEmpty());
+    }
+
+    private Point getPlayerLocationOnBoard(MinePlayer player) {
+        if (player == null) {
+            return null;
+        } else if (player == redPlayer) {
+            return redPlayerLocation;
+        } else if (player == bluePlayer) {
+            return bluePlayerLocation;
+        }
+        return null;
+    }
+
+    private boolean isValidLocation(int x, int y) {
+        return x >= 0 && x < size && y >= 0 && y < size;
+    }
+
+    private int getChunkNumber(int x, int y) {
+        return (x / CHUNK_SIZE) + (y / CHUNK_SIZE) * chunksPerSide;
+    }
+
+    private static int getTileIndexInChunk(int x, int y) {
+        return (x % CHUNK_SIZE) + (y % CHUNK_SIZE) * CHUNK_SIZE;
+    }
+
+    private int getFirstX(int chunkNumber) {
+        return (chunkNumber % chunksPerSide) * CHUNK_SIZE;
+    }
+
+    private int getFirstY(int chunkNumber) {
+        return (chunkNumber / chunksPerSide) * CHUNK_SIZE;
+    }
+
+    /**
+     * The tiles of one generated chunk, numbered x + y * CHUNK_SIZE from the chunk's bottom left tile
+     */
+    private static class Chunk {
+        // The kind of each tile, using the same codes as BoardSnapshot
+        final byte[] tileCodes = new byte[TILES_PER_CHUNK];
+        final byte[] timesMined = new byte[TILES_PER_CHUNK];
+        final byte[] itemCounts = new byte[TILES_PER_CHUNK * NUM_ITEM_TYPES];
+        final byte[] visibleItemCounts = new byte[TILES_PER_CHUNK * NUM_ITEM_TYPES];
+        final BitSet autominerLocations = new BitSet(TILES_PER_CHUNK);
+        // Null until an autominer first mines a tile in this chunk
+        int[] autominerTurnsMined;
+    }
+
+    /**
+     * What players can see in one chunk at one moment, which is never changed once made.
+     * Tiles are numbered the same way as in the chunk, and tiles past the edge of the board have no type
+     */
+    static final class ChunkView {
+        final TileType[] tileTypes;
+        final List<InventoryItem>[] itemsOnGround;
+        // How many tiles of each TileType, and with each ItemType on the ground, are in the chunk
+        final int[] numTilesOfType;
+        final int[] numTilesWithItemType;
+
+        @SuppressWarnings("unchecked")
+        private ChunkView(byte[] tileCodes, byte[] visibleItemCounts, int width, int height) {
+            this.tileTypes = new TileType[TILES_PER_CHUNK];
+            this.itemsOnGround = (List<InventoryItem>[]) new List<?>[TILES_PER_CHUNK];
+            this.numTilesOfType = new int[TILE_TYPES.length];
+            this.numTilesWithItemType = new int[NUM_ITEM_TYPES];
+
+            for (int tileIndex = 0; tileIndex < TILES_PER_CHUNK; tileIndex++) {
+                itemsOnGround[tileIndex] = Collections.emptyList();
+                if (tileIndex % CHUNK_SIZE >= width || tileIndex / CHUNK_SIZE >= height) {
+                    continue;
+                }
+
+                tileTypes[tileIndex] = PackedTiles.getTileType(tileCodes[tileIndex]);
+                numTilesOfType[tileTypes[tileIndex].ordinal()]++;
+                List<InventoryItem> items = PackedTiles.getItems(visibleItemCounts, tileIndex);
+                if (!items.isEmpty()) {
+                    itemsOnGround[tileIndex] = Collections.unmodifiableList(items);
+                    for (int itemOrdinal = 0; itemOrdinal < NUM_ITEM_TYPES; itemOrdinal++) {
+                        if (visibleItemCounts[tileIndex * NUM_ITEM_TYPES + itemOrdinal] > 0) {
+                            numTilesWithItemType[itemOrdinal]++;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
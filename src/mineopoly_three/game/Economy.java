@@ -1,105 +1,316 @@
 package mineopoly_three.game;
 
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.PriceChangedEvent;
+import mineopoly_three.event.SaleEvent;
 import mineopoly_three.item.InventoryItem;
 import mineopoly_three.item.ItemType;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Observable;
 
-public class Economy extends Observable {
-    private static final int NUM_UPDATES_BEFORE_NOTIFY = 10;
+public class Economy {
+    private static final int NUM_ITEM_TYPES = ItemType.values().length;
+    // Demand increases every turn, far more often than anyone watching needs to hear about it
+    private static final int NUM_INCREASES_BEFORE_PUBLISH = 10;
 
     private final ItemType[] sellableResourceTypes;
-    private Map<ItemType, Integer> resourcePrices;
-    private int updatesSinceLastNotify;
+    private final List<ItemType> sellableResourceTypeList;
+    private final boolean[] isSellableByType;
+    // Prices indexed by the ordinal of each ItemType, so reading and changing them doesn't box anything.
+    //  Types that can't be sold stay at 0
+    private final int[] resourcePrices;
+    // How many of each ItemType the current sale is selling, kept between sales so selling doesn't allocate
+    private final int[] numSoldByType;
+    private final PriceHistory priceHistory = new PriceHistory();
+    private final SalesLedger salesLedger = new SalesLedger();
+    private GameEventBus eventBus;
+    private int increasesSinceLastPublish;
+    // Zobrist hash of every price, see getStateHash()
+    private long stateHash;
 
     public Economy(ItemType[] resourceTypes) {
         this.sellableResourceTypes = resourceTypes;
-        resourcePrices = new HashMap<>();
+        this.sellableResourceTypeList = Collections.unmodifiableList(Arrays.asList(resourceTypes.clone()));
+        resourcePrices = new int[NUM_ITEM_TYPES];
+        numSoldByType = new int[NUM_ITEM_TYPES];
+        isSellableByType = new boolean[NUM_ITEM_TYPES];
         for (ItemType resourceType : sellableResourceTypes) {
-            resourcePrices.put(resourceType, resourceType.getStartingPrice());
+            isSellableByType[resourceType.ordinal()] = true;
         }
-        this.updatesSinceLastNotify = 0;
+        eventBus = new GameEventBus();
+        for (ItemType resourceType : sellableResourceTypes) {
+            // Every price starts out at 0
+            stateHash ^= hashPrice(resourceType, 0);
+        }
+        this.resetPrices();
+    }
+
+    /**
+     * Sets the GameEventBus that sale and price change events are published to
+     *
+     * @param eventBus The bus shared with the rest of the game
+     */
+    protected void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Sets the price of every ResourceType back to its starting price, reusing the existing price table
+     *  so the same Economy object can be used for another game
+     */
+    protected void resetPrices() {
+        for (ItemType resourceType : sellableResourceTypes) {
+            setPrice(resourceType, resourceType.getStartingPrice());
+        }
+        priceHistory.clear(0);
+        priceHistory.recordTurn(resourcePrices);
+        salesLedger.clear();
+        increasesSinceLastPublish = 0;
+    }
+
+    /**
+     * @return A copy of the current prices, price history, and sales ledger, which later changes to this economy
+     *          won't affect
+     */
+    EconomySnapshot createSnapshot() {
+        return new EconomySnapshot(resourcePrices.clone(), new PriceHistory(priceHistory),
+                                   new SalesLedger(salesLedger));
+    }
+
+    /**
+     * Puts this economy back into the state a snapshot from createSnapshot() was taken in
+     *
+     * @param snapshot The snapshot to restore, which isn't changed
+     */
+    void restoreSnapshot(EconomySnapshot snapshot) {
+        for (ItemType resourceType : sellableResourceTypes) {
+            setPrice(resourceType, snapshot.resourcePrices[resourceType.ordinal()]);
+        }
+        priceHistory.copyFrom(snapshot.priceHistory);
+        salesLedger.copyFrom(snapshot.salesLedger);
+    }
+
+    /**
+     * Gets the current price of one ResourceType, without allocating anything
+     *
+     * @param resourceType The type of resource to get the price of
+     * @return The price a player would get for selling one of that resource now, or 0 if it can't be sold
+     */
+    public int getPrice(ItemType resourceType) {
+        return resourcePrices[resourceType.ordinal()];
+    }
+
+    /**
+     * Works out what a resource will be worth after some turns of demand increasing, if nobody sells any of it in
+     *  the meantime. Prices rise by the same amount every turn until they reach their maximum, so this doesn't
+     *  need to step through the turns
+     *
+     * @param resourceType The type of resource to forecast the price of
+     * @param turnsFromNow How many more times demand will increase, 0 for the current price
+     * @return The price the resource will have, or 0 if this economy doesn't buy it
+     * @throws IllegalArgumentException If turnsFromNow is negative
+     */
+    public int getForecastPrice(ItemType resourceType, int turnsFromNow) {
+        if (turnsFromNow < 0) {
+            throw new IllegalArgumentException("Can't forecast " + turnsFromNow + " turns from now");
+        }
+
+        int currentPrice = resourcePrices[resourceType.ordinal()];
+        if (turnsFromNow == 0 || !isSellableByType[resourceType.ordinal()]) {
+            return currentPrice;
+        }
+        // A long so that a far off forecast doesn't overflow before being capped
+        long forecastPrice = currentPrice + ((long) turnsFromNow) * resourceType.getPriceIncreasePerTurn();
+        return (int) Math.min(forecastPrice, resourceType.getMaxPrice());
     }
 
     /**
-     * Gets a copy of the current prices for each ResourceType
+     * Works out what selling some items would earn right now, without selling them or changing any prices
+     *
+     * @param itemsToSell The items that would be sold, like a player's inventory
+     * @return The total price sellResources() would give for the items
+     */
+    public int quoteSale(List<InventoryItem> itemsToSell) {
+        return this.quoteSale(itemsToSell, 0);
+    }
+
+    /**
+     * Works out what selling some items would earn after some turns of demand increasing, if nobody sells
+     *  anything in the meantime. Every item of a type sells for the price before the sale, so this is the sum of
+     *  getForecastPrice() for each resource
+     *
+     * @param itemsToSell The items that would be sold, like a player's inventory
+     * @param turnsFromNow How many more times demand will increase before the sale, 0 for selling now
+     * @return The total price sellResources() would give for the items then
+     * @throws IllegalArgumentException If turnsFromNow is negative
+     */
+    public int quoteSale(List<InventoryItem> itemsToSell, int turnsFromNow) {
+        if (turnsFromNow < 0) {
+            throw new IllegalArgumentException("Can't quote a sale " + turnsFromNow + " turns from now");
+        }
+
+        int totalSellPrice = 0;
+        // Indexed rather than iterated, so quoting doesn't even allocate an Iterator
+        for (int i = 0; i < itemsToSell.size(); i++) {
+            ItemType itemType = itemsToSell.get(i).getItemType();
+            if (itemType.isResource()) {
+                totalSellPrice += getForecastPrice(itemType, turnsFromNow);
+            }
+        }
+        return totalSellPrice;
+    }
+
+    /**
+     * @return An unmodifiable list of every ResourceType this economy buys, in the order it was given them
+     */
+    public List<ItemType> getSellableResourceTypes() {
+        return sellableResourceTypeList;
+    }
+
+    /**
+     * Gets the prices of every resource at the start of each turn so far this game, and when each was last sold.
+     * The history is shared and updated as the game goes on, not copied
+     *
+     * @return This economy's PriceHistory
+     */
+    public PriceHistory getPriceHistory() {
+        return priceHistory;
+    }
+
+    /**
+     * Gets every sale made so far this game, and each player's totals for each resource.
+     * The ledger is shared and updated as the game goes on, not copied
+     *
+     * @return This economy's SalesLedger
+     */
+    public SalesLedger getSalesLedger() {
+        return salesLedger;
+    }
+
+    /**
+     * Gets a copy of the current prices for each ResourceType.
+     * This builds a new Map every call, so code that runs every turn should use getPrice() instead
      *
      * @return A Map from each ResourceType to its price
      */
     public Map<ItemType, Integer> getCurrentPrices() {
         // Nothing outside this class should be able to modify prices, need to make a copy
-        Map<ItemType, Integer> resourcePricesCopy = new HashMap<>();
-        for (ItemType resourceType : resourcePrices.keySet()) {
-            resourcePricesCopy.put(resourceType, resourcePrices.get(resourceType));
+        Map<ItemType, Integer> resourcePricesCopy = new EnumMap<>(ItemType.class);
+        for (ItemType resourceType : sellableResourceTypes) {
+            resourcePricesCopy.put(resourceType, resourcePrices[resourceType.ordinal()]);
         }
         return resourcePricesCopy;
     }
 
     /**
      * Increments the price for each ResourceType by its priceIncreasePerTurn value.
-     * Notifies any observers (like the GUI) that they should update every NUM_UPDATES_BEFORE_NOTIFY calls
+     * Publishes a PriceChangedEvent every NUM_INCREASES_BEFORE_PUBLISH calls if anything (like the GUI) is
+     *  listening for one
      */
     protected void increaseDemand() {
         for (ItemType resourceType : sellableResourceTypes) {
-            Integer currentPrice = resourcePrices.getOrDefault(resourceType, 0);
-            Integer nextPrice = currentPrice + resourceType.getPriceIncreasePerTurn();
+            int currentPrice = resourcePrices[resourceType.ordinal()];
+            int nextPrice = currentPrice + resourceType.getPriceIncreasePerTurn();
             if (nextPrice >= resourceType.getMaxPrice()) {
                 nextPrice = resourceType.getMaxPrice();
             }
-            resourcePrices.put(resourceType, nextPrice);
+            setPrice(resourceType, nextPrice);
         }
+        // Demand increases at the end of every turn, so these are the prices at the start of the next one
+        priceHistory.recordTurn(resourcePrices);
 
-        // Let any observers, like the GUI, know to update after this updates some number of times
-        this.updatesSinceLastNotify++;
-        if (this.updatesSinceLastNotify >= NUM_UPDATES_BEFORE_NOTIFY) {
-            this.notifyObservers();
+        // Let any listeners, like the GUI, know to update after this updates some number of times
+        increasesSinceLastPublish++;
+        if (increasesSinceLastPublish >= NUM_INCREASES_BEFORE_PUBLISH) {
+            publishPriceChange();
         }
     }
 
     /**
      * Calculates the total price for all InventoryItems in the passed in Collection.
      * Decreases the price for each resource according to newPrice = oldPrice * (1 - (numSold / 8)).
-     * Immediately notifies any observers (like the GUI) that they should update.
+     * Publishes a SaleEvent and a PriceChangedEvent if anything (like the GUI) is listening for them.
      *
      * @param itemsToSell The entire Collection of InventoryItems to be sold
      * @return The total price that all InventoryItems were sold for
      */
     protected int sellResources(Collection<InventoryItem> itemsToSell) {
+        return this.sellResources(itemsToSell, SalesLedger.NO_PLAYER);
+    }
+
+    /**
+     * Sells resources the same way as sellResources(Collection), recording the sale in the SalesLedger as made
+     *  by a player
+     *
+     * @param itemsToSell The entire Collection of InventoryItems to be sold
+     * @param player SalesLedger.RED_PLAYER, SalesLedger.BLUE_PLAYER, or SalesLedger.NO_PLAYER
+     * @return The total price that all InventoryItems were sold for
+     */
+    protected int sellResources(Collection<InventoryItem> itemsToSell, int player) {
         // Count the number of each resource type being sold
-        Map<ItemType, Integer> resourcesToNumSold = new HashMap<>();
+        Arrays.fill(numSoldByType, 0);
+        int numResourcesSold = 0;
         for (InventoryItem itemToSell : itemsToSell) {
             ItemType currentType = itemToSell.getItemType();
 
             if(currentType.isResource()) {
-                int numSold = resourcesToNumSold.getOrDefault(currentType, 0);
-                resourcesToNumSold.put(currentType, numSold + 1);
+                numSoldByType[currentType.ordinal()]++;
+                numResourcesSold++;
             }
         }
 
         // We now know how many of each type are being sold, need to calculate how much they are all worth
         int totalSellPrice = 0;
         for (ItemType sellableResourceType : sellableResourceTypes) {
-            int numSoldOfType = resourcesToNumSold.getOrDefault(sellableResourceType, 0);
-            int priceForResource = resourcePrices.getOrDefault(sellableResourceType, 0);
+            int numSoldOfType = numSoldByType[sellableResourceType.ordinal()];
+            int priceForResource = resourcePrices[sellableResourceType.ordinal()];
             totalSellPrice += numSoldOfType * priceForResource;
 
             // Supply has gone up, decrease the sell price according to oldPrice * (1 - (numSold / 8))
             int newResourcePrice = (int) (priceForResource * (1.0 - (numSoldOfType / 8.0)));
-            resourcePrices.put(sellableResourceType, newResourcePrice);
+            setPrice(sellableResourceType, newResourcePrice);
+
+            if (numSoldOfType > 0) {
+                priceHistory.recordSale(sellableResourceType);
+                salesLedger.recordSale(priceHistory.getLatestTurn(), player, sellableResourceType, numSoldOfType,
+                                       priceForResource, newResourcePrice);
+            }
         }
 
-        // Always notify observers on a sell
-        this.notifyObservers();
+        if (eventBus.hasListeners(SaleEvent.class)) {
+            eventBus.publish(new SaleEvent(numResourcesSold, totalSellPrice));
+        }
+        publishPriceChange();
         return totalSellPrice;
     }
 
-    @Override
-    public void notifyObservers() {
-        this.setChanged();
-        super.notifyObservers();
-        this.updatesSinceLastNotify = 0;
+    /**
+     * @return A 64-bit Zobrist hash of the price of every sellable resource, kept up to date as prices change
+     */
+    long getStateHash() {
+        return stateHash;
+    }
+
+    private void setPrice(ItemType resourceType, int newPrice) {
+        int oldPrice = resourcePrices[resourceType.ordinal()];
+        resourcePrices[resourceType.ordinal()] = newPrice;
+        stateHash ^= hashPrice(resourceType, oldPrice) ^ hashPrice(resourceType, newPrice);
+    }
+
+    private static long hashPrice(ItemType resourceType, int price) {
+        return ZobristHash.key(ZobristHash.RESOURCE_PRICE, resourceType.ordinal(), price);
+    }
+
+    private void publishPriceChange() {
+        increasesSinceLastPublish = 0;
+        // Copying the prices isn't free, so only do it if someone is listening
+        if (eventBus.hasListeners(PriceChangedEvent.class)) {
+            eventBus.publish(new PriceChangedEvent(getCurrentPrices()));
+        }
     }
 }
@@ -0,0 +1,18 @@
+package mineopoly_three.game;
+
+/**
+ * The prices of an Economy, the history of them, and the sales made so far this game. Like PlayerSnapshot, every field is private
+ *  to the game package and never modified after the snapshot is taken
+ */
+class EconomySnapshot {
+    // Indexed by the ordinal of each ItemType
+    final int[] resourcePrices;
+    final PriceHistory priceHistory;
+    final SalesLedger salesLedger;
+
+    EconomySnapshot(int[] resourcePrices, PriceHistory priceHistory, SalesLedger salesLedger) {
+        this.resourcePrices = resourcePrices;
+        this.priceHistory = priceHistory;
+        this.salesLedger = salesLedger;
+    }
+}
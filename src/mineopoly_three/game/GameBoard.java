@@ -1,11 +1,15 @@
 package mineopoly_three.game;
 
 import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.TileChangedEvent;
 import mineopoly_three.graphics.ImageManager;
 import mineopoly_three.item.InventoryItem;
 import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.BoardChange;
 import mineopoly_three.strategy.PlayerBoardView;
 import mineopoly_three.tiles.*;
+import mineopoly_three.util.GridIndex;
 
 import java.awt.*;
 import java.util.*;
@@ -15,42 +19,104 @@ public class GameBoard {
 
     /**How much longer it takes an autominer to mine a resource compared to a player*/
     public static final int AUTOMINER_MULTIPLIER = 4;
+    private static final int NUM_ITEM_TYPES = ItemType.values().length;
 
     private Tile[][] board;
     private Point redStartLocation;
     private Point blueStartLocation;
 
-    // A map of tile locations affected by an autominer to the number of turns they have been mined
-    private Map<Point, Integer> autominerTiles;
+    // The tiles whose Tile.update() does something this turn, by tile index, kept up to date by activityTracker
+    private BitSet activeTiles;
+    private final TileActivityListener activityTracker = this::updateTileActivity;
+    // The tiles with an autominer on them, by tile index, kept up to date as autominers are placed and picked up
+    private BitSet autominerLocations;
+    // The number of turns each tile has been mined by autominers, by tile index
+    private int[] autominerTurnsMined;
 
     // Variables to pre-compute things about the board and change them quickly on the fly
     private TileType[][] tileView;
-    private Map<Point, List<InventoryItem>> itemsOnGround;
-
+    // A copy of tileView given to every view until a tile changes type, or null if it needs copying again
+    private TileType[][] tileViewSnapshot;
+    // What PlayerBoardViews show as on the ground at each tile, by tile index. The lists are unmodifiable and
+    //  replaced rather than changed, so snapshots of this array can share them
+    private List<InventoryItem>[] itemsOnGround;
+    // Given to every view until something on the ground changes, or null if it needs building again
+    private ItemsOnGroundSnapshot itemsOnGroundSnapshot;
+    // The tiles of each TileType and with each ItemType on the ground, so views can find the nearest ones quickly.
+    //  Views get copies of both, made along with the tile view and items snapshots
+    private GridIndex tileTypeIndex;
+    private GridIndex tileTypeIndexSnapshot;
+    private GridIndex itemsOnGroundIndex;
+    private GridIndex itemsOnGroundIndexSnapshot;
+    // The index of every tile whose type or items on the ground changed, in the order they changed
+    private int[] changedTiles;
+    private int numChanges;
+    // The part of stateHash each tile makes up, by tile index, so a tile's part can be swapped out when it changes
+    private long[] tileHashes;
+    private long stateHash;
+
+    private GameEventBus eventBus;
+
+    @SuppressWarnings("unchecked")
     public GameBoard(Tile[][] tiles) {
         board = tiles;
+        eventBus = new GameEventBus();
 
-        autominerTiles = new HashMap<>();
+        activeTiles = new BitSet(board.length * board.length);
+        autominerLocations = new BitSet(board.length * board.length);
+        autominerTurnsMined = new int[board.length * board.length];
+        changedTiles = new int[board.length * board.length];
+        tileHashes = new long[board.length * board.length];
 
         // Pre-compute the intensive variables to give to a PlayerBoardView
-        itemsOnGround = new HashMap<>();
+        itemsOnGround = (List<InventoryItem>[]) new List<?>[board.length * board.length];
         tileView = new TileType[board.length][board.length];
+        tileTypeIndex = new GridIndex(board.length, TileType.values().length);
+        itemsOnGroundIndex = new GridIndex(board.length, NUM_ITEM_TYPES);
         for (int i = 0; i < tileView.length; i++) {
             for (int j = 0; j < tileView[i].length; j++) {
-                tileView[i][j] = board[i][j].getType();
+                setTileView(i, j, board[i][j].getType());
+                trackTileActivity(i * board.length + j, board[i][j]);
+                autominerLocations.set(i * board.length + j, hasAutominer(board[i][j].getItemsOnTile()));
+
+                setItemsOnGround(i * board.length + j, copyItemsOnGround(board[i][j].getItemsOnTile()));
+            }
+        }
+        rehashAllTiles();
+    }
+
+    /**
+     * Creates a board of the specified size covered in nothing but empty tiles
+     *
+     * @param boardSize The width and height of the board
+     */
+    GameBoard(int boardSize) {
+        this(createEmptyTiles(boardSize));
+    }
 
-                Point itemLocation = board[i][j].getLocation();
-                Point itemLocationCopy = new Point(itemLocation.x, itemLocation.y);
-                List<InventoryItem> items = new ArrayList<>(board[i][j].getItemsOnTile());
-                itemsOnGround.put(itemLocationCopy, items);
+    private static Tile[][] createEmptyTiles(int boardSize) {
+        Tile[][] emptyTiles = new Tile[boardSize][boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                emptyTiles[i][j] = new EmptyTile(new Point(j, (boardSize - 1) - i));
             }
         }
+        return emptyTiles;
     }
 
     public int getSize() {
         return board.length;
     }
 
+    /**
+     * Sets the GameEventBus that tile change events are published to
+     *
+     * @param eventBus The bus shared with the rest of the game
+     */
+    protected void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
     public Point getRedStartTileLocation() {
         return redStartLocation;
     }
@@ -68,7 +134,322 @@ public class GameBoard {
     }
 
     public void trackItemsOnPoint(Point pointWithItem, List<InventoryItem> itemsOnPoint) {
-        itemsOnGround.put(pointWithItem, new ArrayList<>(itemsOnPoint));
+        if (!isValidLocation(pointWithItem)) {
+            return;
+        }
+        // Most interactions don't change what is on the ground, and then the current snapshot can be kept
+        int tileIndex = getTileIndex(pointWithItem.x, pointWithItem.y);
+        if (!itemsOnGround[tileIndex].equals(itemsOnPoint)) {
+            setItemsOnGround(tileIndex, copyItemsOnGround(itemsOnPoint));
+            recordChange(tileIndex);
+        }
+
+        // Players placing and picking up autominers always report the tile's items here afterwards
+        trackAutominerOnPoint(pointWithItem, itemsOnPoint);
+    }
+
+    /**
+     * Records whether there is an autominer at a point, so update() only has to visit tiles near autominers, and
+     *  updates the state hash for the tile's items. Anything that puts an autominer on a tile or takes one off
+     *  without going through trackItemsOnPoint(), like the WorldGenerator, must call this
+     *
+     * @param point The location of the tile whose items changed
+     * @param itemsOnPoint All of the items now on that tile
+     */
+    void trackAutominerOnPoint(Point point, List<InventoryItem> itemsOnPoint) {
+        if (isValidLocation(point)) {
+            int tileIndex = getTileIndex(point.x, point.y);
+            autominerLocations.set(tileIndex, hasAutominer(itemsOnPoint));
+            updateTileHash(tileIndex);
+        }
+    }
+
+    /**
+     * Gets a 64-bit Zobrist hash of everything on this board: the kind of every tile, how far each resource tile
+     *  has been mined, the items on every tile and what players can see of them, and how long autominers have
+     *  been mining each tile. Boards in the same state always have the same hash, and boards in different states
+     *  almost never do. Players are not included, see MinePlayer.getStateHash()
+     *
+     * @return The hash, which is kept up to date as the board changes rather than computed when asked for
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    /**
+     * Swaps the part of the state hash for one tile with its part for the tile's current state
+     */
+    private void updateTileHash(int tileIndex) {
+        Tile tile = board[tileIndex / board.length][tileIndex % board.length];
+        long tileHash = ZobristHash.hashTile(tileIndex, tile)
+                        ^ ZobristHash.hashItems(ZobristHash.ITEMS_ON_TILE, tileIndex, tile.getItemsOnTile())
+                        ^ ZobristHash.hashItems(ZobristHash.ITEMS_ON_GROUND, tileIndex, itemsOnGround[tileIndex]);
+        if (autominerTurnsMined[tileIndex] > 0) {
+            tileHash ^= ZobristHash.key(ZobristHash.AUTOMINER_TURNS_MINED, tileIndex, autominerTurnsMined[tileIndex]);
+        }
+
+        stateHash ^= tileHashes[tileIndex] ^ tileHash;
+        tileHashes[tileIndex] = tileHash;
+    }
+
+    private void rehashAllTiles() {
+        stateHash = 0;
+        Arrays.fill(tileHashes, 0);
+        for (int tileIndex = 0; tileIndex < tileHashes.length; tileIndex++) {
+            updateTileHash(tileIndex);
+        }
+    }
+
+    /**
+     * Changes the type of tile views show at board[i][j], keeping the tile type index up to date
+     */
+    private void setTileView(int i, int j, TileType tileType) {
+        TileType oldTileType = tileView[i][j];
+        int x = j;
+        int y = (board.length - 1) - i;
+        if (oldTileType != null) {
+            tileTypeIndex.set(x, y, oldTileType.ordinal(), false);
+        }
+        tileView[i][j] = tileType;
+        tileTypeIndex.set(x, y, tileType.ordinal(), true);
+        tileViewSnapshot = null;
+    }
+
+    /**
+     * Changes the items views show on the ground at a tile, keeping the items index up to date
+     *
+     * @param tileIndex The index of the tile
+     * @param visibleItems An unmodifiable list of the items now shown on the ground there
+     */
+    private void setItemsOnGround(int tileIndex, List<InventoryItem> visibleItems) {
+        itemsOnGround[tileIndex] = visibleItems;
+        itemsOnGroundSnapshot = null;
+
+        int x = tileIndex % board.length;
+        int y = (board.length - 1) - (tileIndex / board.length);
+        for (int itemOrdinal = 0; itemOrdinal < NUM_ITEM_TYPES; itemOrdinal++) {
+            itemsOnGroundIndex.set(x, y, itemOrdinal, false);
+        }
+        for (InventoryItem item : visibleItems) {
+            itemsOnGroundIndex.set(x, y, item.getItemType().ordinal(), true);
+        }
+    }
+
+    private void recordChange(int tileIndex) {
+        if (numChanges == changedTiles.length) {
+            changedTiles = Arrays.copyOf(changedTiles, numChanges * 2);
+        }
+        changedTiles[numChanges++] = tileIndex;
+    }
+
+    /**
+     * @return How many changes players could see have been made to this board, to pass to getChangesSince() later
+     */
+    int getNumChanges() {
+        return numChanges;
+    }
+
+    /**
+     * Gets what every tile that changed since an earlier point in the game looks like now
+     *
+     * @param firstChange What getNumChanges() returned at that point
+     * @return One BoardChange for each tile whose type or items on the ground changed, in the order each tile
+     *          first changed
+     */
+    List<BoardChange> getChangesSince(int firstChange) {
+        if (firstChange >= numChanges) {
+            return Collections.emptyList();
+        }
+
+        List<BoardChange> changes = new ArrayList<>();
+        BitSet tilesAdded = new BitSet(board.length * board.length);
+        for (int change = firstChange; change < numChanges; change++) {
+            int tileIndex = changedTiles[change];
+            if (!tilesAdded.get(tileIndex)) {
+                tilesAdded.set(tileIndex);
+                Point location = new Point(tileIndex % board.length, (board.length - 1) - (tileIndex / board.length));
+                TileType tileType = tileView[tileIndex / board.length][tileIndex % board.length];
+                changes.add(new BoardChange(location, tileType, itemsOnGround[tileIndex]));
+            }
+        }
+        return Collections.unmodifiableList(changes);
+    }
+
+    private static List<InventoryItem> copyItemsOnGround(List<InventoryItem> items) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(items));
+    }
+
+    private static boolean hasAutominer(List<InventoryItem> items) {
+        for (InventoryItem item : items) {
+            if (item.getItemType() == ItemType.AUTOMINER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts listening to a tile that was just put on the board, and records whether it needs updating
+     *
+     * @param tileIndex The index of the tile's location on the board
+     * @param tile The Tile now at that location
+     */
+    private void trackTileActivity(int tileIndex, Tile tile) {
+        tile.setActivityListener(activityTracker);
+        activeTiles.set(tileIndex, tile.needsUpdate());
+    }
+
+    private void updateTileActivity(Tile tile) {
+        Point location = tile.getLocation();
+        // Tiles that were replaced this turn may still tell us about their player leaving
+        if (isValidLocation(location) && getTileAtLocation(location) == tile) {
+            activeTiles.set(getTileIndex(location.x, location.y), tile.needsUpdate());
+        }
+    }
+
+    /**
+     * @return The index of the tile at (x, y), counting row by row in the order tiles are stored in the board array
+     */
+    private int getTileIndex(int x, int y) {
+        return ((board.length - 1) - y) * board.length + x;
+    }
+
+    /**
+     * Clears this board back to nothing but empty tiles so a new world can be generated on it, reusing as much
+     *  of the existing board as possible. Tiles that are already plain EmptyTiles are kept, and all of the
+     *  pre-computed arrays and lists are cleared instead of being allocated again
+     */
+    void resetToEmptyTiles() {
+        for (int i = 0; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                Tile oldTile = board[i][j];
+                Tile emptyTile;
+                if (oldTile.getClass() == EmptyTile.class) {
+                    emptyTile = oldTile;
+                    emptyTile.getItemsOnTile().clear();
+                    if (emptyTile.getPlayerOnTile() != null) {
+                        emptyTile.onExit(emptyTile.getPlayerOnTile());
+                    }
+                } else {
+                    // Tile locations are never modified, so the new tile can share the old tile's Point
+                    emptyTile = new EmptyTile(oldTile.getLocation());
+                }
+
+                board[i][j] = emptyTile;
+                setTileView(i, j, emptyTile.getType());
+                trackTileActivity(i * board.length + j, emptyTile);
+            }
+        }
+
+        autominerLocations.clear();
+        Arrays.fill(autominerTurnsMined, 0);
+        Arrays.fill(itemsOnGround, Collections.<InventoryItem>emptyList());
+        itemsOnGroundIndex.clear();
+        itemsOnGroundSnapshot = null;
+        numChanges = 0;
+        redStartLocation = null;
+        blueStartLocation = null;
+        rehashAllTiles();
+    }
+
+    /**
+     * Packs the entire state of this board into a BoardSnapshot, which later changes to the board won't affect.
+     * Players on tiles are not included, they are restored along with the players themselves
+     *
+     * @return A snapshot of every tile, the items on them, and the autominer progress on this board
+     */
+    BoardSnapshot createSnapshot() {
+        int boardSize = board.length;
+        int numTiles = boardSize * boardSize;
+        byte[] tileCodes = new byte[numTiles];
+        byte[] timesMined = new byte[numTiles];
+        byte[][] itemsOnTiles = new byte[numTiles][];
+        byte[][] itemsOnGroundCodes = new byte[numTiles][];
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                int tileIndex = i * boardSize + j;
+                Tile tile = board[i][j];
+                tileCodes[tileIndex] = BoardSnapshot.encodeTile(tile);
+                if (tile instanceof ResourceTile) {
+                    timesMined[tileIndex] = (byte) ((ResourceTile) tile).getNumTimesMined();
+                }
+                itemsOnTiles[tileIndex] = BoardSnapshot.encodeItems(tile.getItemsOnTile());
+
+                itemsOnGroundCodes[tileIndex] = BoardSnapshot.encodeItems(itemsOnGround[tileIndex]);
+            }
+        }
+
+        // Only a few tiles are ever mined by autominers, so only store those
+        int numMinedTiles = 0;
+        for (int turnsMined : autominerTurnsMined) {
+            if (turnsMined > 0) {
+                numMinedTiles++;
+            }
+        }
+        int[] minedTileIndices = new int[numMinedTiles];
+        int[] minedTileTurns = new int[numMinedTiles];
+        int minedTileNumber = 0;
+        for (int tileIndex = 0; tileIndex < numTiles; tileIndex++) {
+            if (autominerTurnsMined[tileIndex] > 0) {
+                minedTileIndices[minedTileNumber] = tileIndex;
+                minedTileTurns[minedTileNumber] = autominerTurnsMined[tileIndex];
+                minedTileNumber++;
+            }
+        }
+
+        int redStartIndex = (redStartLocation == null) ? -1 : BoardSnapshot.toIndex(redStartLocation, boardSize);
+        int blueStartIndex = (blueStartLocation == null) ? -1 : BoardSnapshot.toIndex(blueStartLocation, boardSize);
+        return new BoardSnapshot(boardSize, tileCodes, timesMined, itemsOnTiles, itemsOnGroundCodes,
+                                 redStartIndex, blueStartIndex, minedTileIndices, minedTileTurns);
+    }
+
+    /**
+     * Replaces every tile on this board with the tiles from a snapshot of a board the same size, reusing the
+     *  pre-computed arrays and lists. No tile is entered or exited, so players must be put back on their tiles
+     *  separately
+     *
+     * @param snapshot A snapshot taken from a board the same size as this one
+     */
+    void restoreSnapshot(BoardSnapshot snapshot) {
+        int boardSize = board.length;
+        if (snapshot.boardSize != boardSize) {
+            throw new IllegalArgumentException("Cannot restore a board of size " + snapshot.boardSize
+                                               + " onto a board of size " + boardSize);
+        }
+
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                int tileIndex = i * boardSize + j;
+                // Tile locations are never modified, so the restored tile can share the old tile's Point
+                Point location = board[i][j].getLocation();
+                Tile tile = BoardSnapshot.decodeTile(snapshot.tileCodes[tileIndex], snapshot.timesMined[tileIndex],
+                                                     location);
+                BoardSnapshot.decodeItems(snapshot.itemsOnTiles[tileIndex], tile.getItemsOnTile());
+                board[i][j] = tile;
+                setTileView(i, j, tile.getType());
+                trackTileActivity(tileIndex, tile);
+                autominerLocations.set(tileIndex, hasAutominer(tile.getItemsOnTile()));
+
+                List<InventoryItem> visibleItems = BoardSnapshot.decodeItems(snapshot.itemsOnGround[tileIndex]);
+                setItemsOnGround(tileIndex, copyItemsOnGround(visibleItems));
+            }
+        }
+
+        itemsOnGroundSnapshot = null;
+        numChanges = 0;
+        Arrays.fill(autominerTurnsMined, 0);
+        for (int i = 0; i < snapshot.autominerTileIndices.length; i++) {
+            autominerTurnsMined[snapshot.autominerTileIndices[i]] = snapshot.autominerTurnsMined[i];
+        }
+        rehashAllTiles();
+
+        redStartLocation = (snapshot.redStartIndex < 0) ? null
+                                                        : BoardSnapshot.toLocation(snapshot.redStartIndex, boardSize);
+        blueStartLocation = (snapshot.blueStartIndex < 0) ? null
+                                                          : BoardSnapshot.toLocation(snapshot.blueStartIndex, boardSize);
     }
 
     /**
@@ -118,7 +499,20 @@ public class GameBoard {
                 playerOnTile.setCurrentTile(newTile);
             }
             board[(board.length - 1) - y][x] = newTile;
-            tileView[(board.length - 1) - y][x] = newTile.getType();
+            if (tileView[(board.length - 1) - y][x] != newTile.getType()) {
+                setTileView((board.length - 1) - y, x, newTile.getType());
+                recordChange(getTileIndex(x, y));
+            }
+            if (newTile != oldTile) {
+                oldTile.setActivityListener(null);
+            }
+            trackTileActivity(getTileIndex(x, y), newTile);
+            updateTileHash(getTileIndex(x, y));
+
+            // The autominer update sets every tile it touches, even ones that didn't change
+            if (newTile != oldTile && eventBus.hasListeners(TileChangedEvent.class)) {
+                eventBus.publish(new TileChangedEvent(newTile.getLocation(), newTile.getType()));
+            }
         }
     }
 
@@ -139,49 +533,47 @@ public class GameBoard {
      * Called every turn for the board to update its internal state
      */
     public void update() {
-
-        List<Point> autominers = new ArrayList<>();
-
-        for (int i = 0; i < board.length; i++) {
-            for (int j = 0; j < board.length; j++) {
-                Tile currentTile = board[i][j];
-                currentTile.update();
-
-                if(currentTile.getItemsOnTile().stream().anyMatch(x -> x.getItemType() == ItemType.AUTOMINER)) {
-                    autominers.add(currentTile.getLocation());
-                }
-            }
+        // Only tiles that do something when updated are visited, like recharge tiles with a player on them
+        for (int tileIndex = activeTiles.nextSetBit(0); tileIndex >= 0;
+             tileIndex = activeTiles.nextSetBit(tileIndex + 1)) {
+            board[tileIndex / board.length][tileIndex % board.length].update();
         }
 
-        // All tiles that are affected by at least one autominer
-        List<Point> affectedTiles = new ArrayList<>();
-
-        for(Point miner : autominers) {
-            affectedTiles.add(new Point(miner.x, miner.y));
-            if(miner.x > 0) affectedTiles.add(new Point(miner.x - 1, miner.y));
-            if(miner.x < board.length - 1) affectedTiles.add(new Point(miner.x + 1, miner.y));
-            if(miner.y > 0) affectedTiles.add(new Point(miner.x, miner.y - 1));
-            if(miner.y < board.length - 1) affectedTiles.add(new Point(miner.x, miner.y + 1));
+        // Autominers mine their own tile and the 4 tiles next to them. Going through them in tile index order
+        //  visits them in the same order as scanning the whole board would
+        for (int tileIndex = autominerLocations.nextSetBit(0); tileIndex >= 0;
+             tileIndex = autominerLocations.nextSetBit(tileIndex + 1)) {
+            int x = tileIndex % board.length;
+            int y = (board.length - 1) - (tileIndex / board.length);
+
+            mineWithAutominer(x, y);
+            if (x > 0) mineWithAutominer(x - 1, y);
+            if (x < board.length - 1) mineWithAutominer(x + 1, y);
+            if (y > 0) mineWithAutominer(x, y - 1);
+            if (y < board.length - 1) mineWithAutominer(x, y + 1);
         }
+    }
 
-        for(Point p : affectedTiles) {
-            int turnsMined = autominerTiles.getOrDefault(p, 0);
-
-            Tile tile = getTileAtLocation(p);
-
-            if(tile instanceof EmptyTile) {
+    /**
+     * Mines the tile at (x, y) for one turn of one autominer. A tile next to several autominers is mined once for
+     *  each of them
+     */
+    private void mineWithAutominer(int x, int y) {
+        int tileIndex = getTileIndex(x, y);
+        int turnsMined = autominerTurnsMined[tileIndex];
+
+        Tile tile = getTileAtLocation(x, y);
+        if (tile instanceof EmptyTile) {
+            tile = tile.interact(null, TurnAction.MINE);
+        } else if (turnsMined > 0 && tile instanceof ResourceTile) {
+            if (turnsMined % AUTOMINER_MULTIPLIER == 0) {
                 tile = tile.interact(null, TurnAction.MINE);
-            } else if(turnsMined > 0 && tile instanceof ResourceTile) {
-                if(turnsMined % AUTOMINER_MULTIPLIER == 0) {
-                    tile = tile.interact(null, TurnAction.MINE);
-                }
             }
-
-            setTileAtTileLocation(tile);
-
-            autominerTiles.put(p, turnsMined + 1);
         }
 
+        // Counted before the tile is set so the state hash only has to be updated once
+        autominerTurnsMined[tileIndex] = turnsMined + 1;
+        setTileAtTileLocation(tile);
     }
 
     /**
@@ -196,7 +588,8 @@ public class GameBoard {
     public PlayerBoardView convertToView(MinePlayer playerReceivingView, MinePlayer otherPlayer) {
         Point otherPlayerLocation = otherPlayer.getCurrentTile().getLocation();
         int otherPlayerScore = otherPlayer.getScore();
-        return this.convertToView(playerReceivingView, otherPlayerLocation, otherPlayerScore);
+        long viewStateHash = stateHash ^ playerReceivingView.getStateHash() ^ otherPlayer.getStateHash();
+        return this.convertToView(playerReceivingView, otherPlayerLocation, otherPlayerScore, viewStateHash);
     }
 
     /**
@@ -207,24 +600,41 @@ public class GameBoard {
      * @param otherPlayerLocation The opposing player's location
      * @param otherPlayerScore The opposing player's current score
      * @return A PlayerBoardView that contains all the information about this GameBoard for this turn which a
-     *          player strategy is allowed to know
+     *          player strategy is allowed to know. Only the other player's location is known, so the view's state
+     *          hash only covers this board and the player receiving the view
      */
     public PlayerBoardView convertToView(MinePlayer playerReceivingView, Point otherPlayerLocation,
                                          int otherPlayerScore) {
-        // Because we're passing around references, we don't want one strategy to change what the other sees
-        //  so we need to be careful and make copies of data being passed by reference
-        Map<Point, List<InventoryItem>> itemsOnGroundCopy = new HashMap<>();
-        for (Point pointWithItem : itemsOnGround.keySet()) {
-            Point pointCopy = new Point(pointWithItem.x, pointWithItem.y);
-            itemsOnGroundCopy.put(pointCopy, new ArrayList<>(itemsOnGround.get(pointWithItem)));
+        long viewStateHash = stateHash ^ playerReceivingView.getStateHash();
+        return this.convertToView(playerReceivingView, otherPlayerLocation, otherPlayerScore, viewStateHash);
+    }
+
+    private PlayerBoardView convertToView(MinePlayer playerReceivingView, Point otherPlayerLocation,
+                                          int otherPlayerScore, long viewStateHash) {
+        // Because we're passing around references, we don't want one strategy to change what the other sees.
+        //  The snapshot can't be modified at all, so both players share it until something on the ground changes,
+        //  and building a new one only copies references to the per-tile lists
+        if (itemsOnGroundSnapshot == null) {
+            itemsOnGroundSnapshot = new ItemsOnGroundSnapshot(board.length, itemsOnGround.clone());
+            itemsOnGroundIndexSnapshot = new GridIndex(itemsOnGroundIndex);
+        }
+        // Views must not change once made either, even for a strategy still running after the board moved on.
+        //  Tiles only change type when mined out, so the copy is shared by many turns of views
+        if (tileViewSnapshot == null) {
+            tileViewSnapshot = new TileType[board.length][];
+            for (int i = 0; i < board.length; i++) {
+                tileViewSnapshot[i] = tileView[i].clone();
+            }
+            tileTypeIndexSnapshot = new GridIndex(tileTypeIndex);
         }
 
         // Make copies of these locations so they may not be modified by a strategy
         Point playerLocation = playerReceivingView.getCurrentTile().getLocation();
         Point playerLocationCopy = new Point(playerLocation.x, playerLocation.y);
         Point otherLocationCopy = new Point(otherPlayerLocation.x, otherPlayerLocation.y);
-        // We don't need to copy tileView because it is never given to the strategy by reference
-        return new PlayerBoardView(tileView, itemsOnGroundCopy, playerLocationCopy, otherLocationCopy, otherPlayerScore);
+        return new PlayerBoardView(tileViewSnapshot, itemsOnGroundSnapshot, tileTypeIndexSnapshot,
+                                   itemsOnGroundIndexSnapshot, playerLocationCopy, otherLocationCopy,
+                                   otherPlayerScore, viewStateHash);
     }
 
     /**
@@ -2,29 +2,82 @@ package mineopoly_three.game;
 
 import mineopoly_three.action.Action;
 import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.TurnCompletedEvent;
+import mineopoly_three.game.StrategyWatchdog.StrategyDecision;
 import mineopoly_three.item.ItemType;
+import mineopoly_three.metrics.EngineMetrics;
+import mineopoly_three.metrics.EnginePhase;
 import mineopoly_three.replay.Replay;
+import mineopoly_three.strategy.BoardChange;
+import mineopoly_three.strategy.IncrementalMinePlayerStrategy;
 import mineopoly_three.strategy.MinePlayerStrategy;
 import mineopoly_three.strategy.PlayerBoardView;
 import mineopoly_three.tiles.Tile;
+import mineopoly_three.util.SeedStream;
 
 import java.awt.Point;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Observable;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @SuppressWarnings("unused")
-public class GameEngine extends Observable {
+public class GameEngine {
     private static final int MAX_TURNS_PER_GAME = 1000;
     private static final double TURNS_PER_SECOND = 20;
 
+    // Which seeds derived from the game's seed go to each random number generator with PlayerSeeding.DERIVED.
+    //  The world itself always uses the game seed
+    private static final int RED_PLAYER_SEED_STREAM = 1;
+    private static final int BLUE_PLAYER_SEED_STREAM = 2;
+    private static final int RED_STRATEGY_SEED_STREAM = 3;
+    private static final int BLUE_STRATEGY_SEED_STREAM = 4;
+
+    private static final ItemType[] RESOURCE_TYPES =
+            Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new);
+
     private long randomSeed;
+    private WorldGenerator worldGenerator;
+    // Set here rather than in the constructors, since setupEngineForGame() needs it for the first board
+    private ResourcePlacement resourcePlacement = ResourcePlacement.REJECTION_SAMPLING;
     private GameBoard board;
     private MinePlayer redPlayer;
     private MinePlayer bluePlayer;
     private Economy economy;
     private boolean guiEnabled;
     private int minScoreToWin;
+    private int turnNumber;
+    private boolean isRedTurn;
+    // True once the strategies have been initialized, so runGame() continues a restored game instead of starting over
+    private boolean gameStarted;
+    // GameBoard.getNumChanges() as of each player's last turn, to tell incremental strategies what changed since
+    private int redNumBoardChangesSeen;
+    private int blueNumBoardChangesSeen;
+
+    // Shared by the board and economy, so anything watching the game (like the GUI) only subscribes in one place
+    private final GameEventBus eventBus = new GameEventBus();
+
+    // Each strategy gets its own random number generator, reseeded instead of reallocated between games
+    private RestorableRandom redStrategyRandom;
+    private RestorableRandom blueStrategyRandom;
+
+    // Optional limits on how long a strategy may take to choose a TurnAction, 0 means no limit
+    private long turnTimeLimitMillis;
+    private long timeBankMillis;
+    private TurnTimeoutPolicy turnTimeoutPolicy;
+    // Each player gets its own watchdog, so both strategies can be deciding at once with TurnOrder.SIMULTANEOUS
+    private StrategyWatchdog redStrategyWatchdog;
+    private StrategyWatchdog blueStrategyWatchdog;
+    private TurnOrder turnOrder;
+    private PlayerSeeding playerSeeding;
+
+    // Timings for each phase of a turn in the current game, or null if metrics are disabled
+    private EngineMetrics metrics;
 
     // Variables to greatly simplify exception flow logic
     private MinePlayer playerWhoThrewException;
@@ -40,43 +93,238 @@ public class GameEngine extends Observable {
 
         Tile redStartTile = board.getTileAtLocation(board.getRedStartTileLocation());
         Tile blueStartTile = board.getTileAtLocation(board.getBlueStartTileLocation());
-        this.redPlayer = new MinePlayer(redPlayerStrategy, redStartTile, economy, randomSeed, true);
-        this.bluePlayer = new MinePlayer(bluePlayerStrategy, blueStartTile, economy, randomSeed, false);
+        this.playerSeeding = PlayerSeeding.DERIVED;
+        this.redPlayer = new MinePlayer(redPlayerStrategy, redStartTile, economy,
+                                        getPlayerSeed(RED_PLAYER_SEED_STREAM), true);
+        this.bluePlayer = new MinePlayer(bluePlayerStrategy, blueStartTile, economy,
+                                         getPlayerSeed(BLUE_PLAYER_SEED_STREAM), false);
+        this.redStrategyRandom = new RestorableRandom(getPlayerSeed(RED_STRATEGY_SEED_STREAM));
+        this.blueStrategyRandom = new RestorableRandom(getPlayerSeed(BLUE_STRATEGY_SEED_STREAM));
+        this.guiEnabled = false;
+        this.turnTimeoutPolicy = TurnTimeoutPolicy.SKIP_TURN;
+        this.redStrategyWatchdog = new StrategyWatchdog();
+        this.blueStrategyWatchdog = new StrategyWatchdog();
+        this.turnOrder = TurnOrder.SEQUENTIAL;
+    }
+
+    /**
+     * Creates an engine that continues the game a snapshot was taken from. See GameSnapshot.restore()
+     *
+     * @param snapshot The snapshot of the game to continue
+     * @param redPlayerStrategy The strategy for the red player from the snapshot on
+     * @param bluePlayerStrategy The strategy for the blue player from the snapshot on
+     */
+    public GameEngine(GameSnapshot snapshot, MinePlayerStrategy redPlayerStrategy,
+                      MinePlayerStrategy bluePlayerStrategy) {
+        this.worldGenerator = new WorldGenerator(snapshot.getRandomSeed());
+        this.board = new GameBoard(snapshot.getBoardSize());
+        this.economy = new Economy(RESOURCE_TYPES);
+        board.setEventBus(eventBus);
+        economy.setEventBus(eventBus);
+
+        // Where the players start doesn't matter, restoring the snapshot moves them to the right tiles
+        Tile anyTile = board.getTileAtLocation(0, 0);
+        this.redPlayer = new MinePlayer(redPlayerStrategy, anyTile, economy, 0, true);
+        this.bluePlayer = new MinePlayer(bluePlayerStrategy, anyTile, economy, 0, false);
+        this.redStrategyRandom = new RestorableRandom(0);
+        this.blueStrategyRandom = new RestorableRandom(0);
+        this.playerSeeding = PlayerSeeding.DERIVED;
         this.guiEnabled = false;
+        this.turnTimeoutPolicy = TurnTimeoutPolicy.SKIP_TURN;
+        this.redStrategyWatchdog = new StrategyWatchdog();
+        this.blueStrategyWatchdog = new StrategyWatchdog();
+        this.turnOrder = TurnOrder.SEQUENTIAL;
+        this.restoreSnapshot(snapshot, redPlayerStrategy, bluePlayerStrategy);
     }
 
     private void setupEngineForGame(int boardSize, long randomSeed) {
         this.randomSeed = randomSeed;
-        WorldGenerator worldGenerator = new WorldGenerator(randomSeed);
-        this.board = worldGenerator.generateBoard(boardSize);
-        this.economy = new Economy(Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new));
+        if (board != null && board.getSize() == boardSize) {
+            // Same size as the last game, so generate the new world in place instead of allocating everything again
+            worldGenerator.setSeed(randomSeed);
+            worldGenerator.regenerateBoard(board);
+            economy.resetPrices();
+        } else {
+            this.worldGenerator = new WorldGenerator(randomSeed);
+            worldGenerator.setResourcePlacement(resourcePlacement);
+            this.board = worldGenerator.generateBoard(boardSize);
+            this.economy = new Economy(RESOURCE_TYPES);
+            board.setEventBus(eventBus);
+            economy.setEventBus(eventBus);
+        }
         this.minScoreToWin = 30 * boardSize * boardSize;
+        this.turnNumber = 0;
+        this.isRedTurn = true;
+        this.gameStarted = false;
+        if (metrics != null) {
+            metrics.reset();
+        }
 
         this.playerWhoThrewException = null;
         this.exceptionThrown = null;
     }
 
     /**
-     * Allows the same GameEngine object to be used for multiple games
+     * Allows the same GameEngine object to be used for multiple games. If the board size does not change,
+     *  the board, economy, and players from the last game are re-initialized in place rather than allocated again,
+     *  so running many games on one engine creates very little garbage
      *
      * @param newBoardSize The size of the new game board to be generated
      * @param newSeed The new random seed value for world generation and the strategies to use
      * @param swapPlayers If true, the last red player will be the next blue player and vice versa
      */
     public void reset(int newBoardSize, long newSeed, boolean swapPlayers) {
-        this.setupEngineForGame(newBoardSize, newSeed);
-
         MinePlayerStrategy redPlayerStrategy = this.redPlayer.getStrategy();
         MinePlayerStrategy bluePlayerStrategy = this.bluePlayer.getStrategy();
+        if (swapPlayers) {
+            // Each watchdog knows whether its strategy is still running a call that timed out, so they swap too
+            StrategyWatchdog redWatchdog = this.redStrategyWatchdog;
+            this.redStrategyWatchdog = this.blueStrategyWatchdog;
+            this.blueStrategyWatchdog = redWatchdog;
+            this.reset(newBoardSize, newSeed, bluePlayerStrategy, redPlayerStrategy);
+        } else {
+            this.reset(newBoardSize, newSeed, redPlayerStrategy, bluePlayerStrategy);
+        }
+    }
+
+    /**
+     * Allows the same GameEngine object to be used for multiple games with different strategy objects.
+     * See reset(int, long, boolean) for what gets reused between games
+     *
+     * @param newBoardSize The size of the new game board to be generated
+     * @param newSeed The new random seed value for world generation and the strategies to use
+     * @param redPlayerStrategy The strategy for the red player in the next game
+     * @param bluePlayerStrategy The strategy for the blue player in the next game
+     */
+    public void reset(int newBoardSize, long newSeed, MinePlayerStrategy redPlayerStrategy,
+                      MinePlayerStrategy bluePlayerStrategy) {
+        this.setupEngineForGame(newBoardSize, newSeed);
+
         Tile redStartTile = board.getTileAtLocation(board.getRedStartTileLocation());
         Tile blueStartTile = board.getTileAtLocation(board.getBlueStartTileLocation());
-        if (swapPlayers) {
-            this.redPlayer = new MinePlayer(bluePlayerStrategy, redStartTile, economy, randomSeed, true);
-            this.bluePlayer = new MinePlayer(redPlayerStrategy, blueStartTile, economy, randomSeed, false);
+        long redPlayerSeed = getPlayerSeed(RED_PLAYER_SEED_STREAM);
+        long bluePlayerSeed = getPlayerSeed(BLUE_PLAYER_SEED_STREAM);
+        if (redPlayer.getEconomy() == economy) {
+            redPlayer.reset(redPlayerStrategy, redStartTile, redPlayerSeed);
+            bluePlayer.reset(bluePlayerStrategy, blueStartTile, bluePlayerSeed);
         } else {
-            this.redPlayer = new MinePlayer(redPlayerStrategy, redStartTile, economy, randomSeed, true);
-            this.bluePlayer = new MinePlayer(bluePlayerStrategy, blueStartTile, economy, randomSeed, false);
+            // The economy was replaced along with the board, so the players need to be replaced too
+            this.redPlayer = new MinePlayer(redPlayerStrategy, redStartTile, economy, redPlayerSeed, true);
+            this.bluePlayer = new MinePlayer(bluePlayerStrategy, blueStartTile, economy, bluePlayerSeed, false);
+        }
+        redStrategyRandom.setSeed(getPlayerSeed(RED_STRATEGY_SEED_STREAM));
+        blueStrategyRandom.setSeed(getPlayerSeed(BLUE_STRATEGY_SEED_STREAM));
+    }
+
+    /**
+     * Chooses how the random number generators of the players and their strategies are seeded from the game's
+     *  seed. The generators are seeded again straight away, so this must be called before runGame(), and the
+     *  choice carries over to games started by reset()
+     *
+     * @param playerSeeding How to seed the generators, DERIVED by default. Replays recorded before replay files
+     *                       had a version need SHARED_GAME_SEED
+     */
+    public void setPlayerSeeding(PlayerSeeding playerSeeding) {
+        if (playerSeeding == null) {
+            throw new IllegalArgumentException("A PlayerSeeding is needed to seed the random number generators");
         }
+        this.playerSeeding = playerSeeding;
+        redPlayer.getRandomNumberGenerator().setSeed(getPlayerSeed(RED_PLAYER_SEED_STREAM));
+        bluePlayer.getRandomNumberGenerator().setSeed(getPlayerSeed(BLUE_PLAYER_SEED_STREAM));
+        redStrategyRandom.setSeed(getPlayerSeed(RED_STRATEGY_SEED_STREAM));
+        blueStrategyRandom.setSeed(getPlayerSeed(BLUE_STRATEGY_SEED_STREAM));
+    }
+
+    public PlayerSeeding getPlayerSeeding() {
+        return playerSeeding;
+    }
+
+    /**
+     * Chooses how resources are placed on the boards this engine generates. If the choice changes, the current
+     *  board is generated again from the same seed with the players back on their start tiles, so this must be
+     *  called before runGame(). The choice carries over to games started by reset().
+     * Replays don't record the placement, so games meant to be replayed should keep REJECTION_SAMPLING
+     *
+     * @param resourcePlacement How to pick the tiles resources spawn on, REJECTION_SAMPLING by default
+     */
+    public void setResourcePlacement(ResourcePlacement resourcePlacement) {
+        if (resourcePlacement == null) {
+            throw new IllegalArgumentException("A ResourcePlacement is needed to generate boards");
+        }
+        if (resourcePlacement == this.resourcePlacement) {
+            return;
+        }
+        this.resourcePlacement = resourcePlacement;
+        worldGenerator.setResourcePlacement(resourcePlacement);
+        this.reset(board.getSize(), randomSeed, redPlayer.getStrategy(), bluePlayer.getStrategy());
+    }
+
+    public ResourcePlacement getResourcePlacement() {
+        return resourcePlacement;
+    }
+
+    /**
+     * @param seedStream Which of the RED_PLAYER, BLUE_PLAYER, RED_STRATEGY, and BLUE_STRATEGY seed streams to use
+     * @return The seed for that random number generator in the current game
+     */
+    private long getPlayerSeed(int seedStream) {
+        if (playerSeeding == PlayerSeeding.SHARED_GAME_SEED) {
+            return randomSeed;
+        }
+        return SeedStream.deriveSeed(randomSeed, seedStream);
+    }
+
+    /**
+     * Copies the entire state of the game into an immutable GameSnapshot. This should only be called between turns,
+     *  see GameSnapshot for when that is
+     *
+     * @return A GameSnapshot that later changes to this engine won't affect
+     */
+    public GameSnapshot createSnapshot() {
+        int boardSize = board.getSize();
+        return new GameSnapshot(randomSeed, turnNumber, isRedTurn, gameStarted, board.createSnapshot(),
+                                economy.createSnapshot(), redPlayer.createSnapshot(boardSize),
+                                bluePlayer.createSnapshot(boardSize), redStrategyRandom.getState(),
+                                blueStrategyRandom.getState());
+    }
+
+    /**
+     * Puts this engine into the state a snapshot was taken in, so the next runGame() continues from there.
+     * Like reset(), the board, economy, and players are reused in place if the board size matches
+     *
+     * @param snapshot The snapshot to restore
+     * @param redPlayerStrategy The strategy for the red player from the snapshot on
+     * @param bluePlayerStrategy The strategy for the blue player from the snapshot on
+     */
+    public void restoreSnapshot(GameSnapshot snapshot, MinePlayerStrategy redPlayerStrategy,
+                                MinePlayerStrategy bluePlayerStrategy) {
+        int boardSize = snapshot.getBoardSize();
+        if (board.getSize() != boardSize) {
+            this.board = new GameBoard(boardSize);
+            board.setEventBus(eventBus);
+        }
+        board.restoreSnapshot(snapshot.getBoard());
+        economy.restoreSnapshot(snapshot.getEconomy());
+
+        this.randomSeed = snapshot.getRandomSeed();
+        this.minScoreToWin = 30 * boardSize * boardSize;
+        this.turnNumber = snapshot.getTurnNumber();
+        this.isRedTurn = snapshot.isRedTurn();
+        this.gameStarted = snapshot.isGameStarted();
+        this.playerWhoThrewException = null;
+        this.exceptionThrown = null;
+        if (metrics != null) {
+            metrics.reset();
+        }
+
+        PlayerSnapshot redSnapshot = snapshot.getRedPlayer();
+        PlayerSnapshot blueSnapshot = snapshot.getBluePlayer();
+        Tile redTile = board.getTileAtLocation(BoardSnapshot.toLocation(redSnapshot.tileIndex, boardSize));
+        Tile blueTile = board.getTileAtLocation(BoardSnapshot.toLocation(blueSnapshot.tileIndex, boardSize));
+        redPlayer.restoreSnapshot(redSnapshot, redPlayerStrategy, redTile);
+        bluePlayer.restoreSnapshot(blueSnapshot, bluePlayerStrategy, blueTile);
+        redStrategyRandom.setState(snapshot.getRedStrategyRandomState());
+        blueStrategyRandom.setState(snapshot.getBlueStrategyRandomState());
     }
 
     public GameBoard getBoard() {
@@ -95,6 +343,32 @@ public class GameEngine extends Observable {
         return economy;
     }
 
+    /**
+     * Gets the bus that turn, tile, sale, and price events for this engine's games are published to.
+     * Listeners stay subscribed across calls to reset()
+     *
+     * @return The GameEventBus for this engine
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Gets a 64-bit Zobrist hash of the whole game state: the board, both players, resource prices, and which
+     *  player moves first next turn. Games that could play out the same way from here have the same hash, so the
+     *  turn number and time banks are left out. Nothing is recomputed, each part is kept up to date as it changes
+     *
+     * @return The hash of the current game state
+     */
+    public long getStateHash() {
+        long stateHash = board.getStateHash() ^ redPlayer.getStateHash() ^ bluePlayer.getStateHash()
+                         ^ economy.getStateHash();
+        if (isRedTurn) {
+            stateHash ^= ZobristHash.key(ZobristHash.RED_TURN, 0, 0);
+        }
+        return stateHash;
+    }
+
     public int getRedPlayerScore() {
         return redPlayer.getScore();
     }
@@ -124,17 +398,102 @@ public class GameEngine extends Observable {
         this.guiEnabled = guiEnabled;
     }
 
+    /**
+     * Limits how long each strategy may take in getTurnAction(). When a limit is set, strategies are called on
+     *  a supervised worker thread, and a strategy that takes too long is handled according to the TurnTimeoutPolicy.
+     * The time bank works like a chess clock: time a strategy spends over the per-turn limit is taken out of its
+     *  bank, and a strategy only runs out of time once the turn limit and its whole bank are used up
+     *
+     * @param turnTimeLimitMillis The time each strategy gets every turn in milliseconds, or 0 for no per-turn limit
+     * @param timeBankMillis The extra time each strategy may use over the whole game in milliseconds, or 0 for none
+     * @param turnTimeoutPolicy What to do when a strategy runs out of time
+     * @throws IllegalArgumentException If either time is negative or there is no TurnTimeoutPolicy
+     */
+    public void setTurnTimeLimit(long turnTimeLimitMillis, long timeBankMillis, TurnTimeoutPolicy turnTimeoutPolicy) {
+        if (turnTimeLimitMillis < 0 || timeBankMillis < 0) {
+            throw new IllegalArgumentException("The turn time limit and time bank cannot be negative");
+        }
+        if (turnTimeoutPolicy == null) {
+            throw new IllegalArgumentException("A TurnTimeoutPolicy is needed for strategies that run out of time");
+        }
+        this.turnTimeLimitMillis = turnTimeLimitMillis;
+        this.timeBankMillis = timeBankMillis;
+        this.turnTimeoutPolicy = turnTimeoutPolicy;
+    }
+
+    public long getTurnTimeLimitMillis() {
+        return turnTimeLimitMillis;
+    }
+
+    public long getTimeBankMillis() {
+        return timeBankMillis;
+    }
+
+    public TurnTimeoutPolicy getTurnTimeoutPolicy() {
+        return turnTimeoutPolicy;
+    }
+
+    /**
+     * Chooses whether strategies decide one after the other each turn, or both at once from the same view of the
+     *  board. Either way the actions are performed in the same order, so replays play back the same in both
+     *
+     * @param turnOrder How to ask the strategies for their TurnActions, SEQUENTIAL by default
+     */
+    public void setTurnOrder(TurnOrder turnOrder) {
+        this.turnOrder = turnOrder;
+    }
+
+    public TurnOrder getTurnOrder() {
+        return turnOrder;
+    }
+
+    /**
+     * Turns on recording how long each phase of every turn takes, such as building PlayerBoardViews, each
+     *  strategy's getTurnAction(), and updating the board. Metrics cover the current game and are cleared by reset()
+     *
+     * @param metricsEnabled True to record phase timings, false to stop recording them
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        if (!metricsEnabled) {
+            this.metrics = null;
+        } else if (this.metrics == null) {
+            this.metrics = new EngineMetrics();
+        }
+    }
+
+    public boolean isMetricsEnabled() {
+        return metrics != null;
+    }
+
+    /**
+     * @return The phase timings recorded for the current game, or null if metrics are not enabled
+     */
+    public EngineMetrics getMetrics() {
+        return metrics;
+    }
+
+    private boolean isTurnTimerEnabled() {
+        return turnTimeLimitMillis > 0 || timeBankMillis > 0;
+    }
+
     public Replay getReplay() {
         boolean redThrewException = (playerWhoThrewException == redPlayer);
         boolean blueThrewException = (playerWhoThrewException == bluePlayer);
-        return new Replay(board.getSize(), randomSeed, redPlayer.getAllTurnActions(), bluePlayer.getAllTurnActions(),
-                          redThrewException, blueThrewException);
+        // Copy the action lists, since the players clear them in place if this engine is reset for another game
+        List<TurnAction> redActions = new ArrayList<>(redPlayer.getAllTurnActions());
+        List<TurnAction> blueActions = new ArrayList<>(bluePlayer.getAllTurnActions());
+        BitSet redTimedOutTurns = (BitSet) redPlayer.getTimedOutTurns().clone();
+        BitSet blueTimedOutTurns = (BitSet) bluePlayer.getTimedOutTurns().clone();
+        return new Replay(board.getSize(), randomSeed, redActions, blueActions, redThrewException, blueThrewException,
+                          redTimedOutTurns, blueTimedOutTurns, playerSeeding);
     }
 
     /**
      * Runs through a round of Mine-opoly until either the maximum number of turns is reached
      *  or a player achieves the score needed to win. If either player strategy throws an exception at any time,
-     *  that strategy will receive a score of -1 and the game will end
+     *  that strategy will receive a score of -1 and the game will end. The same happens if a strategy runs out of
+     *  time while the TurnTimeoutPolicy is FORFEIT. A strategy that ran out of time is not called again until it
+     *  returns from the call that ran out of time, every turn until then counts as another turn it ran out of time
      */
     public void runGame() {
         // Wait a few seconds at the start for graphical components to load
@@ -149,21 +508,32 @@ public class GameEngine extends Observable {
             this.exceptionThrown = e;
 
             // Let anything watching update
-            setChanged();
-            notifyObservers();
+            publishTurnCompleted(true);
             e.printStackTrace();
+        } finally {
+            redStrategyWatchdog.shutdown();
+            blueStrategyWatchdog.shutdown();
         }
     }
 
     private void runGameLoop() {
-        initializePlayer(redPlayer, true);
-        initializePlayer(bluePlayer, false);
+        if (gameStarted) {
+            // Continuing a game restored from a snapshot, the new strategies start from where the players are now
+            resumePlayer(redPlayer, bluePlayer, true);
+            resumePlayer(bluePlayer, redPlayer, false);
+        } else {
+            initializePlayer(redPlayer, true);
+            initializePlayer(bluePlayer, false);
+            redPlayer.setTimeBankNanos(TimeUnit.MILLISECONDS.toNanos(timeBankMillis));
+            bluePlayer.setTimeBankNanos(TimeUnit.MILLISECONDS.toNanos(timeBankMillis));
+            turnNumber = 0;
+            isRedTurn = true;
+            gameStarted = true;
+        }
 
-        int turnNumber = 0;
-        boolean isRedTurn = true;
         MinePlayer firstPlayer;
         MinePlayer secondPlayer;
-        boolean roundHasWinner = false;
+        boolean roundHasWinner = (redPlayer.getScore() >= minScoreToWin) || (bluePlayer.getScore() >= minScoreToWin);
 
         while (turnNumber < MAX_TURNS_PER_GAME && !roundHasWinner) {
             delayBetweenGuiFrames((long) (1000 / TURNS_PER_SECOND));
@@ -176,29 +546,44 @@ public class GameEngine extends Observable {
                 secondPlayer = redPlayer;
             }
 
-            processTurn(firstPlayer, secondPlayer, isRedTurn);
-            processTurn(secondPlayer, firstPlayer, isRedTurn);
+            if (turnOrder == TurnOrder.SIMULTANEOUS) {
+                processSimultaneousTurn(firstPlayer, secondPlayer, isRedTurn);
+            } else {
+                processTurn(firstPlayer, secondPlayer, isRedTurn);
+                processTurn(secondPlayer, firstPlayer, isRedTurn);
+            }
 
+            long updateStartTime = startTiming();
             board.update();
+            recordTiming(EnginePhase.BOARD_UPDATE, updateStartTime);
 
             firstPlayer.setCurrentTile(board.getTileAtLocation(firstPlayer.getCurrentTile().getLocation()));
             secondPlayer.setCurrentTile(board.getTileAtLocation(secondPlayer.getCurrentTile().getLocation()));
 
+            long demandStartTime = startTiming();
             economy.increaseDemand();
+            recordTiming(EnginePhase.INCREASE_DEMAND, demandStartTime);
 
             isRedTurn = !isRedTurn;
             turnNumber++;
             roundHasWinner = (redPlayer.getScore() >= minScoreToWin) || (bluePlayer.getScore() >= minScoreToWin);
-            // The state of the engine has changed, let anything observing it (like the GUI) know
-            this.setChanged();
-            this.notifyObservers();
+            // The state of the engine has changed, let anything watching it (like the GUI) know
+            publishTurnCompleted(false);
         }
 
         endRound();
+        publishTurnCompleted(true);
+    }
+
+    private void publishTurnCompleted(boolean gameOver) {
+        if (eventBus.hasListeners(TurnCompletedEvent.class)) {
+            eventBus.publish(new TurnCompletedEvent(turnNumber, redPlayer.getScore(), bluePlayer.getScore(), gameOver));
+        }
     }
 
     private void initializePlayer(MinePlayer playerToInitialize, boolean isRedPlayer) {
         playerWhoThrewException = playerToInitialize; // If an exception gets thrown, we know who did it
+        checkStrategyNotStillRunning(playerToInitialize);
 
         int boardSize = board.getSize();
         int maxInventorySize = MinePlayer.MAX_ITEMS;
@@ -219,36 +604,312 @@ public class GameEngine extends Observable {
 
         // Get the initial view of the board and finally initialize the strategy
         PlayerBoardView startingBoard = board.convertToView(playerToInitialize, opponentStartTile, 0);
+        Random strategyRandom = isRedPlayer ? redStrategyRandom : blueStrategyRandom;
         playerToInitialize.getStrategy().initialize(boardSize, maxInventorySize, maxCharge, minScoreToWin,
-                                                    startingBoard, playerStartCopy, isRedPlayer, new Random(randomSeed));
+                                                    startingBoard, playerStartCopy, isRedPlayer, strategyRandom);
         board.getTileAtLocation(startTileLocation).onEnter(playerToInitialize);
+        setNumBoardChangesSeen(playerToInitialize, board.getNumChanges());
+    }
+
+    private void resumePlayer(MinePlayer playerToResume, MinePlayer otherPlayer, boolean isRedPlayer) {
+        playerWhoThrewException = playerToResume; // If an exception gets thrown, we know who did it
+        checkStrategyNotStillRunning(playerToResume);
+
+        // The strategy sees the board as it is now, and the player is already standing on its tile
+        Point playerLocation = playerToResume.getCurrentTile().getLocation();
+        Point playerLocationCopy = new Point(playerLocation.x, playerLocation.y);
+        PlayerBoardView currentBoard = board.convertToView(playerToResume, otherPlayer);
+        Random strategyRandom = isRedPlayer ? redStrategyRandom : blueStrategyRandom;
+        playerToResume.getStrategy().initialize(board.getSize(), MinePlayer.MAX_ITEMS, MinePlayer.MAX_ENERGY,
+                                                minScoreToWin, currentBoard, playerLocationCopy, isRedPlayer,
+                                                strategyRandom);
+        setNumBoardChangesSeen(playerToResume, board.getNumChanges());
+    }
+
+    private void setNumBoardChangesSeen(MinePlayer player, int numBoardChangesSeen) {
+        if (player.isRedPlayer()) {
+            redNumBoardChangesSeen = numBoardChangesSeen;
+        } else {
+            blueNumBoardChangesSeen = numBoardChangesSeen;
+        }
+    }
+
+    /**
+     * Gets the tiles that changed since the player's strategy was last given its changes. These only count as seen
+     *  once the strategy has been called with them, so a strategy that misses turns, like one still running a turn
+     *  it ran out of time on, hears about every change it missed on its next call
+     *
+     * @return The tiles that changed if the player's strategy wants them, otherwise null
+     */
+    private List<BoardChange> collectBoardChanges(MinePlayer currentPlayer) {
+        if (!(currentPlayer.getStrategy() instanceof IncrementalMinePlayerStrategy)) {
+            return null;
+        }
+        int numBoardChangesSeen = currentPlayer.isRedPlayer() ? redNumBoardChangesSeen : blueNumBoardChangesSeen;
+        return board.getChangesSince(numBoardChangesSeen);
+    }
+
+    /**
+     * Records that the player's strategy was called with the changes from collectBoardChanges(). Nothing may change
+     *  the board in between
+     */
+    private void markBoardChangesSeen(MinePlayer currentPlayer) {
+        setNumBoardChangesSeen(currentPlayer, board.getNumChanges());
     }
 
     private void processTurn(MinePlayer currentPlayer, MinePlayer otherPlayer, boolean isRedTurn) {
         playerWhoThrewException = currentPlayer; // If an exception gets thrown, we know who did it
 
         // Ask the player what they want to do
+        long viewStartTime = startTiming();
         PlayerBoardView boardView = board.convertToView(currentPlayer, otherPlayer);
-        MinePlayerStrategy playerStrategy = currentPlayer.getStrategy();
-        int robotCharge = currentPlayer.getCurrentEnergy();
-        TurnAction playerAction = playerStrategy.getTurnAction(boardView, economy, robotCharge, isRedTurn);
+        List<BoardChange> boardChanges = collectBoardChanges(currentPlayer);
+        recordTiming(EnginePhase.CONVERT_TO_VIEW, viewStartTime);
+
+        TurnAction playerAction;
+        EnginePhase strategyPhase = currentPlayer.isRedPlayer() ? EnginePhase.RED_GET_TURN_ACTION
+                                                                : EnginePhase.BLUE_GET_TURN_ACTION;
+        long strategyStartTime = startTiming();
+        try {
+            playerAction = requestTurnAction(currentPlayer, boardView, boardChanges, isRedTurn);
+        } catch (TimeoutException e) {
+            handleTurnTimeout(currentPlayer);
+            return;
+        } finally {
+            recordTiming(strategyPhase, strategyStartTime);
+        }
         currentPlayer.addTurnAction(playerAction);
+        performTurnAction(currentPlayer, playerAction);
+    }
+
+    /**
+     * Plays one turn with both strategies deciding at once from views made before either player acts, then
+     *  performs their actions with the player with priority first. See TurnOrder.SIMULTANEOUS
+     */
+    private void processSimultaneousTurn(MinePlayer firstPlayer, MinePlayer secondPlayer, boolean isRedTurn) {
+        // Each view is timed on its own, so CONVERT_TO_VIEW counts one view per player per turn in every turn order
+        long viewStartTime = startTiming();
+        PlayerBoardView firstBoardView = board.convertToView(firstPlayer, secondPlayer);
+        List<BoardChange> firstBoardChanges = collectBoardChanges(firstPlayer);
+        recordTiming(EnginePhase.CONVERT_TO_VIEW, viewStartTime);
+        viewStartTime = startTiming();
+        PlayerBoardView secondBoardView = board.convertToView(secondPlayer, firstPlayer);
+        List<BoardChange> secondBoardChanges = collectBoardChanges(secondPlayer);
+        recordTiming(EnginePhase.CONVERT_TO_VIEW, viewStartTime);
+
+        // The views never change once made, and the economy isn't changed until both strategies have decided.
+        //  Only a strategy still running past its deadline can see the economy change while it decides
+        long decisionStartTime = System.nanoTime();
+        Future<StrategyDecision> firstPendingDecision = requestSimultaneousTurnAction(firstPlayer, firstBoardView,
+                                                                                    firstBoardChanges, isRedTurn);
+        Future<StrategyDecision> secondPendingDecision = requestSimultaneousTurnAction(secondPlayer, secondBoardView,
+                                                                                     secondBoardChanges, isRedTurn);
+        TurnAction firstAction;
+        try {
+            firstAction = awaitSimultaneousTurnAction(firstPlayer, firstPendingDecision, decisionStartTime);
+        } catch (RuntimeException | Error e) {
+            // The game ends here, so don't leave the other strategy deciding on a turn that won't be played
+            if (secondPendingDecision != null) {
+                secondPendingDecision.cancel(true);
+            }
+            throw e;
+        }
+        TurnAction secondAction = awaitSimultaneousTurnAction(secondPlayer, secondPendingDecision, decisionStartTime);
+
+        playerWhoThrewException = firstPlayer;
+        performTurnAction(firstPlayer, firstAction);
+        playerWhoThrewException = secondPlayer;
+        performTurnAction(secondPlayer, secondAction);
+    }
+
+    /**
+     * Starts a player's strategy deciding for TurnOrder.SIMULTANEOUS on the player's watchdog
+     *
+     * @return The pending decision, or null if the strategy is still running a call that ran out of time or has no
+     *          time left to decide in
+     */
+    private Future<StrategyDecision> requestSimultaneousTurnAction(MinePlayer currentPlayer,
+                                                                   PlayerBoardView boardView,
+                                                                   List<BoardChange> boardChanges,
+                                                                   boolean isRedTurn) {
+        StrategyWatchdog strategyWatchdog = getStrategyWatchdog(currentPlayer);
+        if (strategyWatchdog.isStillRunning(currentPlayer.getStrategy())) {
+            return null;
+        }
+        if (isTurnTimerEnabled()
+            && TimeUnit.MILLISECONDS.toNanos(turnTimeLimitMillis) + currentPlayer.getTimeBankNanos() <= 0) {
+            // Starting the call only to abandon it straight away would leave the strategy in an unknown state
+            return null;
+        }
+        return strategyWatchdog.requestTurnAction(currentPlayer.getStrategy(), boardView, boardChanges, economy,
+                                                  currentPlayer.getCurrentEnergy(), isRedTurn);
+    }
+
+    /**
+     * Waits for a TurnAction requested for TurnOrder.SIMULTANEOUS and records it for the player. Each player is only
+     *  charged for the time its own strategy took, even though the engine waits for both
+     *
+     * @return The TurnAction to perform for the player, or null if there is nothing to perform
+     */
+    private TurnAction awaitSimultaneousTurnAction(MinePlayer currentPlayer, Future<StrategyDecision> pendingDecision,
+                                                   long decisionStartTime) {
+        playerWhoThrewException = currentPlayer; // If an exception gets thrown, we know who did it
+        if (pendingDecision == null) {
+            // The strategy wasn't asked, so it didn't take any time this turn
+            handleTurnTimeout(currentPlayer);
+            return null;
+        }
+
+        StrategyWatchdog strategyWatchdog = getStrategyWatchdog(currentPlayer);
+        long timeAllowedNanos = Long.MAX_VALUE;
+        if (isTurnTimerEnabled()) {
+            // The strategy has been deciding for as long as the engine has been waiting on either strategy
+            long timeAlreadyTakenNanos = System.nanoTime() - decisionStartTime;
+            timeAllowedNanos = TimeUnit.MILLISECONDS.toNanos(turnTimeLimitMillis) + currentPlayer.getTimeBankNanos()
+                               - timeAlreadyTakenNanos;
+        }
+
+        StrategyDecision decision = null;
+        try {
+            decision = strategyWatchdog.awaitTurnAction(pendingDecision, timeAllowedNanos);
+        } catch (TimeoutException e) {
+            // Handled below, once the time taken has been charged
+        }
+
+        if (strategyWatchdog.wasCalled(pendingDecision)) {
+            markBoardChangesSeen(currentPlayer);
+        }
+
+        boolean timedOut = (decision == null);
+        long timeTakenNanos = timedOut ? (System.nanoTime() - decisionStartTime) : decision.decisionNanos;
+        if (metrics != null) {
+            metrics.record(currentPlayer.isRedPlayer() ? EnginePhase.RED_GET_TURN_ACTION
+                                                       : EnginePhase.BLUE_GET_TURN_ACTION, timeTakenNanos);
+        }
+        if (isTurnTimerEnabled()) {
+            chargeTimeBank(currentPlayer, timeTakenNanos);
+        }
+
+        if (timedOut) {
+            handleTurnTimeout(currentPlayer);
+            return null;
+        }
+        currentPlayer.addTurnAction(decision.turnAction);
+        return decision.turnAction;
+    }
+
+    /**
+     * Records that a player's strategy ran out of time, so it either loses this turn or the whole game
+     */
+    private void handleTurnTimeout(MinePlayer currentPlayer) {
+        currentPlayer.markTurnTimedOut();
+        if (turnTimeoutPolicy == TurnTimeoutPolicy.FORFEIT) {
+            String playerColor = currentPlayer.isRedPlayer() ? "Red" : "Blue";
+            int turnIndex = currentPlayer.getAllTurnActions().size();
+            throw new TurnTimeoutException("The " + playerColor + " Player ran out of time on turn " + turnIndex);
+        }
+        currentPlayer.addTurnAction(null);
+    }
+
+    private void performTurnAction(MinePlayer currentPlayer, TurnAction playerAction) {
         if (playerAction == null) {
             return;
         }
 
         // Perform the player's selected action
+        long actionStartTime = startTiming();
         Action actionToPerform = playerAction.getActionToPerform();
         actionToPerform.performAction(board, currentPlayer, playerAction);
+        recordTiming(EnginePhase.PERFORM_ACTION, actionStartTime);
+    }
+
+    private long startTiming() {
+        // Reading the clock isn't free, so don't bother unless metrics are being recorded
+        return (metrics == null) ? 0 : System.nanoTime();
+    }
+
+    private void recordTiming(EnginePhase phase, long startTime) {
+        if (metrics != null) {
+            metrics.record(phase, System.nanoTime() - startTime);
+        }
+    }
+
+    private TurnAction requestTurnAction(MinePlayer currentPlayer, PlayerBoardView boardView,
+                                         List<BoardChange> boardChanges, boolean isRedTurn) throws TimeoutException {
+        MinePlayerStrategy playerStrategy = currentPlayer.getStrategy();
+        int robotCharge = currentPlayer.getCurrentEnergy();
+        if (getStrategyWatchdog(currentPlayer).isStillRunning(playerStrategy)) {
+            // Calling it again would have two threads inside the strategy at once, so this turn runs out of time too
+            throw new TimeoutException("The strategy has not returned from a turn it ran out of time on");
+        }
+        if (!isTurnTimerEnabled()) {
+            // No time limit, so there is no reason to pay for a separate thread
+            if (boardChanges != null) {
+                ((IncrementalMinePlayerStrategy) playerStrategy).onBoardChanges(boardChanges);
+                markBoardChangesSeen(currentPlayer);
+            }
+            return playerStrategy.getTurnAction(boardView, economy, robotCharge, isRedTurn);
+        }
+
+        long turnTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(turnTimeLimitMillis);
+        long timeAllowedNanos = turnTimeLimitNanos + currentPlayer.getTimeBankNanos();
+        if (timeAllowedNanos <= 0) {
+            // Starting the call only to abandon it straight away would leave the strategy in an unknown state
+            throw new TimeoutException("No time was left to call the strategy in");
+        }
+        StrategyWatchdog strategyWatchdog = getStrategyWatchdog(currentPlayer);
+        long startTime = System.nanoTime();
+        Future<StrategyDecision> pendingDecision = strategyWatchdog.requestTurnAction(playerStrategy, boardView,
+                                                                                      boardChanges, economy,
+                                                                                      robotCharge, isRedTurn);
+        try {
+            return strategyWatchdog.awaitTurnAction(pendingDecision, timeAllowedNanos).turnAction;
+        } finally {
+            chargeTimeBank(currentPlayer, System.nanoTime() - startTime);
+            if (strategyWatchdog.wasCalled(pendingDecision)) {
+                markBoardChangesSeen(currentPlayer);
+            }
+        }
+    }
+
+    /**
+     * Takes any time a strategy used past the per-turn limit out of its player's time bank
+     */
+    private void chargeTimeBank(MinePlayer currentPlayer, long timeTakenNanos) {
+        long timeOverLimitNanos = timeTakenNanos - TimeUnit.MILLISECONDS.toNanos(turnTimeLimitMillis);
+        if (timeOverLimitNanos > 0) {
+            currentPlayer.setTimeBankNanos(currentPlayer.getTimeBankNanos() - timeOverLimitNanos);
+        }
+    }
+
+    private StrategyWatchdog getStrategyWatchdog(MinePlayer player) {
+        return player.isRedPlayer() ? redStrategyWatchdog : blueStrategyWatchdog;
+    }
+
+    /**
+     * Makes a player forfeit if its strategy is still running a call from an earlier game that ran out of time,
+     *  rather than starting the strategy on a new game while it is still busy with the old one
+     */
+    private void checkStrategyNotStillRunning(MinePlayer player) {
+        if (getStrategyWatchdog(player).isStillRunning(player.getStrategy())) {
+            String playerColor = player.isRedPlayer() ? "Red" : "Blue";
+            throw new TurnTimeoutException("The " + playerColor + " Player has not returned from a turn it ran out "
+                                           + "of time on in an earlier game");
+        }
     }
 
     private void endRound() {
         int redPlayerScore = redPlayer.getScore();
         int bluePlayerScore = bluePlayer.getScore();
+        // A strategy still stuck in a turn that ran out of time isn't told the game ended, it's still busy
         playerWhoThrewException = redPlayer;
-        redPlayer.getStrategy().endRound(redPlayerScore, bluePlayerScore);
+        if (!redStrategyWatchdog.isStillRunning(redPlayer.getStrategy())) {
+            redPlayer.getStrategy().endRound(redPlayerScore, bluePlayerScore);
+        }
         playerWhoThrewException = bluePlayer;
-        bluePlayer.getStrategy().endRound(bluePlayerScore, redPlayerScore);
+        if (!blueStrategyWatchdog.isStillRunning(bluePlayer.getStrategy())) {
+            bluePlayer.getStrategy().endRound(bluePlayerScore, redPlayerScore);
+        }
         playerWhoThrewException = null;
     }
 
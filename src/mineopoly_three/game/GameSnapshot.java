@@ -0,0 +1,141 @@
+package mineopoly_three.game;
+
+import mineopoly_three.strategy.MinePlayerStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * An immutable copy of everything about a game in progress: every tile and the items on it, what the players'
+ *  views show on the ground, autominer progress, economy prices, the PriceHistory and SalesLedger so far, both
+ *  players' energy, inventory, score, and actions so far, and the state of every random number generator the game
+ *  uses.
+ *
+ * Strategies can't be copied, so a snapshot is always restored with new strategy objects. Those strategies have
+ *  initialize() called with the board as it is at the snapshot, then play on from the snapshot's turn. Because the
+ *  snapshot never changes, one snapshot can be restored or forked any number of times, on any thread.
+ *
+ * Take snapshots between turns, like before runGame(), after it, or from a TurnCompletedEvent listener
+ *  subscribed with GameEventBus.subscribe() so it runs on the game thread
+ */
+public class GameSnapshot {
+    private final long randomSeed;
+    private final int turnNumber;
+    private final boolean redTurn;
+    private final boolean gameStarted;
+    private final BoardSnapshot board;
+    private final EconomySnapshot economy;
+    private final PlayerSnapshot redPlayer;
+    private final PlayerSnapshot bluePlayer;
+    private final long redStrategyRandomState;
+    private final long blueStrategyRandomState;
+
+    GameSnapshot(long randomSeed, int turnNumber, boolean redTurn, boolean gameStarted, BoardSnapshot board,
+                 EconomySnapshot economy, PlayerSnapshot redPlayer, PlayerSnapshot bluePlayer,
+                 long redStrategyRandomState, long blueStrategyRandomState) {
+        this.randomSeed = randomSeed;
+        this.turnNumber = turnNumber;
+        this.redTurn = redTurn;
+        this.gameStarted = gameStarted;
+        this.board = board;
+        this.economy = economy;
+        this.redPlayer = redPlayer;
+        this.bluePlayer = bluePlayer;
+        this.redStrategyRandomState = redStrategyRandomState;
+        this.blueStrategyRandomState = blueStrategyRandomState;
+    }
+
+    public int getBoardSize() {
+        return board.boardSize;
+    }
+
+    /**
+     * @return The seed the game's world was generated from
+     */
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * @return The number of turns that had been completed when this snapshot was taken
+     */
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    /**
+     * @return True if red moves first on the next turn
+     */
+    public boolean isRedTurn() {
+        return redTurn;
+    }
+
+    /**
+     * @return True if the strategies had already been initialized, so restoring resumes play mid-game
+     */
+    public boolean isGameStarted() {
+        return gameStarted;
+    }
+
+    public int getRedPlayerScore() {
+        return redPlayer.score;
+    }
+
+    public int getBluePlayerScore() {
+        return bluePlayer.score;
+    }
+
+    /**
+     * Creates a new GameEngine that continues from this snapshot
+     *
+     * @param redPlayerStrategy The strategy for the red player from this point on
+     * @param bluePlayerStrategy The strategy for the blue player from this point on
+     * @return A GameEngine ready to have runGame() called on it
+     */
+    public GameEngine restore(MinePlayerStrategy redPlayerStrategy, MinePlayerStrategy bluePlayerStrategy) {
+        return new GameEngine(this, redPlayerStrategy, bluePlayerStrategy);
+    }
+
+    /**
+     * Creates several independent GameEngines that all continue from this snapshot, for trying out what happens
+     *  from the same position many times. Each copy gets its own new strategies from the factories
+     *
+     * @param numCopies The number of GameEngines to create
+     * @param redStrategyFactory Creates the red strategy for each copy
+     * @param blueStrategyFactory Creates the blue strategy for each copy
+     * @return A List of GameEngines that share nothing with each other
+     */
+    public List<GameEngine> fork(int numCopies, Supplier<MinePlayerStrategy> redStrategyFactory,
+                                 Supplier<MinePlayerStrategy> blueStrategyFactory) {
+        List<GameEngine> forkedGames = new ArrayList<>(numCopies);
+        for (int i = 0; i < numCopies; i++) {
+            forkedGames.add(restore(redStrategyFactory.get(), blueStrategyFactory.get()));
+        }
+        return forkedGames;
+    }
+
+    BoardSnapshot getBoard() {
+        return board;
+    }
+
+    EconomySnapshot getEconomy() {
+        return economy;
+    }
+
+    PlayerSnapshot getRedPlayer() {
+        return redPlayer;
+    }
+
+    PlayerSnapshot getBluePlayer() {
+        return bluePlayer;
+    }
+
+    long getRedStrategyRandomState() {
+        return redStrategyRandomState;
+    }
+
+    long getBlueStrategyRandomState() {
+        return blueStrategyRandomState;
+    }
+}
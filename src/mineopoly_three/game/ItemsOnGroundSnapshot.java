@@ -0,0 +1,103 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+
+import java.awt.Point;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The items PlayerBoardViews show on the ground at one moment, as a read-only map from every location on the
+ *  board to the items there. Both players' views share one of these for as long as nothing on the ground changes,
+ *  and a new one shares the lists of every tile that did not change with the one before it.
+ * Nothing in it can be modified: the lists are unmodifiable, and every Point handed out by iterating is a new
+ *  copy, so a strategy cannot change what the other strategy sees
+ */
+class ItemsOnGroundSnapshot extends AbstractMap<Point, List<InventoryItem>> {
+    private final int boardSize;
+    // One unmodifiable list per tile, numbered the same way GameBoard numbers its tiles
+    private final List<InventoryItem>[] itemsByTile;
+    private Set<Map.Entry<Point, List<InventoryItem>>> entrySet;
+
+    /**
+     * @param boardSize The width and height of the board
+     * @param itemsByTile Unmodifiable lists of the items on each tile, which is kept rather than copied so it
+     *                    must never be changed afterwards
+     */
+    ItemsOnGroundSnapshot(int boardSize, List<InventoryItem>[] itemsByTile) {
+        this.boardSize = boardSize;
+        this.itemsByTile = itemsByTile;
+    }
+
+    @Override
+    public List<InventoryItem> get(Object key) {
+        int tileIndex = getTileIndex(key);
+        return (tileIndex < 0) ? null : itemsByTile[tileIndex];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getTileIndex(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return itemsByTile.length;
+    }
+
+    @Override
+    public Set<Map.Entry<Point, List<InventoryItem>>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<Point, List<InventoryItem>>>() {
+                @Override
+                public Iterator<Map.Entry<Point, List<InventoryItem>>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return itemsByTile.length;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * @return The index of the tile at a Point, or -1 if the key isn't a Point on the board
+     */
+    private int getTileIndex(Object key) {
+        if (!(key instanceof Point)) {
+            return -1;
+        }
+        Point location = (Point) key;
+        if (location.x < 0 || location.x >= boardSize || location.y < 0 || location.y >= boardSize) {
+            return -1;
+        }
+        return ((boardSize - 1) - location.y) * boardSize + location.x;
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<Point, List<InventoryItem>>> {
+        private int nextTileIndex;
+
+        @Override
+        public boolean hasNext() {
+            return nextTileIndex < itemsByTile.length;
+        }
+
+        @Override
+        public Map.Entry<Point, List<InventoryItem>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int tileIndex = nextTileIndex++;
+            Point location = new Point(tileIndex % boardSize, (boardSize - 1) - (tileIndex / boardSize));
+            return new AbstractMap.SimpleImmutableEntry<>(location, itemsByTile[tileIndex]);
+        }
+    }
+}
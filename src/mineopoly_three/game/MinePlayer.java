@@ -34,31 +34,109 @@ public class MinePlayer {
     private List<TurnAction> actions;
     private Economy economy;
     private int currentEnergy;
-    private Random randomNumberGenerator;
+    private RestorableRandom randomNumberGenerator;
+    // Turns on which this player's strategy ran out of time, and how much extra thinking time it has left
+    private BitSet timedOutTurns;
+    private long timeBankNanos;
+    // Zobrist hash of this player's location, energy, score and inventory, and the part of it the inventory makes up
+    private long stateHash;
+    private long inventoryHash;
 
     protected MinePlayer(MinePlayerStrategy strategy, Tile startingTile, Economy economy,
                          long randomSeed, boolean isRedPlayer) {
-        this.strategy = strategy;
         this.inventory = new ArrayList<>(MAX_ITEMS);
-        this.currentTile = startingTile;
         this.isRedPlayer = isRedPlayer;
+        this.actions = new ArrayList<>();
+        this.economy = economy;
+        this.randomNumberGenerator = new RestorableRandom(randomSeed);
+        this.timedOutTurns = new BitSet();
+        this.reset(strategy, startingTile, randomSeed);
+    }
+
+    /**
+     * Puts this player back into its starting state so the same object can be used for another game.
+     * The inventory and action lists are cleared in place rather than allocated again
+     *
+     * @param strategy The strategy controlling this player for the next game
+     * @param startingTile The Tile this player starts the next game on
+     * @param randomSeed The new seed for this player's random number generator
+     */
+    protected void reset(MinePlayerStrategy strategy, Tile startingTile, long randomSeed) {
+        this.strategy = strategy;
+        this.inventory.clear();
+        this.currentTile = startingTile;
         this.score = 0;
         this.lastMove = TurnAction.MOVE_DOWN;
-        this.actions = new LinkedList<>();
-        this.economy = economy;
+        this.actions.clear();
         this.currentEnergy = MAX_ENERGY;
-        this.randomNumberGenerator = new Random(randomSeed);
+        this.randomNumberGenerator.setSeed(randomSeed);
+        this.timedOutTurns.clear();
+        this.timeBankNanos = 0;
+        this.rehash();
+    }
+
+    /**
+     * Packs everything about this player except its strategy into a PlayerSnapshot
+     *
+     * @param boardSize The size of the board this player is on, to number its current tile
+     * @return A snapshot that later changes to this player won't affect
+     */
+    PlayerSnapshot createSnapshot(int boardSize) {
+        byte[] actionCodes = new byte[actions.size()];
+        for (int i = 0; i < actionCodes.length; i++) {
+            TurnAction action = actions.get(i);
+            actionCodes[i] = (action == null) ? PlayerSnapshot.NO_ACTION : (byte) action.ordinal();
+        }
+
+        return new PlayerSnapshot(BoardSnapshot.toIndex(currentTile.getLocation(), boardSize), currentEnergy, score,
+                                  BoardSnapshot.encodeItems(inventory), (byte) lastMove.ordinal(), actionCodes,
+                                  timedOutTurns.toLongArray(), timeBankNanos, randomNumberGenerator.getState());
+    }
+
+    /**
+     * Puts this player back into the state recorded in a snapshot, standing on the given tile. The tile is not
+     *  entered, so restoring a player onto a market does not sell anything
+     *
+     * @param snapshot The state to restore
+     * @param strategy The strategy controlling this player from now on
+     * @param tile The restored Tile at the snapshot's location for this player
+     */
+    void restoreSnapshot(PlayerSnapshot snapshot, MinePlayerStrategy strategy, Tile tile) {
+        this.strategy = strategy;
+        this.currentTile = tile;
+        tile.restorePlayerOnTile(this);
+        this.currentEnergy = snapshot.energy;
+        this.score = snapshot.score;
+        this.inventory.clear();
+        BoardSnapshot.decodeItems(snapshot.inventory, inventory);
+        this.lastMove = TurnAction.values()[snapshot.lastMove];
+
+        TurnAction[] allTurnActions = TurnAction.values();
+        this.actions.clear();
+        for (byte actionCode : snapshot.actions) {
+            actions.add((actionCode == PlayerSnapshot.NO_ACTION) ? null : allTurnActions[actionCode]);
+        }
+        this.timedOutTurns.clear();
+        this.timedOutTurns.or(BitSet.valueOf(snapshot.timedOutTurns));
+        this.timeBankNanos = snapshot.timeBankNanos;
+        this.randomNumberGenerator.setState(snapshot.randomState);
+        this.rehash();
     }
 
     public MinePlayerStrategy getStrategy() {
         return strategy;
     }
 
+    protected Economy getEconomy() {
+        return economy;
+    }
+
     public Tile getCurrentTile() {
         return currentTile;
     }
 
     public void setCurrentTile(Tile newTile) {
+        stateHash ^= hashLocation(currentTile) ^ hashLocation(newTile);
         this.currentTile = newTile;
     }
 
@@ -81,15 +159,34 @@ public class MinePlayer {
         // Let the strategy know this player received an item
         strategy.onReceiveItem(itemToAdd);
         inventory.add(itemToAdd);
+        rehashInventory();
+        return true;
+    }
+
+    /**
+     * Takes an item out of the player's inventory. Anything removing items should go through here rather than
+     *  changing getInventory() directly, so the player's state hash stays up to date
+     *
+     * @param itemToRemove The item to be removed from the inventory
+     * @return True if the item was in the inventory and has been removed, false otherwise
+     */
+    public boolean removeItemFromInventory(InventoryItem itemToRemove) {
+        if (!inventory.remove(itemToRemove)) {
+            return false;
+        }
+        rehashInventory();
         return true;
     }
 
     public void sellItems() {
-        int totalItemSellPrice = economy.sellResources(inventory);
-        inventory.removeIf(x -> x.getItemType().isResource());
+        int ledgerPlayer = isRedPlayer ? SalesLedger.RED_PLAYER : SalesLedger.BLUE_PLAYER;
+        int totalItemSellPrice = economy.sellResources(inventory, ledgerPlayer);
+        if (inventory.removeIf(x -> x.getItemType().isResource())) {
+            rehashInventory();
+        }
 
         if (totalItemSellPrice > 0) {
-            score += totalItemSellPrice;
+            setScore(score + totalItemSellPrice);
             // Let the strategy know this player sold all items
             strategy.onSoldInventory(totalItemSellPrice);
         }
@@ -104,6 +201,7 @@ public class MinePlayer {
     }
 
     public void setScore(int newScore) {
+        stateHash ^= hashScore(score) ^ hashScore(newScore);
         this.score = newScore;
     }
 
@@ -118,6 +216,33 @@ public class MinePlayer {
         return actions;
     }
 
+    /**
+     * Records that this player's strategy ran out of time on its current turn. The turn is marked at the index
+     *  its TurnAction would have in getAllTurnActions()
+     */
+    public void markTurnTimedOut() {
+        timedOutTurns.set(actions.size());
+    }
+
+    /**
+     * @return A BitSet with a bit set for every turn index on which this player's strategy ran out of time
+     */
+    public BitSet getTimedOutTurns() {
+        return timedOutTurns;
+    }
+
+    public int getNumTimedOutTurns() {
+        return timedOutTurns.cardinality();
+    }
+
+    public long getTimeBankNanos() {
+        return timeBankNanos;
+    }
+
+    public void setTimeBankNanos(long timeBankNanos) {
+        this.timeBankNanos = Math.max(timeBankNanos, 0);
+    }
+
     public float getChargePercent() {
         return ((float) currentEnergy) / MAX_ENERGY;
     }
@@ -128,16 +253,62 @@ public class MinePlayer {
 
     public void useEnergy() {
         if (currentEnergy > 0) {
-            currentEnergy--;
+            setCurrentEnergy(currentEnergy - 1);
         }
     }
 
     public void rechargeEnergy(float percentToRecharge) {
         assert percentToRecharge >= 0;
-        currentEnergy += (MAX_ENERGY * percentToRecharge);
-        if (currentEnergy > MAX_ENERGY) {
-            currentEnergy = MAX_ENERGY;
+        int newEnergy = currentEnergy;
+        newEnergy += (MAX_ENERGY * percentToRecharge);
+        setCurrentEnergy(Math.min(newEnergy, MAX_ENERGY));
+    }
+
+    private void setCurrentEnergy(int newEnergy) {
+        stateHash ^= hashEnergy(currentEnergy) ^ hashEnergy(newEnergy);
+        this.currentEnergy = newEnergy;
+    }
+
+    /**
+     * Gets a 64-bit Zobrist hash of this player's location, energy, score and inventory, which is kept up to date
+     *  as they change. The red and blue players hash the same state differently, so their hashes can be combined
+     *  with GameBoard.getStateHash() with XOR
+     *
+     * @return The hash of this player's state
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    private void rehashInventory() {
+        long newInventoryHash = ZobristHash.hashItems(ZobristHash.PLAYER_INVENTORY, getPlayerNumber(), inventory);
+        stateHash ^= inventoryHash ^ newInventoryHash;
+        inventoryHash = newInventoryHash;
+    }
+
+    private void rehash() {
+        inventoryHash = ZobristHash.hashItems(ZobristHash.PLAYER_INVENTORY, getPlayerNumber(), inventory);
+        stateHash = hashLocation(currentTile) ^ hashEnergy(currentEnergy) ^ hashScore(score) ^ inventoryHash;
+    }
+
+    private long hashLocation(Tile tile) {
+        if (tile == null) {
+            return 0;
         }
+        Point location = tile.getLocation();
+        return ZobristHash.key(ZobristHash.PLAYER_LOCATION, getPlayerNumber(), ((long) location.x << 32) ^ location.y);
+    }
+
+    private long hashEnergy(int energy) {
+        return ZobristHash.key(ZobristHash.PLAYER_ENERGY, getPlayerNumber(), energy);
+    }
+
+    private long hashScore(int score) {
+        return ZobristHash.key(ZobristHash.PLAYER_SCORE, getPlayerNumber(), score);
+    }
+
+    private int getPlayerNumber() {
+        return isRedPlayer ? 0 : 1;
     }
 
     public Random getRandomNumberGenerator() {
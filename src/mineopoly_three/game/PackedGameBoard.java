@@ -0,0 +1,492 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.MoveAction;
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.graphics.ImageManager;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.RechargeTile;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+
+/**
+ * A game board kept entirely in primitive arrays, instead of one Tile object per tile like GameBoard.
+ * The kind of each tile, how far it has been mined, how many of each ItemType are on it and which player is
+ *  standing on it each take a few bytes, so a whole board fits in a few kilobytes and update() and
+ *  convertToView() walk flat arrays instead of following references around the heap.
+ * Tiles are numbered x + y * boardSize, with (0, 0) as the bottom left tile. Tile objects are only created when
+ *  something like the GUI asks for one with getTileAtLocation(), and changing those has no effect on this board.
+ *
+ * The board plays by the same rules as a GameBoard and its tiles, with two differences: players' positions are
+ *  kept by this board rather than in MinePlayer.getCurrentTile(), and since the order items arrived on a tile
+ *  is not stored, picking up a resource always picks the one with the lowest ItemType ordinal
+ */
+public class PackedGameBoard {
+    private static final int NUM_ITEM_TYPES = PackedTiles.NUM_ITEM_TYPES;
+    private static final int AUTOMINER = PackedTiles.AUTOMINER;
+    private static final byte NO_PLAYER = 0;
+    private static final byte RED_PLAYER = 1;
+    private static final byte BLUE_PLAYER = 2;
+
+    private final int size;
+    // The kind of each tile, using the same codes as BoardSnapshot
+    private final byte[] tileCodes;
+    // How many times each resource tile has been mined so far, 0 for every other kind of tile
+    private final byte[] timesMined;
+    // How many of each ItemType are on each tile, with the counts for one tile next to each other
+    private final byte[] itemCounts;
+    // The counts PlayerBoardViews show, which only catch up with itemCounts when a player interacts with a tile
+    private final byte[] visibleItemCounts;
+    // Which player, if any, is standing on each tile
+    private final byte[] occupancy;
+    private final BitSet autominerLocations;
+    private final int[] autominerTurnsMined;
+    // Kept up to date as tiles change so views can be built without decoding tileCodes, like GameBoard.tileView
+    private final TileType[][] tileView;
+    // Given to every view until something players can see on the ground changes, or null if it needs building
+    private ItemsOnGroundSnapshot itemsOnGroundSnapshot;
+
+    private int redStartIndex;
+    private int blueStartIndex;
+    private MinePlayer redPlayer;
+    private MinePlayer bluePlayer;
+    private int redPlayerIndex;
+    private int bluePlayerIndex;
+
+    /**
+     * Creates a board of the specified size covered in nothing but empty tiles
+     *
+     * @param boardSize The width and height of the board
+     */
+    public PackedGameBoard(int boardSize) {
+        int numTiles = boardSize * boardSize;
+        this.size = boardSize;
+        this.tileCodes = new byte[numTiles];
+        this.timesMined = new byte[numTiles];
+        this.itemCounts = new byte[numTiles * NUM_ITEM_TYPES];
+        this.visibleItemCounts = new byte[numTiles * NUM_ITEM_TYPES];
+        this.occupancy = new byte[numTiles];
+        this.autominerLocations = new BitSet(numTiles);
+        this.autominerTurnsMined = new int[numTiles];
+        this.tileView = new TileType[boardSize][boardSize];
+        for (TileType[] tileRow : tileView) {
+            Arrays.fill(tileRow, TileType.EMPTY);
+        }
+
+        this.redStartIndex = -1;
+        this.blueStartIndex = -1;
+        this.redPlayerIndex = -1;
+        this.bluePlayerIndex = -1;
+    }
+
+    /**
+     * Packs every tile and item on a GameBoard, along with where its players are standing
+     *
+     * @param board The GameBoard to copy, which later changes to this board won't affect
+     * @return A PackedGameBoard in the same state as the GameBoard
+     */
+    public static PackedGameBoard fromBoard(GameBoard board) {
+        PackedGameBoard packedBoard = new PackedGameBoard(board.getSize());
+        packedBoard.restoreSnapshot(board.createSnapshot());
+
+        for (int tileIndex = 0; tileIndex < packedBoard.tileCodes.length; tileIndex++) {
+            MinePlayer playerOnTile = board.getTileAtLocation(packedBoard.toLocation(tileIndex)).getPlayerOnTile();
+            if (playerOnTile != null) {
+                packedBoard.placePlayer(playerOnTile, packedBoard.toLocation(tileIndex));
+            }
+        }
+        return packedBoard;
+    }
+
+    /**
+     * Unpacks this board into a new GameBoard with a Tile object for every tile. Players are not put on the new
+     *  board, since they would have to be moved off this one
+     *
+     * @return A GameBoard with the same tiles, items and autominer progress as this board
+     */
+    public GameBoard toGameBoard() {
+        GameBoard board = new GameBoard(size);
+        board.restoreSnapshot(createSnapshot());
+        return board;
+    }
+
+    /**
+     * Packs this board into a BoardSnapshot, the same as GameBoard.createSnapshot() would for the same board
+     */
+    BoardSnapshot createSnapshot() {
+        int numTiles = tileCodes.length;
+        byte[] snapshotTileCodes = new byte[numTiles];
+        byte[] snapshotTimesMined = new byte[numTiles];
+        byte[][] itemsOnTiles = new byte[numTiles][];
+        byte[][] itemsOnGround = new byte[numTiles][];
+        int numMinedTiles = 0;
+        for (int tileIndex = 0; tileIndex < numTiles; tileIndex++) {
+            int snapshotIndex = toSnapshotIndex(tileIndex);
+            snapshotTileCodes[snapshotIndex] = tileCodes[tileIndex];
+            snapshotTimesMined[snapshotIndex] = timesMined[tileIndex];
+            List<InventoryItem> items = PackedTiles.getItems(itemCounts, tileIndex);
+            List<InventoryItem> visibleItems = PackedTiles.getItems(visibleItemCounts, tileIndex);
+            itemsOnTiles[snapshotIndex] = BoardSnapshot.encodeItems(items);
+            itemsOnGround[snapshotIndex] = BoardSnapshot.encodeItems(visibleItems);
+            if (autominerTurnsMined[tileIndex] > 0) {
+                numMinedTiles++;
+            }
+        }
+
+        int[] minedTileIndices = new int[numMinedTiles];
+        int[] minedTileTurns = new int[numMinedTiles];
+        int minedTileNumber = 0;
+        for (int tileIndex = 0; tileIndex < numTiles; tileIndex++) {
+            if (autominerTurnsMined[tileIndex] > 0) {
+                minedTileIndices[minedTileNumber] = toSnapshotIndex(tileIndex);
+                minedTileTurns[minedTileNumber] = autominerTurnsMined[tileIndex];
+                minedTileNumber++;
+            }
+        }
+
+        int snapshotRedStart = (redStartIndex < 0) ? -1 : toSnapshotIndex(redStartIndex);
+        int snapshotBlueStart = (blueStartIndex < 0) ? -1 : toSnapshotIndex(blueStartIndex);
+        return new BoardSnapshot(size, snapshotTileCodes, snapshotTimesMined, itemsOnTiles, itemsOnGround,
+                                 snapshotRedStart, snapshotBlueStart, minedTileIndices, minedTileTurns);
+    }
+
+    /**
+     * Replaces every tile on this board with the tiles from a snapshot of a board the same size, and takes every
+     *  player off the board
+     *
+     * @param snapshot A snapshot taken from a board the same size as this one
+     */
+    void restoreSnapshot(BoardSnapshot snapshot) {
+        if (snapshot.boardSize != size) {
+            throw new IllegalArgumentException("Cannot restore a board of size " + snapshot.boardSize
+                                               + " onto a board of size " + size);
+        }
+
+        Arrays.fill(itemCounts, (byte) 0);
+        Arrays.fill(visibleItemCounts, (byte) 0);
+        Arrays.fill(occupancy, NO_PLAYER);
+        for (int tileIndex = 0; tileIndex < tileCodes.length; tileIndex++) {
+            int snapshotIndex = toSnapshotIndex(tileIndex);
+            setTileCode(tileIndex, snapshot.tileCodes[snapshotIndex]);
+            timesMined[tileIndex] = snapshot.timesMined[snapshotIndex];
+            addItemCounts(snapshot.itemsOnTiles[snapshotIndex], itemCounts, tileIndex);
+            addItemCounts(snapshot.itemsOnGround[snapshotIndex], visibleItemCounts, tileIndex);
+            autominerLocations.set(tileIndex, itemCounts[tileIndex * NUM_ITEM_TYPES + AUTOMINER] > 0);
+        }
+
+        itemsOnGroundSnapshot = null;
+        Arrays.fill(autominerTurnsMined, 0);
+        for (int i = 0; i < snapshot.autominerTileIndices.length; i++) {
+            autominerTurnsMined[toSnapshotIndex(snapshot.autominerTileIndices[i])] = snapshot.autominerTurnsMined[i];
+        }
+
+        redStartIndex = (snapshot.redStartIndex < 0) ? -1 : toSnapshotIndex(snapshot.redStartIndex);
+        blueStartIndex = (snapshot.blueStartIndex < 0) ? -1 : toSnapshotIndex(snapshot.blueStartIndex);
+        redPlayer = null;
+        bluePlayer = null;
+        redPlayerIndex = -1;
+        bluePlayerIndex = -1;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Point getRedStartTileLocation() {
+        return (redStartIndex < 0) ? null : toLocation(redStartIndex);
+    }
+
+    public Point getBlueStartTileLocation() {
+        return (blueStartIndex < 0) ? null : toLocation(blueStartIndex);
+    }
+
+    /**
+     * Gets the type of the tile at the specified location in Cartesian (x, y) coordinates
+     *
+     * @param x The x coordinate of the tile
+     * @param y The y coordinate of the tile
+     * @return The type of the tile, or null if the location is outside the board
+     */
+    public TileType getTileTypeAtLocation(int x, int y) {
+        if (isValidLocation(x, y)) {
+            return tileView[(size - 1) - y][x];
+        }
+        return null;
+    }
+
+    /**
+     * Puts a player on a tile without anything that entering it would cause, like selling at a market.
+     * A player already on this board is moved off its old tile first
+     *
+     * @param player The player to put on the board
+     * @param location The location of the tile to put the player on
+     */
+    public void placePlayer(MinePlayer player, Point location) {
+        if (!isValidLocation(location.x, location.y)) {
+            throw new IllegalArgumentException("Cannot place a player at " + location + " outside the board");
+        }
+        int tileIndex = toIndex(location.x, location.y);
+        if (occupancy[tileIndex] != NO_PLAYER && getPlayerOnTile(tileIndex) != player) {
+            throw new IllegalArgumentException("Another player is already standing at " + location);
+        }
+
+        // Each side has one player on the board, so this replaces any other player of the same color
+        int oldIndex = player.isRedPlayer() ? redPlayerIndex : bluePlayerIndex;
+        if (oldIndex >= 0) {
+            occupancy[oldIndex] = NO_PLAYER;
+        }
+        setPlayerIndex(player, tileIndex);
+    }
+
+    /**
+     * @param player A player on this board
+     * @return The location of the tile the player is standing on, or null if the player is not on this board
+     */
+    public Point getPlayerLocation(MinePlayer player) {
+        int tileIndex = getPlayerIndex(player);
+        return (tileIndex < 0) ? null : toLocation(tileIndex);
+    }
+
+    /**
+     * Performs a TurnAction for a player standing on this board, with the same result as the TurnAction's Action
+     *  would have on a GameBoard
+     *
+     * @param player The player performing the action
+     * @param action The action to perform
+     */
+    public void performAction(MinePlayer player, TurnAction action) {
+        int tileIndex = getPlayerIndex(player);
+        if (tileIndex < 0) {
+            throw new IllegalArgumentException("The player performing an action is not on this board");
+        }
+
+        switch (action) {
+            case MOVE_UP:
+                movePlayer(player, tileIndex, 0, 1);
+                break;
+            case MOVE_DOWN:
+                movePlayer(player, tileIndex, 0, -1);
+                break;
+            case MOVE_RIGHT:
+                movePlayer(player, tileIndex, 1, 0);
+                break;
+            case MOVE_LEFT:
+                movePlayer(player, tileIndex, -1, 0);
+                break;
+            default:
+                interactWithTile(player, tileIndex, action);
+                break;
+        }
+    }
+
+    private void movePlayer(MinePlayer player, int tileIndex, int xChange, int yChange) {
+        int nextX = (tileIndex % size) + xChange;
+        int nextY = (tileIndex / size) + yChange;
+        if (!isValidLocation(nextX, nextY)) {
+            // Can't step outside the world
+            return;
+        }
+
+        int nextIndex = toIndex(nextX, nextY);
+        if (occupancy[nextIndex] != NO_PLAYER) {
+            // Can't step on a tile if there's another player there
+            return;
+        }
+
+        // The random number is drawn even with energy left, the same as MoveAction does
+        boolean hasEnergyLeft = (player.getCurrentEnergy() > 0);
+        boolean canMoveWithNoEnergyLeft =
+                (player.getRandomNumberGenerator().nextDouble() < MoveAction.NO_ENERGY_MOVE_CHANCE);
+        if (hasEnergyLeft || canMoveWithNoEnergyLeft) {
+            occupancy[tileIndex] = NO_PLAYER;
+            setPlayerIndex(player, nextIndex);
+
+            // Players sell everything they carry when they step onto their own market
+            byte marketCode = player.isRedPlayer() ? BoardSnapshot.RED_MARKET_TILE : BoardSnapshot.BLUE_MARKET_TILE;
+            if (tileCodes[nextIndex] == marketCode) {
+                player.sellItems();
+            }
+            player.useEnergy();
+        }
+    }
+
+    private void interactWithTile(MinePlayer player, int tileIndex, TurnAction action) {
+        PackedTiles.moveItems(player, action, itemCounts, tileIndex);
+        if (action == TurnAction.MINE && PackedTiles.mineTile(tileCodes, timesMined, itemCounts, tileIndex)) {
+            setTileCode(tileIndex, tileCodes[tileIndex]);
+        }
+
+        // Players see what is on a tile once they have interacted with it, like GameBoard.trackItemsOnPoint()
+        if (PackedTiles.revealItems(itemCounts, visibleItemCounts, tileIndex)) {
+            itemsOnGroundSnapshot = null;
+        }
+        autominerLocations.set(tileIndex, itemCounts[tileIndex * NUM_ITEM_TYPES + AUTOMINER] > 0);
+    }
+
+    /**
+     * Called every turn for the board to update its internal state, recharging players standing on recharge
+     *  tiles and letting every autominer mine
+     */
+    public void update() {
+        // Recharge tiles only do anything with a player on them, so only the players' tiles need checking
+        if (redPlayerIndex >= 0 && tileCodes[redPlayerIndex] == BoardSnapshot.RECHARGE_TILE) {
+            redPlayer.rechargeEnergy(RechargeTile.RECHARGE_PERCENT_PER_TURN);
+        }
+        if (bluePlayerIndex >= 0 && tileCodes[bluePlayerIndex] == BoardSnapshot.RECHARGE_TILE) {
+            bluePlayer.rechargeEnergy(RechargeTile.RECHARGE_PERCENT_PER_TURN);
+        }
+
+        // Autominers mine their own tile and the 4 tiles next to them
+        for (int tileIndex = autominerLocations.nextSetBit(0); tileIndex >= 0;
+             tileIndex = autominerLocations.nextSetBit(tileIndex + 1)) {
+            int x = tileIndex % size;
+            int y = tileIndex / size;
+
+            mineWithAutominer(tileIndex);
+            if (x > 0) mineWithAutominer(tileIndex - 1);
+            if (x < size - 1) mineWithAutominer(tileIndex + 1);
+            if (y > 0) mineWithAutominer(tileIndex - size);
+            if (y < size - 1) mineWithAutominer(tileIndex + size);
+        }
+    }
+
+    private void mineWithAutominer(int tileIndex) {
+        if (PackedTiles.mineWithAutominer(tileCodes, timesMined, itemCounts, autominerTurnsMined, tileIndex)) {
+            setTileCode(tileIndex, tileCodes[tileIndex]);
+        }
+    }
+
+    /**
+     * Converts this board into a restricted information view of the board relative to what one player is
+     *  allowed to know, the same as GameBoard.convertToView() gives for the same board
+     *
+     * @param playerReceivingView The player who will receive this restricted information view
+     * @param otherPlayer The other player, so the player receiving the view can know score information
+     * @return A PlayerBoardView that contains all the information about this board for this turn which a
+     *          player strategy is allowed to know
+     */
+    public PlayerBoardView convertToView(MinePlayer playerReceivingView, MinePlayer otherPlayer) {
+        // The snapshot can't be modified, so both players share it until something on the ground changes
+        if (itemsOnGroundSnapshot == null) {
+            @SuppressWarnings("unchecked")
+            List<InventoryItem>[] itemsByTile = (List<InventoryItem>[]) new List<?>[tileCodes.length];
+            for (int tileIndex = 0; tileIndex < tileCodes.length; tileIndex++) {
+                List<InventoryItem> items = PackedTiles.getItems(visibleItemCounts, tileIndex);
+                itemsByTile[toSnapshotIndex(tileIndex)] =
+                        items.isEmpty() ? Collections.<InventoryItem>emptyList() : Collections.unmodifiableList(items);
+            }
+            itemsOnGroundSnapshot = new ItemsOnGroundSnapshot(size, itemsByTile);
+        }
+
+        Point playerLocation = getPlayerLocation(playerReceivingView);
+        Point otherPlayerLocation = getPlayerLocation(otherPlayer);
+        // We don't need to copy tileView because it is never given to the strategy by reference
+        return new PlayerBoardView(tileView, itemsOnGroundSnapshot, playerLocation, otherPlayerLocation,
+                                   otherPlayer.getScore());
+    }
+
+    /**
+     * Creates a Tile object showing the tile at a location, for things like the GUI that need one.
+     * The Tile is made fresh on every call and changing it has no effect on this board
+     *
+     * @param x The x coordinate of the tile to get
+     * @param y The y coordinate of the tile to get
+     * @return A Tile with the same kind, items and player as the tile at (x, y), or null if outside the board
+     */
+    public Tile getTileAtLocation(int x, int y) {
+        if (!isValidLocation(x, y)) {
+            return null;
+        }
+
+        int tileIndex = toIndex(x, y);
+        Tile tile = BoardSnapshot.decodeTile(tileCodes[tileIndex], timesMined[tileIndex], new Point(x, y));
+        tile.getItemsOnTile().addAll(PackedTiles.getItems(itemCounts, tileIndex));
+        MinePlayer playerOnTile = getPlayerOnTile(tileIndex);
+        if (playerOnTile != null) {
+            tile.restorePlayerOnTile(playerOnTile);
+        }
+        return tile;
+    }
+
+    /**
+     * Specifies how to render this board on the Graphics2D object passed in
+     *
+     * @param brush The Graphics2D object on which to render this board
+     * @param imageManager The ImageManager object that manages all images for the JPanel component rendering this board
+     */
+    public void paint(Graphics2D brush, ImageManager imageManager) {
+        for (int tileIndex = 0; tileIndex < tileCodes.length; tileIndex++) {
+            getTileAtLocation(tileIndex % size, tileIndex / size).paint(brush, size, imageManager);
+        }
+    }
+
+    private void setTileCode(int tileIndex, byte tileCode) {
+        tileCodes[tileIndex] = tileCode;
+        tileView[(size - 1) - (tileIndex / size)][tileIndex % size] = PackedTiles.getTileType(tileCode);
+    }
+
+    private static void addItemCounts(byte[] itemCodes, byte[] counts, int tileIndex) {
+        if (itemCodes == null) {
+            return;
+        }
+        for (byte itemCode : itemCodes) {
+            counts[tileIndex * NUM_ITEM_TYPES + itemCode]++;
+        }
+    }
+
+    private MinePlayer getPlayerOnTile(int tileIndex) {
+        switch (occupancy[tileIndex]) {
+            case RED_PLAYER:
+                return redPlayer;
+            case BLUE_PLAYER:
+                return bluePlayer;
+            default:
+                return null;
+        }
+    }
+
+    private int getPlayerIndex(MinePlayer player) {
+        if (player == redPlayer) {
+            return redPlayerIndex;
+        } else if (player == bluePlayer) {
+            return bluePlayerIndex;
+        }
+        return -1;
+    }
+
+    private void setPlayerIndex(MinePlayer player, int tileIndex) {
+        if (player.isRedPlayer()) {
+            redPlayer = player;
+            redPlayerIndex = tileIndex;
+            occupancy[tileIndex] = RED_PLAYER;
+        } else {
+            bluePlayer = player;
+            bluePlayerIndex = tileIndex;
+            occupancy[tileIndex] = BLUE_PLAYER;
+        }
+    }
+
+    private boolean isValidLocation(int x, int y) {
+        return x >= 0 && x < size && y >= 0 && y < size;
+    }
+
+    private int toIndex(int x, int y) {
+        return x + y * size;
+    }
+
+    private Point toLocation(int tileIndex) {
+        return new Point(tileIndex % size, tileIndex / size);
+    }
+
+    /**
+     * @return The index BoardSnapshot and GameBoard use for a tile, which number rows from the top down.
+     *          Flipping the rows twice gets back to where it started, so this also converts the other way
+     */
+    private int toSnapshotIndex(int tileIndex) {
+        return ((size - 1) - (tileIndex / size)) * size + (tileIndex % size);
+    }
+}
@@ -0,0 +1,160 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.tiles.TileType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The rules for tiles kept in primitive arrays rather than as Tile objects, shared by the boards that store
+ *  them that way. Each board numbers its tiles however it likes; these only need the index of one tile in
+ *  arrays laid out like PackedGameBoard's, with a BoardSnapshot tile code and times mined per tile, and the
+ *  counts of every ItemType on a tile next to each other
+ */
+final class PackedTiles {
+    static final ItemType[] ITEM_TYPES = ItemType.values();
+    static final int NUM_ITEM_TYPES = ITEM_TYPES.length;
+    static final int AUTOMINER = ItemType.AUTOMINER.ordinal();
+
+    private PackedTiles() {
+    }
+
+    /**
+     * Places or picks up an item the way a player interacting with a tile would, without mining it
+     *
+     * @param player The player interacting with the tile
+     * @param action The PLACE_AUTOMINER, PICK_UP_RESOURCE or PICK_UP_AUTOMINER action, anything else does nothing
+     * @param itemCounts The item counts of every tile
+     * @param tileIndex The index of the tile being interacted with
+     */
+    static void moveItems(MinePlayer player, TurnAction action, byte[] itemCounts, int tileIndex) {
+        int itemsStart = tileIndex * NUM_ITEM_TYPES;
+        boolean hasAutominer = itemCounts[itemsStart + AUTOMINER] > 0;
+
+        // Ensure there already is not an autominer here
+        if (action == TurnAction.PLACE_AUTOMINER && !hasAutominer) {
+            InventoryItem playerAutominer = null;
+            for (InventoryItem item : player.getInventory()) {
+                if (item.getItemType() == ItemType.AUTOMINER) {
+                    playerAutominer = item;
+                    break;
+                }
+            }
+            if (playerAutominer != null) {
+                player.removeItemFromInventory(playerAutominer);
+                itemCounts[itemsStart + AUTOMINER]++;
+            }
+        } else if (action == TurnAction.PICK_UP_RESOURCE) {
+            // The order items arrived in isn't stored, so the resource with the lowest ordinal is picked up
+            for (int itemOrdinal = 0; itemOrdinal < NUM_ITEM_TYPES; itemOrdinal++) {
+                if (ITEM_TYPES[itemOrdinal].isResource() && itemCounts[itemsStart + itemOrdinal] > 0) {
+                    pickUpItem(player, itemCounts, itemsStart, itemOrdinal);
+                    break;
+                }
+            }
+        } else if (action == TurnAction.PICK_UP_AUTOMINER && hasAutominer) {
+            pickUpItem(player, itemCounts, itemsStart, AUTOMINER);
+        }
+    }
+
+    private static void pickUpItem(MinePlayer player, byte[] itemCounts, int itemsStart, int itemOrdinal) {
+        if (player.addItemToInventory(new InventoryItem(ITEM_TYPES[itemOrdinal]))) {
+            itemCounts[itemsStart + itemOrdinal]--;
+        }
+    }
+
+    /**
+     * Mines a tile once, cracking empty tiles and giving resource tiles one more hit towards their resource
+     *
+     * @return True if the tile's code changed
+     */
+    static boolean mineTile(byte[] tileCodes, byte[] timesMined, byte[] itemCounts, int tileIndex) {
+        byte tileCode = tileCodes[tileIndex];
+        if (tileCode == BoardSnapshot.EMPTY_TILE) {
+            tileCodes[tileIndex] = BoardSnapshot.CRACKED_TILE;
+            return true;
+        } else if (tileCode >= BoardSnapshot.FIRST_RESOURCE_TILE) {
+            int resourceOrdinal = tileCode - BoardSnapshot.FIRST_RESOURCE_TILE;
+            timesMined[tileIndex]++;
+            if (timesMined[tileIndex] >= ITEM_TYPES[resourceOrdinal].getTurnsToMine()) {
+                timesMined[tileIndex] = 0;
+                tileCodes[tileIndex] = BoardSnapshot.CRACKED_TILE;
+                itemCounts[tileIndex * NUM_ITEM_TYPES + resourceOrdinal]++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mines a tile for one turn of an autominer next to or on it. Autominers crack empty tiles straight away,
+     *  but take longer than players to mine resources
+     *
+     * @param autominerTurnsMined How many turns autominers have spent on every tile, which this adds one to
+     * @return True if the tile's code changed
+     */
+    static boolean mineWithAutominer(byte[] tileCodes, byte[] timesMined, byte[] itemCounts,
+                                     int[] autominerTurnsMined, int tileIndex) {
+        int turnsMined = autominerTurnsMined[tileIndex];
+        byte tileCode = tileCodes[tileIndex];
+        autominerTurnsMined[tileIndex] = turnsMined + 1;
+
+        if (tileCode == BoardSnapshot.EMPTY_TILE) {
+            return mineTile(tileCodes, timesMined, itemCounts, tileIndex);
+        } else if (turnsMined > 0 && tileCode >= BoardSnapshot.FIRST_RESOURCE_TILE
+                   && turnsMined % GameBoard.AUTOMINER_MULTIPLIER == 0) {
+            return mineTile(tileCodes, timesMined, itemCounts, tileIndex);
+        }
+        return false;
+    }
+
+    static TileType getTileType(byte tileCode) {
+        switch (tileCode) {
+            case BoardSnapshot.EMPTY_TILE:
+            case BoardSnapshot.CRACKED_TILE:
+                return TileType.EMPTY;
+            case BoardSnapshot.RECHARGE_TILE:
+                return TileType.RECHARGE;
+            case BoardSnapshot.RED_MARKET_TILE:
+                return TileType.RED_MARKET;
+            case BoardSnapshot.BLUE_MARKET_TILE:
+                return TileType.BLUE_MARKET;
+            default:
+                return ITEM_TYPES[tileCode - BoardSnapshot.FIRST_RESOURCE_TILE].getResourceTileType();
+        }
+    }
+
+    /**
+     * @return A new list with an InventoryItem for every item counted on a tile, in ItemType order
+     */
+    static List<InventoryItem> getItems(byte[] counts, int tileIndex) {
+        List<InventoryItem> items = new ArrayList<>();
+        int itemsStart = tileIndex * NUM_ITEM_TYPES;
+        for (int itemOrdinal = 0; itemOrdinal < NUM_ITEM_TYPES; itemOrdinal++) {
+            for (int i = 0; i < counts[itemsStart + itemOrdinal]; i++) {
+                items.add(new InventoryItem(ITEM_TYPES[itemOrdinal]));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Makes the counts players can see on a tile match the counts actually there, the same as a GameBoard
+     *  showing what is on a tile once a player has interacted with it
+     *
+     * @return True if anything players can see changed
+     */
+    static boolean revealItems(byte[] itemCounts, byte[] visibleItemCounts, int tileIndex) {
+        int itemsStart = tileIndex * NUM_ITEM_TYPES;
+        for (int itemOrdinal = 0; itemOrdinal < NUM_ITEM_TYPES; itemOrdinal++) {
+            if (visibleItemCounts[itemsStart + itemOrdinal] != itemCounts[itemsStart + itemOrdinal]) {
+                System.arraycopy(itemCounts, itemsStart, visibleItemCounts, itemsStart, NUM_ITEM_TYPES);
+                return true;
+            }
+        }
+        return false;
+    }
+}
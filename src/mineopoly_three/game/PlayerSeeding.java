@@ -0,0 +1,15 @@
+package mineopoly_three.game;
+
+/**
+ * How the GameEngine seeds the random number generators of the players and their strategies from the game's seed.
+ * The world is always generated from the game's seed itself, so both give the same board
+ */
+public enum PlayerSeeding {
+    /**
+     * Every generator is seeded with the game's seed, so both players and both strategies get the same numbers.
+     *  Replay files without a version were recorded this way, so they need it to play back the same
+     */
+    SHARED_GAME_SEED,
+    /** Each generator gets its own seed derived from the game's seed with SeedStream, so they are independent */
+    DERIVED
+}
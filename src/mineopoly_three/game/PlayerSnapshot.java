@@ -0,0 +1,33 @@
+package mineopoly_three.game;
+
+/**
+ * The complete state of a MinePlayer except its strategy, which can't be copied. Like BoardSnapshot, every field
+ *  is private to the game package and never modified after the snapshot is taken
+ */
+class PlayerSnapshot {
+    // Stands in for turns where the strategy returned null or ran out of time
+    static final byte NO_ACTION = -1;
+
+    final int tileIndex;
+    final int energy;
+    final int score;
+    final byte[] inventory;
+    final byte lastMove;
+    final byte[] actions;
+    final long[] timedOutTurns;
+    final long timeBankNanos;
+    final long randomState;
+
+    PlayerSnapshot(int tileIndex, int energy, int score, byte[] inventory, byte lastMove, byte[] actions,
+                   long[] timedOutTurns, long timeBankNanos, long randomState) {
+        this.tileIndex = tileIndex;
+        this.energy = energy;
+        this.score = score;
+        this.inventory = inventory;
+        this.lastMove = lastMove;
+        this.actions = actions;
+        this.timedOutTurns = timedOutTurns;
+        this.timeBankNanos = timeBankNanos;
+        this.randomState = randomState;
+    }
+}
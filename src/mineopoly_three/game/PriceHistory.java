@@ -0,0 +1,174 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.ItemType;
+
+import java.util.Arrays;
+
+/**
+ * The price of every resource at the start of each turn of the current game, and the last turn each resource was
+ *  sold on, kept by the Economy so strategies don't have to copy prices every turn to look back at them.
+ * Prices are kept in a ring of primitive arrays big enough for a whole game, so recording them and querying them
+ *  never allocates anything. Once more turns than that have been recorded, the oldest turns are forgotten.
+ *
+ * Turn numbers count from 0, the same as the GameEngine's. The prices for a turn are the ones players saw when
+ *  deciding what to do on it, before anything was sold that turn
+ */
+public final class PriceHistory {
+    /** Every turn of a 1000 turn game, plus the prices left after the last one */
+    public static final int CAPACITY = 1001;
+    private static final int NUM_ITEM_TYPES = ItemType.values().length;
+
+    // The prices on turn t start at ((t % CAPACITY) * NUM_ITEM_TYPES), indexed by ItemType ordinal
+    private final int[] prices = new int[CAPACITY * NUM_ITEM_TYPES];
+    private final int[] lastSaleTurns = new int[NUM_ITEM_TYPES];
+    private int firstTurn;
+    private int latestTurn;
+
+    PriceHistory() {
+        this.clear(0);
+    }
+
+    /**
+     * Creates a copy of another history, which later changes to either history won't affect
+     *
+     * @param other The history to copy
+     */
+    PriceHistory(PriceHistory other) {
+        this.copyFrom(other);
+    }
+
+    /**
+     * Makes this history the same as another one, reusing this history's arrays
+     *
+     * @param other The history to copy
+     */
+    void copyFrom(PriceHistory other) {
+        System.arraycopy(other.prices, 0, prices, 0, prices.length);
+        System.arraycopy(other.lastSaleTurns, 0, lastSaleTurns, 0, lastSaleTurns.length);
+        firstTurn = other.firstTurn;
+        latestTurn = other.latestTurn;
+    }
+
+    /**
+     * Forgets everything recorded. The next prices recorded will be for the given turn
+     */
+    void clear(int nextTurn) {
+        firstTurn = nextTurn;
+        latestTurn = nextTurn - 1;
+        Arrays.fill(lastSaleTurns, -1);
+    }
+
+    /**
+     * Records the prices at the start of the turn after the latest one recorded
+     *
+     * @param resourcePrices The current price of every ItemType, indexed by ordinal
+     */
+    void recordTurn(int[] resourcePrices) {
+        latestTurn++;
+        if (latestTurn - firstTurn >= CAPACITY) {
+            // The ring is full, so this turn's prices take the place of the oldest turn's
+            firstTurn++;
+        }
+        System.arraycopy(resourcePrices, 0, prices, getTurnStart(latestTurn), NUM_ITEM_TYPES);
+    }
+
+    /**
+     * Records that a resource was sold on the latest turn recorded
+     */
+    void recordSale(ItemType resourceType) {
+        lastSaleTurns[resourceType.ordinal()] = latestTurn;
+    }
+
+    /**
+     * @return The earliest turn whose prices are still recorded
+     */
+    public int getFirstTurn() {
+        return firstTurn;
+    }
+
+    /**
+     * @return The latest turn whose prices are recorded, which is the current turn while a game is being played,
+     *          or one less than getFirstTurn() if nothing has been recorded yet
+     */
+    public int getLatestTurn() {
+        return latestTurn;
+    }
+
+    /**
+     * @param resourceType The type of resource to get the price of
+     * @param turn The turn to get the price on, from getFirstTurn() to getLatestTurn()
+     * @return The price of the resource at the start of the turn, or 0 if the Economy doesn't buy it
+     * @throws IllegalArgumentException If the turn's prices aren't recorded
+     */
+    public int getPrice(ItemType resourceType, int turn) {
+        checkTurns(turn, turn);
+        return prices[getTurnStart(turn) + resourceType.ordinal()];
+    }
+
+    /**
+     * @param resourceType The type of resource to look at
+     * @param fromTurn The first turn of the window
+     * @param toTurn The last turn of the window, which is included in it
+     * @return The lowest price of the resource at the start of any turn in the window
+     * @throws IllegalArgumentException If the window is empty or any turn in it isn't recorded
+     */
+    public int getMinPrice(ItemType resourceType, int fromTurn, int toTurn) {
+        checkTurns(fromTurn, toTurn);
+        int minPrice = Integer.MAX_VALUE;
+        for (int turn = fromTurn; turn <= toTurn; turn++) {
+            minPrice = Math.min(minPrice, prices[getTurnStart(turn) + resourceType.ordinal()]);
+        }
+        return minPrice;
+    }
+
+    /**
+     * @param resourceType The type of resource to look at
+     * @param fromTurn The first turn of the window
+     * @param toTurn The last turn of the window, which is included in it
+     * @return The highest price of the resource at the start of any turn in the window
+     * @throws IllegalArgumentException If the window is empty or any turn in it isn't recorded
+     */
+    public int getMaxPrice(ItemType resourceType, int fromTurn, int toTurn) {
+        checkTurns(fromTurn, toTurn);
+        int maxPrice = Integer.MIN_VALUE;
+        for (int turn = fromTurn; turn <= toTurn; turn++) {
+            maxPrice = Math.max(maxPrice, prices[getTurnStart(turn) + resourceType.ordinal()]);
+        }
+        return maxPrice;
+    }
+
+    /**
+     * @param resourceType The type of resource to look at
+     * @param fromTurn The first turn of the window
+     * @param toTurn The last turn of the window, which is included in it
+     * @return The mean price of the resource at the start of the turns in the window
+     * @throws IllegalArgumentException If the window is empty or any turn in it isn't recorded
+     */
+    public double getMeanPrice(ItemType resourceType, int fromTurn, int toTurn) {
+        checkTurns(fromTurn, toTurn);
+        long totalPrice = 0;
+        for (int turn = fromTurn; turn <= toTurn; turn++) {
+            totalPrice += prices[getTurnStart(turn) + resourceType.ordinal()];
+        }
+        return ((double) totalPrice) / (toTurn - fromTurn + 1);
+    }
+
+    /**
+     * @param resourceType The type of resource to look for
+     * @return The last turn any player sold the resource on, or -1 if nobody has sold it yet this game
+     */
+    public int getLastSaleTurn(ItemType resourceType) {
+        return lastSaleTurns[resourceType.ordinal()];
+    }
+
+    private void checkTurns(int fromTurn, int toTurn) {
+        if (fromTurn > toTurn || fromTurn < firstTurn || toTurn > latestTurn) {
+            throw new IllegalArgumentException("Prices are only recorded from turn " + firstTurn + " to turn "
+                                               + latestTurn + ", not " + fromTurn + " to " + toTurn);
+        }
+    }
+
+    private static int getTurnStart(int turn) {
+        return (turn % CAPACITY) * NUM_ITEM_TYPES;
+    }
+}
@@ -0,0 +1,19 @@
+package mineopoly_three.game;
+
+/**
+ * How a WorldGenerator picks the tiles in each ring around the center of the board that resources spawn on
+ */
+public enum ResourcePlacement {
+    /**
+     * Picks a random angle and distance from the center for each resource, trying again if the tile there isn't
+     *  empty. Resources are more crowded towards the inside of a ring, and a resource is skipped if no empty tile
+     *  turns up after a number of tries. This is the original placement, so it is the one replays expect
+     */
+    REJECTION_SAMPLING,
+    /**
+     * Lists every empty tile in the ring first, then draws tiles from the list without putting them back. Every
+     *  empty tile in a ring is equally likely, and resources are only skipped once every tile in the ring is taken.
+     *  Boards generated this way are different from REJECTION_SAMPLING boards for the same seed
+     */
+    CANDIDATE_LIST
+}
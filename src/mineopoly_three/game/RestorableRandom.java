@@ -0,0 +1,51 @@
+package mineopoly_three.game;
+
+import java.util.Random;
+
+/**
+ * A java.util.Random that produces exactly the same numbers as Random, but whose internal state can be read and
+ *  set again later. Random keeps its state private, so without this a snapshot of a game could not continue the
+ *  same random sequence as the game it was taken from.
+ * The spare value nextGaussian() caches is not part of the state, but nothing in the engine uses nextGaussian()
+ */
+class RestorableRandom extends Random {
+    // The same linear congruential generator constants java.util.Random uses
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // Assigned by setSeed(), which Random's constructor calls, so it must not have an initializer here
+    private long state;
+
+    RestorableRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        this.state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * @return The internal state that determines every number this will generate next
+     */
+    long getState() {
+        return state;
+    }
+
+    /**
+     * Continues generating from a state previously returned by getState()
+     *
+     * @param state The state to continue from
+     */
+    void setState(long state) {
+        this.state = state & MASK;
+    }
+}
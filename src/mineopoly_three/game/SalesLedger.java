@@ -0,0 +1,286 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.ItemType;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Every sale made in the current game, kept by the Economy so analytics don't have to rebuild them from
+ *  strategy callbacks. A sale of several kinds of resource has one entry for each kind sold, next to each other,
+ *  holding the turn, the player who sold, how many were sold, what each sold for, and the price left afterwards.
+ * Entries are kept in primitive arrays that grow as needed and are reused for the next game, and the totals for
+ *  each player and resource are kept up to date as sales are made, so reading them is O(1)
+ */
+public final class SalesLedger {
+    public static final int RED_PLAYER = 0;
+    public static final int BLUE_PLAYER = 1;
+    /** The player for sales made directly through Economy.sellResources() rather than by a MinePlayer */
+    public static final int NO_PLAYER = -1;
+
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+    private static final int INITIAL_CAPACITY = 64;
+
+    // One column per field, entry i of the ledger is index i of each. Turns never decrease down the ledger
+    private int[] turns = new int[INITIAL_CAPACITY];
+    private byte[] players = new byte[INITIAL_CAPACITY];
+    private byte[] itemTypeOrdinals = new byte[INITIAL_CAPACITY];
+    private int[] numSold = new int[INITIAL_CAPACITY];
+    private int[] unitPrices = new int[INITIAL_CAPACITY];
+    private int[] pricesAfterSale = new int[INITIAL_CAPACITY];
+    private int numEntries;
+
+    // Totals for each player and resource, indexed by (player * ITEM_TYPES.length + ItemType ordinal)
+    private final long[] totalRevenue = new long[2 * ITEM_TYPES.length];
+    private final int[] totalNumSold = new int[2 * ITEM_TYPES.length];
+    private final long[] totalPriceDrop = new long[2 * ITEM_TYPES.length];
+
+    SalesLedger() {
+    }
+
+    /**
+     * Creates a copy of another ledger, which later changes to either ledger won't affect. The copy's arrays are
+     *  only as long as the entries need, and grow like any other ledger's if more sales are recorded in it
+     *
+     * @param other The ledger to copy
+     */
+    SalesLedger(SalesLedger other) {
+        int capacity = Math.max(other.numEntries, 1);
+        this.turns = Arrays.copyOf(other.turns, capacity);
+        this.players = Arrays.copyOf(other.players, capacity);
+        this.itemTypeOrdinals = Arrays.copyOf(other.itemTypeOrdinals, capacity);
+        this.numSold = Arrays.copyOf(other.numSold, capacity);
+        this.unitPrices = Arrays.copyOf(other.unitPrices, capacity);
+        this.pricesAfterSale = Arrays.copyOf(other.pricesAfterSale, capacity);
+        this.numEntries = other.numEntries;
+        copyTotalsFrom(other);
+    }
+
+    /**
+     * Makes this ledger the same as another one, reusing this ledger's arrays if they are long enough
+     *
+     * @param other The ledger to copy
+     */
+    void copyFrom(SalesLedger other) {
+        if (turns.length < other.numEntries) {
+            int newCapacity = other.numEntries;
+            turns = new int[newCapacity];
+            players = new byte[newCapacity];
+            itemTypeOrdinals = new byte[newCapacity];
+            numSold = new int[newCapacity];
+            unitPrices = new int[newCapacity];
+            pricesAfterSale = new int[newCapacity];
+        }
+        System.arraycopy(other.turns, 0, turns, 0, other.numEntries);
+        System.arraycopy(other.players, 0, players, 0, other.numEntries);
+        System.arraycopy(other.itemTypeOrdinals, 0, itemTypeOrdinals, 0, other.numEntries);
+        System.arraycopy(other.numSold, 0, numSold, 0, other.numEntries);
+        System.arraycopy(other.unitPrices, 0, unitPrices, 0, other.numEntries);
+        System.arraycopy(other.pricesAfterSale, 0, pricesAfterSale, 0, other.numEntries);
+        numEntries = other.numEntries;
+        copyTotalsFrom(other);
+    }
+
+    /**
+     * Forgets every sale, keeping the arrays to fill in again
+     */
+    void clear() {
+        numEntries = 0;
+        Arrays.fill(totalRevenue, 0);
+        Arrays.fill(totalNumSold, 0);
+        Arrays.fill(totalPriceDrop, 0);
+    }
+
+    /**
+     * Adds an entry for one kind of resource sold in a sale
+     *
+     * @param turn The turn of the sale, which can't be before the turn of the last entry
+     * @param player RED_PLAYER, BLUE_PLAYER, or NO_PLAYER
+     * @param resourceType The kind of resource sold
+     * @param numOfTypeSold How many of the resource were sold
+     * @param unitPrice What each one sold for
+     * @param priceAfterSale The price of the resource once the sale lowered it
+     */
+    void recordSale(int turn, int player, ItemType resourceType, int numOfTypeSold, int unitPrice,
+                    int priceAfterSale) {
+        if (numEntries == turns.length) {
+            int newCapacity = turns.length * 2;
+            turns = Arrays.copyOf(turns, newCapacity);
+            players = Arrays.copyOf(players, newCapacity);
+            itemTypeOrdinals = Arrays.copyOf(itemTypeOrdinals, newCapacity);
+            numSold = Arrays.copyOf(numSold, newCapacity);
+            unitPrices = Arrays.copyOf(unitPrices, newCapacity);
+            pricesAfterSale = Arrays.copyOf(pricesAfterSale, newCapacity);
+        }
+
+        turns[numEntries] = turn;
+        players[numEntries] = (byte) player;
+        itemTypeOrdinals[numEntries] = (byte) resourceType.ordinal();
+        numSold[numEntries] = numOfTypeSold;
+        unitPrices[numEntries] = unitPrice;
+        pricesAfterSale[numEntries] = priceAfterSale;
+        numEntries++;
+
+        if (player != NO_PLAYER) {
+            int totalIndex = getTotalIndex(player, resourceType);
+            totalRevenue[totalIndex] += ((long) numOfTypeSold) * unitPrice;
+            totalNumSold[totalIndex] += numOfTypeSold;
+            totalPriceDrop[totalIndex] += unitPrice - priceAfterSale;
+        }
+    }
+
+    public int getNumEntries() {
+        return numEntries;
+    }
+
+    public int getTurn(int entry) {
+        return turns[checkEntry(entry)];
+    }
+
+    /**
+     * @return RED_PLAYER, BLUE_PLAYER, or NO_PLAYER
+     */
+    public int getPlayer(int entry) {
+        return players[checkEntry(entry)];
+    }
+
+    public ItemType getItemType(int entry) {
+        return ITEM_TYPES[itemTypeOrdinals[checkEntry(entry)]];
+    }
+
+    public int getNumSold(int entry) {
+        return numSold[checkEntry(entry)];
+    }
+
+    /**
+     * @return What each resource in the entry sold for, which was the price before the sale
+     */
+    public int getUnitPrice(int entry) {
+        return unitPrices[checkEntry(entry)];
+    }
+
+    public int getPriceAfterSale(int entry) {
+        return pricesAfterSale[checkEntry(entry)];
+    }
+
+    /**
+     * @param player RED_PLAYER or BLUE_PLAYER
+     * @param resourceType The kind of resource to total
+     * @return Everything the player has earned selling the resource this game
+     */
+    public long getRevenue(int player, ItemType resourceType) {
+        return totalRevenue[getTotalIndex(player, resourceType)];
+    }
+
+    /**
+     * @param player RED_PLAYER or BLUE_PLAYER
+     * @param resourceType The kind of resource to total
+     * @return How many of the resource the player has sold this game
+     */
+    public int getNumSold(int player, ItemType resourceType) {
+        return totalNumSold[getTotalIndex(player, resourceType)];
+    }
+
+    /**
+     * @param player RED_PLAYER or BLUE_PLAYER
+     * @param resourceType The kind of resource to total
+     * @return How much the player's sales have lowered the price of the resource this game, adding up the drop
+     *          caused by each sale
+     */
+    public long getPriceDrop(int player, ItemType resourceType) {
+        return totalPriceDrop[getTotalIndex(player, resourceType)];
+    }
+
+    /**
+     * @param turn The turn to total
+     * @return Everything earned by sales on the turn, by any player
+     */
+    public long getRevenueOnTurn(int turn) {
+        long revenue = 0;
+        for (int entry = findFirstEntry(turn); entry < numEntries && turns[entry] == turn; entry++) {
+            revenue += ((long) numSold[entry]) * unitPrices[entry];
+        }
+        return revenue;
+    }
+
+    /**
+     * @param turn The turn to total
+     * @param resourceType The kind of resource to total
+     * @return How many of the resource were sold on the turn, by any player
+     */
+    public int getNumSoldOnTurn(int turn, ItemType resourceType) {
+        int numSoldOnTurn = 0;
+        for (int entry = findFirstEntry(turn); entry < numEntries && turns[entry] == turn; entry++) {
+            if (itemTypeOrdinals[entry] == resourceType.ordinal()) {
+                numSoldOnTurn += numSold[entry];
+            }
+        }
+        return numSoldOnTurn;
+    }
+
+    /**
+     * Writes every entry as comma separated values, one line per entry after a header line naming the columns
+     *
+     * @param out Where to write the entries, like a FileWriter or StringBuilder
+     * @throws IOException If there is an issue writing to out
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        out.append("turn,player,item_type,num_sold,unit_price,price_after_sale\n");
+        for (int entry = 0; entry < numEntries; entry++) {
+            out.append(String.valueOf(turns[entry])).append(',')
+               .append(getPlayerName(players[entry])).append(',')
+               .append(ITEM_TYPES[itemTypeOrdinals[entry]].name()).append(',')
+               .append(String.valueOf(numSold[entry])).append(',')
+               .append(String.valueOf(unitPrices[entry])).append(',')
+               .append(String.valueOf(pricesAfterSale[entry])).append('\n');
+        }
+    }
+
+    private void copyTotalsFrom(SalesLedger other) {
+        System.arraycopy(other.totalRevenue, 0, totalRevenue, 0, totalRevenue.length);
+        System.arraycopy(other.totalNumSold, 0, totalNumSold, 0, totalNumSold.length);
+        System.arraycopy(other.totalPriceDrop, 0, totalPriceDrop, 0, totalPriceDrop.length);
+    }
+
+    /**
+     * @return The index of the first entry on or after a turn, or getNumEntries() if there isn't one
+     */
+    private int findFirstEntry(int turn) {
+        int low = 0;
+        int high = numEntries;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (turns[middle] < turn) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int checkEntry(int entry) {
+        if (entry < 0 || entry >= numEntries) {
+            throw new IndexOutOfBoundsException("Entry " + entry + " of a ledger with " + numEntries + " entries");
+        }
+        return entry;
+    }
+
+    private static int getTotalIndex(int player, ItemType resourceType) {
+        if (player != RED_PLAYER && player != BLUE_PLAYER) {
+            throw new IllegalArgumentException("Totals are only kept for RED_PLAYER and BLUE_PLAYER, not " + player);
+        }
+        return player * ITEM_TYPES.length + resourceType.ordinal();
+    }
+
+    private static String getPlayerName(int player) {
+        switch (player) {
+            case RED_PLAYER:
+                return "red";
+            case BLUE_PLAYER:
+                return "blue";
+            default:
+                return "none";
+        }
+    }
+}
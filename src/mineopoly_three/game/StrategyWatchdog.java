@@ -0,0 +1,206 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.strategy.BoardChange;
+import mineopoly_three.strategy.IncrementalMinePlayerStrategy;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Calls MinePlayerStrategy.getTurnAction() on a separate worker thread so the GameEngine can stop waiting
+ *  on a strategy once its deadline passes. A strategy that misses its deadline is interrupted, but Java can't
+ *  force it to stop, so it may keep running on the worker thread and its result is thrown away when it returns.
+ * Until then the strategy must not be called again, or two threads would be inside it at once. The GameEngine
+ *  checks isStillRunning() before every call, and every turn the strategy is still running counts as timed out.
+ * A TurnAction is requested and then waited for separately, so the GameEngine can have both players'
+ *  strategies deciding at once, each on its own watchdog
+ */
+class StrategyWatchdog {
+    private ExecutorService strategyWorker;
+    // The strategy inside a call started by this watchdog. Cleared by the worker once the call returns, even if
+    //  the engine stopped waiting for it long before then
+    private final AtomicReference<MinePlayerStrategy> strategyInCall = new AtomicReference<>();
+
+    /**
+     * A TurnAction a strategy returned, along with how long the strategy took to decide on it. This only counts
+     *  time spent on the worker thread, not time spent waiting for the worker
+     */
+    static final class StrategyDecision {
+        final TurnAction turnAction;
+        final long decisionNanos;
+
+        private StrategyDecision(TurnAction turnAction, long decisionNanos) {
+            this.turnAction = turnAction;
+            this.decisionNanos = decisionNanos;
+        }
+    }
+
+    /**
+     * Starts a strategy deciding on its TurnAction on this watchdog's worker thread, without waiting for it
+     *
+     * @param strategy The strategy to ask
+     * @param boardView The view of the board to give the strategy
+     * @param boardChanges The changes to give an IncrementalMinePlayerStrategy first, or null for other strategies
+     * @param economy The game's economy to give the strategy
+     * @param currentCharge The player's current charge
+     * @param isRedTurn Whether red has priority on this turn
+     * @return The pending decision, to pass to awaitTurnAction()
+     * @throws IllegalStateException If the strategy is still running a call this watchdog stopped waiting for
+     */
+    Future<StrategyDecision> requestTurnAction(MinePlayerStrategy strategy, PlayerBoardView boardView,
+                                               List<BoardChange> boardChanges, Economy economy, int currentCharge,
+                                               boolean isRedTurn) {
+        if (isStillRunning(strategy)) {
+            throw new IllegalStateException("The strategy has not returned from a call that ran out of time");
+        }
+        if (strategyWorker == null) {
+            strategyWorker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread workerThread = new Thread(runnable, "Mine-opoly strategy worker");
+                workerThread.setDaemon(true);
+                return workerThread;
+            });
+        }
+
+        // Taking in the board changes is part of the strategy's turn, so it runs against the same deadline
+        strategyInCall.set(strategy);
+        StrategyCall strategyCall = new StrategyCall(strategy, strategyInCall, () -> {
+            long startTime = System.nanoTime();
+            if (boardChanges != null) {
+                ((IncrementalMinePlayerStrategy) strategy).onBoardChanges(boardChanges);
+            }
+            TurnAction turnAction = strategy.getTurnAction(boardView, economy, currentCharge, isRedTurn);
+            return new StrategyDecision(turnAction, System.nanoTime() - startTime);
+        });
+        strategyWorker.execute(strategyCall);
+        return strategyCall;
+    }
+
+    /**
+     * Waits for a TurnAction started by requestTurnAction(), giving up once the time allowed runs out
+     *
+     * @param pendingDecision The pending decision returned by requestTurnAction()
+     * @param timeAllowedNanos The most time to wait in nanoseconds, or Long.MAX_VALUE to wait as long as it takes
+     * @return The TurnAction returned by the strategy and how long it took
+     * @throws TimeoutException If the strategy did not return before the time allowed ran out
+     */
+    StrategyDecision awaitTurnAction(Future<StrategyDecision> pendingDecision, long timeAllowedNanos)
+            throws TimeoutException {
+        try {
+            if (timeAllowedNanos == Long.MAX_VALUE) {
+                return pendingDecision.get();
+            }
+            return pendingDecision.get(Math.max(timeAllowedNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Interrupt the strategy in case it checks. The worker is kept, since the strategy won't be called
+            //  again until it returns, and by then the worker is free for the next call. A call the worker
+            //  hadn't started yet never will be, see StrategyCall
+            pendingDecision.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            // Rethrow whatever the strategy threw as if it had been called on this thread
+            Throwable strategyException = e.getCause();
+            if (strategyException instanceof RuntimeException) {
+                throw (RuntimeException) strategyException;
+            } else if (strategyException instanceof Error) {
+                throw (Error) strategyException;
+            }
+            throw new RuntimeException(strategyException);
+        } catch (InterruptedException e) {
+            pendingDecision.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a strategy's turn action", e);
+        }
+    }
+
+    /**
+     * Tells whether a decision that has finished, timed out, or been cancelled ever reached the strategy. A call the
+     *  strategy took too long on still counts, since the strategy was given the call's board changes
+     *
+     * @param pendingDecision The pending decision returned by requestTurnAction()
+     * @return True if the worker called the strategy, false if the call was cancelled before the worker got to it
+     */
+    boolean wasCalled(Future<StrategyDecision> pendingDecision) {
+        return ((StrategyCall) pendingDecision).wasCalled();
+    }
+
+    /**
+     * @param strategy The strategy about to be called
+     * @return True if the strategy is still inside a call this watchdog started, including one that ran out of
+     *          time, in which case it must not be called again yet
+     */
+    boolean isStillRunning(MinePlayerStrategy strategy) {
+        return strategy != null && strategyInCall.get() == strategy;
+    }
+
+    /**
+     * A call to a strategy waiting for or running on the worker thread. The strategy counts as running from when
+     *  the call is requested until it returns, or until it is cancelled before the worker got to it, since then
+     *  the strategy is never called at all
+     */
+    private static final class StrategyCall extends FutureTask<StrategyDecision> {
+        private final MinePlayerStrategy strategy;
+        private final AtomicReference<MinePlayerStrategy> strategyInCall;
+        // Claimed by whichever comes first, the worker starting the call or the call being cancelled
+        private final AtomicBoolean claimed;
+        private volatile boolean cancelledBeforeStart;
+
+        StrategyCall(MinePlayerStrategy strategy, AtomicReference<MinePlayerStrategy> strategyInCall,
+                     Callable<StrategyDecision> decision) {
+            this(strategy, strategyInCall, decision, new AtomicBoolean());
+        }
+
+        private StrategyCall(MinePlayerStrategy strategy, AtomicReference<MinePlayerStrategy> strategyInCall,
+                             Callable<StrategyDecision> decision, AtomicBoolean claimed) {
+            super(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    // Cancelled just as the worker got to it, so the strategy is never called
+                    return null;
+                }
+                try {
+                    return decision.call();
+                } finally {
+                    strategyInCall.compareAndSet(strategy, null);
+                }
+            });
+            this.strategy = strategy;
+            this.strategyInCall = strategyInCall;
+            this.claimed = claimed;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (claimed.compareAndSet(false, true)) {
+                // The worker hasn't started the call and now never will, so the strategy isn't running
+                cancelledBeforeStart = true;
+                strategyInCall.compareAndSet(strategy, null);
+            }
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        boolean wasCalled() {
+            return claimed.get() && !cancelledBeforeStart;
+        }
+    }
+
+    /**
+     * Stops the current worker thread, if there is one. A new worker is started by the next call that needs one
+     */
+    void shutdown() {
+        if (strategyWorker != null) {
+            strategyWorker.shutdownNow();
+            strategyWorker = null;
+        }
+    }
+}
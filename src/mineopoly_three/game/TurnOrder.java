@@ -0,0 +1,15 @@
+package mineopoly_three.game;
+
+/**
+ * How the GameEngine asks the two strategies for their TurnActions each turn
+ */
+public enum TurnOrder {
+    /** The player with priority decides and acts first, then the other player decides from the board after it */
+    SEQUENTIAL,
+    /**
+     * Both strategies decide at the same time on their own threads, from views made before either acts, then the
+     *  actions are performed with the player with priority first. Neither strategy sees the other's move until the
+     *  next turn, and a turn takes about as long as the slower strategy instead of both strategies together
+     */
+    SIMULTANEOUS
+}
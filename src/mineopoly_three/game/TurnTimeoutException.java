@@ -0,0 +1,11 @@
+package mineopoly_three.game;
+
+/**
+ * Thrown by the GameEngine when a strategy runs out of time on a turn and the TurnTimeoutPolicy is FORFEIT, or when
+ *  a game starts while the strategy still hasn't returned from a turn it ran out of time on in an earlier game
+ */
+public class TurnTimeoutException extends RuntimeException {
+    public TurnTimeoutException(String message) {
+        super(message);
+    }
+}
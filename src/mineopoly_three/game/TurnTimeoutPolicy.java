@@ -0,0 +1,11 @@
+package mineopoly_three.game;
+
+/**
+ * What the GameEngine does when a strategy takes longer than it is allowed to decide on its TurnAction
+ */
+public enum TurnTimeoutPolicy {
+    /** The player does nothing on the turn it ran out of time on, and the game continues */
+    SKIP_TURN,
+    /** The player forfeits the game exactly as if its strategy had thrown an exception */
+    FORFEIT
+}
@@ -8,6 +8,7 @@ import mineopoly_three.tiles.RechargeTile;
 import mineopoly_three.tiles.ResourceTile;
 import mineopoly_three.tiles.Tile;
 import mineopoly_three.tiles.TileType;
+import mineopoly_three.util.SeedStream;
 
 import java.awt.Point;
 import java.util.Arrays;
@@ -22,10 +23,41 @@ import java.util.Random;
 public class WorldGenerator {
     private static final float RANDOM_RESOURCE_CHANCE = 0.2f;
     private static final int MAX_EMPTY_TILE_SEARCHES = 50;
+    private static final ItemType[] RESOURCE_TYPES =
+            Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new);
     private final Random randomGenerator;
+    private ResourcePlacement resourcePlacement;
+    // The tile indices of the empty tiles in a ring for ResourcePlacement.CANDIDATE_LIST, kept between boards
+    private int[] candidateTiles;
 
     public WorldGenerator(long rngSeedValue) {
         this.randomGenerator = new Random(rngSeedValue);
+        this.resourcePlacement = ResourcePlacement.REJECTION_SAMPLING;
+        this.candidateTiles = new int[0];
+    }
+
+    /**
+     * Restarts this generator's random sequence, so the next board generated is the same as one generated by
+     *  a new WorldGenerator with this seed value
+     *
+     * @param rngSeedValue The new seed value for the random number generator
+     */
+    protected void setSeed(long rngSeedValue) {
+        randomGenerator.setSeed(rngSeedValue);
+    }
+
+    /**
+     * Sets how the boards this generates from now on place their resources. The same seed still always gives the
+     *  same board, but not the same board under each ResourcePlacement
+     *
+     * @param resourcePlacement How to pick the tiles resources spawn on, REJECTION_SAMPLING by default
+     */
+    protected void setResourcePlacement(ResourcePlacement resourcePlacement) {
+        this.resourcePlacement = resourcePlacement;
+    }
+
+    protected ResourcePlacement getResourcePlacement() {
+        return resourcePlacement;
     }
 
     /**
@@ -47,13 +79,26 @@ public class WorldGenerator {
         }
 
         GameBoard board = new GameBoard(tilesOnBoard);
+        this.populateBoard(board);
+        return board;
+    }
+
+    /**
+     * Generates a new world on top of an existing GameBoard instead of allocating a new one. The board is cleared
+     *  back to empty tiles in place, then filled the same way generateBoard() would fill a brand-new board
+     *
+     * @param board The GameBoard to reuse, which keeps its current size
+     */
+    protected void regenerateBoard(GameBoard board) {
+        board.resetToEmptyTiles();
+        this.populateBoard(board);
+    }
 
+    private void populateBoard(GameBoard board) {
         this.addChargingTiles(board);
         this.addMarketTiles(board);
         this.generateResources(board);
         this.addAutominerTiles(board);
-
-        return board;
     }
 
     private void addChargingTiles(GameBoard board) {
@@ -69,9 +114,9 @@ public class WorldGenerator {
 
     private void addMarketTiles(GameBoard board) {
         int boardSize = board.getSize();
-        Point redLowerMarketPoint = new Point(boardSize / 4, boardSize * 3 / 4);
+        Point redLowerMarketPoint = getRedStartLocation(boardSize);
         Point redUpperMarketPoint = new Point(boardSize * 3 / 4, boardSize / 4);
-        Point blueLowerMarketPoint = new Point(boardSize * 3 / 4, boardSize * 3 / 4);
+        Point blueLowerMarketPoint = getBlueStartLocation(boardSize);
         Point blueUpperMarketPoint = new Point(boardSize / 4, boardSize / 4);
 
         board.setTileAtTileLocation(new MarketTile(redLowerMarketPoint, true));
@@ -84,56 +129,241 @@ public class WorldGenerator {
         board.setBlueStartLocation(blueLowerMarketPoint);
     }
 
+    /**
+     * @return Where the red player starts on a generated board of a size, which is on their lower market
+     */
+    static Point getRedStartLocation(int boardSize) {
+        return new Point(boardSize / 4, boardSize * 3 / 4);
+    }
+
+    /**
+     * @return Where the blue player starts on a generated board of a size, which is on their lower market
+     */
+    static Point getBlueStartLocation(int boardSize) {
+        return new Point(boardSize * 3 / 4, boardSize * 3 / 4);
+    }
+
+    /**
+     * @return Where the autominers every generated board starts with are, for a board of a size
+     */
+    static Point[] getStartingAutominerLocations(int boardSize) {
+        return new Point[] {new Point(1, boardSize - 2), new Point(boardSize - 2, boardSize - 2)};
+    }
+
     private void generateResources(GameBoard board) {
         assert board.getSize() >= 10;
         final int numTilesOnBoard = board.getSize() * board.getSize();
         final int halfBoardSize = board.getSize() / 2;
-        final ItemType[] resourceTypes = Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new);
 
         // Spawn rings of resources at increasing distances around the center of the board
-        for (ItemType currentResourceType : resourceTypes) {
+        for (ItemType currentResourceType : RESOURCE_TYPES) {
             int numResourceTilesToSpawn = (int) (numTilesOnBoard * currentResourceType.getSpawnCountRatio());
             double minRadius = halfBoardSize * currentResourceType.getMinSpawnDistanceRatio();
             double maxRadius = halfBoardSize * currentResourceType.getMaxSpawnDistanceRatio();
 
-            for (int i = 0; i < numResourceTilesToSpawn; i++) {
-                // Get a random empty tile location, unless we can't find one
-                int randomX;
-                int randomY;
-                boolean tileEmpty;
-                int numAttempts = 0;
-                do {
-                    double randomAngle = randomGenerator.nextDouble() * (2 * Math.PI);
-                    double randomRadius = randomGenerator.nextDouble() * (maxRadius - minRadius) + minRadius;
-                    randomX = (int) (randomRadius * Math.cos(randomAngle)) + halfBoardSize;
-                    randomY = (int) (randomRadius * Math.sin(randomAngle)) + halfBoardSize;
-
-                    numAttempts++;
-                    tileEmpty = (board.getTileAtLocation(randomX, randomY).getType() == TileType.EMPTY);
-                } while (!tileEmpty && (numAttempts <= MAX_EMPTY_TILE_SEARCHES));
-
-                if (!tileEmpty) {
-                    // Could not find an empty tile in a lot of random attempts, skip this iteration
+            if (resourcePlacement == ResourcePlacement.CANDIDATE_LIST) {
+                placeFromCandidates(board, currentResourceType, numResourceTilesToSpawn, minRadius, maxRadius);
+            } else {
+                placeByRejectionSampling(board, currentResourceType, numResourceTilesToSpawn, minRadius, maxRadius);
+            }
+        }
+    }
+
+    private void placeByRejectionSampling(GameBoard board, ItemType currentResourceType, int numResourceTilesToSpawn,
+                                          double minRadius, double maxRadius) {
+        final int halfBoardSize = board.getSize() / 2;
+        for (int i = 0; i < numResourceTilesToSpawn; i++) {
+            // Get a random empty tile location, unless we can't find one
+            int randomX;
+            int randomY;
+            boolean tileEmpty;
+            int numAttempts = 0;
+            do {
+                double randomAngle = randomGenerator.nextDouble() * (2 * Math.PI);
+                double randomRadius = randomGenerator.nextDouble() * (maxRadius - minRadius) + minRadius;
+                randomX = (int) (randomRadius * Math.cos(randomAngle)) + halfBoardSize;
+                randomY = (int) (randomRadius * Math.sin(randomAngle)) + halfBoardSize;
+
+                numAttempts++;
+                tileEmpty = (board.getTileAtLocation(randomX, randomY).getType() == TileType.EMPTY);
+            } while (!tileEmpty && (numAttempts <= MAX_EMPTY_TILE_SEARCHES));
+
+            if (!tileEmpty) {
+                // Could not find an empty tile in a lot of random attempts, skip this iteration
+                continue;
+            }
+
+            // Plop this resource down at the random empty tile
+            Point randomLocation = new Point(randomX, randomY);
+            Tile resourceTile = new ResourceTile(randomLocation, pickTypeToSpawn(currentResourceType));
+            board.setTileAtTileLocation(resourceTile);
+        }
+    }
+
+    /**
+     * Lists the empty tiles in a ring, then spawns resources on tiles drawn from the list without replacement by
+     *  shuffling only as much of the list as is used
+     */
+    private void placeFromCandidates(GameBoard board, ItemType currentResourceType, int numResourceTilesToSpawn,
+                                     double minRadius, double maxRadius) {
+        final int boardSize = board.getSize();
+        final int halfBoardSize = boardSize / 2;
+        // Only tiles in the square around the ring can be in it
+        final int ringReach = (int) Math.ceil(maxRadius) + 1;
+        final int firstCoordinate = Math.max(halfBoardSize - ringReach, 0);
+        final int lastCoordinate = Math.min(halfBoardSize + ringReach, boardSize - 1);
+
+        int numCandidates = 0;
+        for (int y = firstCoordinate; y <= lastCoordinate; y++) {
+            for (int x = firstCoordinate; x <= lastCoordinate; x++) {
+                // Rejection sampling rounds offsets from the center towards zero, so a tile holds every point
+                //  between |offset| and |offset| + 1 from the center along each axis. Take the same tiles it could
+                int nearX = Math.abs(x - halfBoardSize);
+                int nearY = Math.abs(y - halfBoardSize);
+                double nearestRadius = Math.sqrt(nearX * nearX + nearY * nearY);
+                double furthestRadius = Math.sqrt((nearX + 1) * (nearX + 1) + (nearY + 1) * (nearY + 1));
+                if (nearestRadius >= maxRadius || furthestRadius <= minRadius
+                    || board.getTileAtLocation(x, y).getType() != TileType.EMPTY) {
                     continue;
                 }
 
-                // Rarely spawn a resource of a different type
-                ItemType typeToSpawn = currentResourceType;
-                if (randomGenerator.nextFloat() <= RANDOM_RESOURCE_CHANCE) {
-                    int randomIndex = randomGenerator.nextInt(resourceTypes.length);
-                    typeToSpawn = resourceTypes[randomIndex];
+                if (numCandidates == candidateTiles.length) {
+                    candidateTiles = Arrays.copyOf(candidateTiles, Math.max(2 * numCandidates, 64));
                 }
-
-                // Plop this resource down at the random empty tile
-                Point randomLocation = new Point(randomX, randomY);
-                Tile resourceTile = new ResourceTile(randomLocation, typeToSpawn);
-                board.setTileAtTileLocation(resourceTile);
+                candidateTiles[numCandidates++] = x + y * boardSize;
             }
         }
+
+        // A ring can't hold more resources than it has empty tiles
+        int numToSpawn = Math.min(numResourceTilesToSpawn, numCandidates);
+        for (int i = 0; i < numToSpawn; i++) {
+            int drawnIndex = i + randomGenerator.nextInt(numCandidates - i);
+            int drawnTile = candidateTiles[drawnIndex];
+            candidateTiles[drawnIndex] = candidateTiles[i];
+            candidateTiles[i] = drawnTile;
+
+            Point drawnLocation = new Point(drawnTile % boardSize, drawnTile / boardSize);
+            board.setTileAtTileLocation(new ResourceTile(drawnLocation, pickTypeToSpawn(currentResourceType)));
+        }
+    }
+
+    private ItemType pickTypeToSpawn(ItemType currentResourceType) {
+        // Rarely spawn a resource of a different type
+        ItemType typeToSpawn = currentResourceType;
+        if (randomGenerator.nextFloat() <= RANDOM_RESOURCE_CHANCE) {
+            int randomIndex = randomGenerator.nextInt(RESOURCE_TYPES.length);
+            typeToSpawn = RESOURCE_TYPES[randomIndex];
+        }
+        return typeToSpawn;
     }
 
     private void addAutominerTiles(GameBoard board) {
-        board.getTileAtLocation(1, board.getSize() - 2).getItemsOnTile().add(new InventoryItem(ItemType.AUTOMINER));
-        board.getTileAtLocation(board.getSize() - 2, board.getSize() - 2).getItemsOnTile().add(new InventoryItem(ItemType.AUTOMINER));
+        for (Point autominerLocation : getStartingAutominerLocations(board.getSize())) {
+            addAutominer(board, board.getTileAtLocation(autominerLocation));
+        }
+    }
+
+    private void addAutominer(GameBoard board, Tile tile) {
+        // Players can't see these in their views, so they aren't tracked as items on the ground
+        tile.getItemsOnTile().add(new InventoryItem(ItemType.AUTOMINER));
+        board.trackAutominerOnPoint(tile.getLocation(), tile.getItemsOnTile());
+    }
+
+    /**
+     * Generates the tiles of one square chunk of a board without generating the rest of it, for boards too big
+     *  to generate all at once. Each chunk draws from its own random sequence derived from the seed, so a chunk
+     *  always gets the same tiles no matter which other chunks were generated before it.
+     * Chunks get the recharge square and markets generateBoard() would give the whole board, and resources in the
+     *  same rings at about the same density, but not on the same tiles generateBoard() would pick for the seed.
+     *  Autominers are left for the caller to add
+     *
+     * @param rngSeedValue The seed value for the whole board
+     * @param boardSize The width and height of the whole board
+     * @param chunkNumber A number for the chunk which is different for every chunk on the board
+     * @param firstX The x coordinate of the chunk's bottom left tile
+     * @param firstY The y coordinate of the chunk's bottom left tile
+     * @param chunkSize The width and height of the chunk
+     * @param tileCodes Where to put the BoardSnapshot code of each tile, numbered (x - firstX) + (y - firstY) *
+     *                  chunkSize. Codes for tiles past the edge of the board are left alone
+     */
+    static void generateChunk(long rngSeedValue, int boardSize, int chunkNumber, int firstX, int firstY,
+                              int chunkSize, byte[] tileCodes) {
+        assert boardSize >= 10;
+        Random chunkRandomGenerator = new Random(SeedStream.deriveSeed(rngSeedValue, chunkNumber));
+        final long numTilesOnBoard = (long) boardSize * boardSize;
+        final int halfBoardSize = boardSize / 2;
+        final int lastX = Math.min(firstX + chunkSize, boardSize) - 1;
+        final int lastY = Math.min(firstY + chunkSize, boardSize) - 1;
+
+        for (int y = firstY; y <= lastY; y++) {
+            for (int x = firstX; x <= lastX; x++) {
+                int tileIndex = (x - firstX) + (y - firstY) * chunkSize;
+                tileCodes[tileIndex] = getFixedTileCode(boardSize, x, y);
+                if (tileCodes[tileIndex] != BoardSnapshot.EMPTY_TILE) {
+                    continue;
+                }
+
+                // generateResources() rounds offsets from the center towards zero, so measure from the middle
+                //  of the range of offsets that land on this tile
+                double xOffset = getOffsetFromCenter(x, halfBoardSize);
+                double yOffset = getOffsetFromCenter(y, halfBoardSize);
+                double radius = Math.sqrt(xOffset * xOffset + yOffset * yOffset);
+                for (ItemType currentResourceType : RESOURCE_TYPES) {
+                    double minRadius = halfBoardSize * currentResourceType.getMinSpawnDistanceRatio();
+                    double maxRadius = halfBoardSize * currentResourceType.getMaxSpawnDistanceRatio();
+                    if (radius < minRadius || radius >= maxRadius) {
+                        continue;
+                    }
+
+                    // generateResources() picks radii evenly between the ring's edges, so every circle around the
+                    //  center gets the same share of the ring's resources however long it is
+                    int numResourceTilesToSpawn = (int) (numTilesOnBoard * currentResourceType.getSpawnCountRatio());
+                    double spawnChance = numResourceTilesToSpawn / (2 * Math.PI * radius * (maxRadius - minRadius));
+                    if (chunkRandomGenerator.nextDouble() >= spawnChance) {
+                        continue;
+                    }
+
+                    // Rarely spawn a resource of a different type
+                    ItemType typeToSpawn = currentResourceType;
+                    if (chunkRandomGenerator.nextFloat() <= RANDOM_RESOURCE_CHANCE) {
+                        int randomIndex = chunkRandomGenerator.nextInt(RESOURCE_TYPES.length);
+                        typeToSpawn = RESOURCE_TYPES[randomIndex];
+                    }
+                    tileCodes[tileIndex] = (byte) (BoardSnapshot.FIRST_RESOURCE_TILE + typeToSpawn.ordinal());
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The code of the recharge or market tile generateBoard() puts at (x, y), or an empty tile's code
+     */
+    private static byte getFixedTileCode(int boardSize, int x, int y) {
+        int halfBoardSize = boardSize / 2;
+        if ((x == halfBoardSize - 1 || x == halfBoardSize) && (y == halfBoardSize - 1 || y == halfBoardSize)) {
+            return BoardSnapshot.RECHARGE_TILE;
+        }
+
+        int lowerMarketCoordinate = boardSize / 4;
+        int upperMarketCoordinate = boardSize * 3 / 4;
+        if (x == lowerMarketCoordinate && y == upperMarketCoordinate) {
+            return BoardSnapshot.RED_MARKET_TILE;
+        } else if (x == upperMarketCoordinate && y == lowerMarketCoordinate) {
+            return BoardSnapshot.RED_MARKET_TILE;
+        } else if (x == upperMarketCoordinate && y == upperMarketCoordinate) {
+            return BoardSnapshot.BLUE_MARKET_TILE;
+        } else if (x == lowerMarketCoordinate && y == lowerMarketCoordinate) {
+            return BoardSnapshot.BLUE_MARKET_TILE;
+        }
+        return BoardSnapshot.EMPTY_TILE;
+    }
+
+    private static double getOffsetFromCenter(int coordinate, int halfBoardSize) {
+        int offset = coordinate - halfBoardSize;
+        if (offset == 0) {
+            return 0;
+        }
+        return (offset > 0) ? offset + 0.5 : offset - 0.5;
     }
 }
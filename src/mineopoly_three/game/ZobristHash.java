@@ -0,0 +1,97 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.tiles.CrackedTile;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.Tile;
+
+import java.util.List;
+
+/**
+ * The keys that Zobrist hashes of the game state are made of. A Zobrist hash is the XOR of one key for every fact
+ *  about the state, like "tile 12 is a ruby tile" or "red carries 3 diamonds", so when one fact changes the hash
+ *  is updated by XORing out the old fact's key and XORing in the new one, without looking at the rest of the state.
+ * Keys are made by mixing the numbers describing a fact rather than looked up in a table of random numbers, so
+ *  facts with unbounded values like scores have keys too, and the same state always hashes the same way, even in
+ *  different runs. Items are hashed by how many of each ItemType there are, not by the order of the list
+ */
+final class ZobristHash {
+    static final int TILE_TYPE = 1;
+    static final int TIMES_MINED = 2;
+    static final int ITEMS_ON_TILE = 3;
+    static final int ITEMS_ON_GROUND = 4;
+    static final int AUTOMINER_TURNS_MINED = 5;
+    static final int PLAYER_LOCATION = 6;
+    static final int PLAYER_ENERGY = 7;
+    static final int PLAYER_SCORE = 8;
+    static final int PLAYER_INVENTORY = 9;
+    static final int RESOURCE_PRICE = 10;
+    static final int RED_TURN = 11;
+
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+    // The same constants SplittableRandom uses to turn a counter into random looking numbers
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private ZobristHash() {
+    }
+
+    /**
+     * @param fact Which kind of fact, one of the constants in this class
+     * @param index What the fact is about, like a tile index, or a different number for each player
+     * @param value The value the fact has, like a tile's type or a player's score
+     * @return The key for the fact
+     */
+    static long key(int fact, long index, long value) {
+        long key = mix(fact * GOLDEN_GAMMA);
+        key = mix(key + index * GOLDEN_GAMMA);
+        return mix(key + value * GOLDEN_GAMMA);
+    }
+
+    /**
+     * @return The key for what kind of tile is at a tile index, including how far a resource tile has been mined
+     */
+    static long hashTile(int tileIndex, Tile tile) {
+        // Cracked tiles show up as empty tiles, but autominers treat them differently
+        int tileKind = tile.getType().ordinal() * 2 + ((tile instanceof CrackedTile) ? 1 : 0);
+        long tileHash = key(TILE_TYPE, tileIndex, tileKind);
+        if (tile instanceof ResourceTile) {
+            tileHash ^= key(TIMES_MINED, tileIndex, ((ResourceTile) tile).getNumTimesMined());
+        }
+        return tileHash;
+    }
+
+    /**
+     * @param fact Which kind of items these are, like ITEMS_ON_TILE or PLAYER_INVENTORY
+     * @param index What the items belong to, like a tile index
+     * @return The XOR of a key for how many of each ItemType are in the list, or 0 for an empty list
+     */
+    static long hashItems(int fact, long index, List<InventoryItem> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        long itemsHash = 0;
+        for (ItemType itemType : ITEM_TYPES) {
+            int numOfType = 0;
+            for (InventoryItem item : items) {
+                if (item.getItemType() == itemType) {
+                    numOfType++;
+                }
+            }
+            if (numOfType > 0) {
+                itemsHash ^= key(fact, index * ITEM_TYPES.length + itemType.ordinal(), numOfType);
+            }
+        }
+        return itemsHash;
+    }
+
+    /**
+     * The finishing step of SplittableRandom, which spreads every bit of the input over the whole output
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
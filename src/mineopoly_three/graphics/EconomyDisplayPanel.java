@@ -4,10 +4,8 @@ import mineopoly_three.game.Economy;
 import mineopoly_three.item.ItemType;
 
 import java.awt.*;
-import java.util.Collections;
-import java.util.List;
 import java.util.Comparator;
-import java.util.Map;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class EconomyDisplayPanel extends GameInfoDisplayPanel {
@@ -32,17 +30,15 @@ public class EconomyDisplayPanel extends GameInfoDisplayPanel {
         brush.setFont(new Font("TimesRoman", Font.PLAIN, 24));
         brush.setColor(Color.BLACK);
 
-        // Sort ResourceTypes in descending order by price
-        Map<ItemType, Integer> resourcePrices = gameEconomy.getCurrentPrices();
-        List<ItemType> resourcesSortedByPrice = resourcePrices.entrySet().stream()
-                .sorted(Collections.reverseOrder(Comparator.comparingInt(Map.Entry::getValue)))
-                .map(Map.Entry::getKey)
+        // Sort ResourceTypes in descending order by price, reading prices straight from the economy
+        List<ItemType> resourcesSortedByPrice = gameEconomy.getSellableResourceTypes().stream()
+                .sorted(Comparator.comparingInt(gameEconomy::getPrice).reversed())
                 .collect(Collectors.toList());
 
         FontMetrics fontMetrics = brush.getFontMetrics();
         for (int i = 0; i < resourcesSortedByPrice.size(); i++) {
             ItemType currentResource = resourcesSortedByPrice.get(i);
-            String resourcePriceText = "- " + String.valueOf(resourcePrices.getOrDefault(currentResource, 0));
+            String resourcePriceText = "- " + String.valueOf(gameEconomy.getPrice(currentResource));
             int resourcePriceWidth = fontMetrics.stringWidth(resourcePriceText);
 
             int resourceXPosition = (this.getWidth() - (RESOURCE_IMAGE_SIZE + resourcePriceWidth)) / 2;
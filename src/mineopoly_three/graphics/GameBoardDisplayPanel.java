@@ -1,16 +1,16 @@
 package mineopoly_three.graphics;
 
+import mineopoly_three.event.GameEvent;
+import mineopoly_three.event.GameEventListener;
 import mineopoly_three.game.GameBoard;
 
 import java.awt.*;
-import java.util.Observable;
-import java.util.Observer;
 import javax.swing.*;
 
 /**
  * A panel on the JFrame for the main.game which can display the current GameBoard
  */
-public class GameBoardDisplayPanel extends JPanel implements Observer {
+public class GameBoardDisplayPanel extends JPanel implements GameEventListener<GameEvent> {
     private GameBoard boardToRender;
     private ImageManager imageManager;
     private int preferredSize;
@@ -41,7 +41,7 @@ public class GameBoardDisplayPanel extends JPanel implements Observer {
     }
 
     @Override
-    public void update(Observable o, Object arg) {
+    public void onEvent(GameEvent event) {
         repaint();
     }
 }
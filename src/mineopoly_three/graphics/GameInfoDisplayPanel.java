@@ -1,11 +1,12 @@
 package mineopoly_three.graphics;
 
+import mineopoly_three.event.GameEvent;
+import mineopoly_three.event.GameEventListener;
+
 import javax.swing.*;
 import java.awt.*;
-import java.util.Observable;
-import java.util.Observer;
 
-public abstract class GameInfoDisplayPanel extends JPanel implements Observer {
+public abstract class GameInfoDisplayPanel extends JPanel implements GameEventListener<GameEvent> {
     private static final int DEFAULT_PANEL_HEIGHT = 110;
     protected int preferredWidth;
     protected ImageManager imageManager;
@@ -43,7 +44,7 @@ public abstract class GameInfoDisplayPanel extends JPanel implements Observer {
     }
 
     @Override
-    public void update(Observable o, Object arg) {
+    public void onEvent(GameEvent event) {
         repaint();
     }
 }
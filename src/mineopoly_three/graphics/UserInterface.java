@@ -1,5 +1,9 @@
 package mineopoly_three.graphics;
 
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.PriceChangedEvent;
+import mineopoly_three.event.SaleEvent;
+import mineopoly_three.event.TurnCompletedEvent;
 import mineopoly_three.game.Economy;
 import mineopoly_three.game.GameBoard;
 import mineopoly_three.game.GameEngine;
@@ -52,7 +56,9 @@ public class UserInterface {
 
         // Create the panel that actually renders the game board
         GameBoardDisplayPanel gameBoardDisplayPanel = new GameBoardDisplayPanel(preferredGuiWidth, board, boardImageManager);
-        engine.addObserver(gameBoardDisplayPanel);
+        // Repaint on the Event Dispatch Thread, skipping any turns that finish while a repaint is still waiting
+        engine.getEventBus().subscribeCoalescing(TurnCompletedEvent.class, gameBoardDisplayPanel,
+                                                 SwingUtilities::invokeLater);
         gameDisplayFrame.add(gameBoardDisplayPanel);
 
         // Tell the application window to resize its contents to their preferred dimensions
@@ -98,10 +104,12 @@ public class UserInterface {
         topInfoDisplayPanel.add(economyDisplayPanel);
         topInfoDisplayPanel.add(blueDisplayPanel);
 
-        // Set these panels to update when the engine tells them something changed
-        engine.addObserver(redDisplayPanel);
-        engine.addObserver(blueDisplayPanel);
-        engine.getEconomy().addObserver(economyDisplayPanel);
+        // Set these panels to update on the Event Dispatch Thread when the engine tells them something changed
+        GameEventBus eventBus = engine.getEventBus();
+        eventBus.subscribeCoalescing(TurnCompletedEvent.class, redDisplayPanel, SwingUtilities::invokeLater);
+        eventBus.subscribeCoalescing(TurnCompletedEvent.class, blueDisplayPanel, SwingUtilities::invokeLater);
+        eventBus.subscribeCoalescing(PriceChangedEvent.class, economyDisplayPanel, SwingUtilities::invokeLater);
+        eventBus.subscribeCoalescing(SaleEvent.class, economyDisplayPanel, SwingUtilities::invokeLater);
         return topInfoDisplayPanel;
     }
 }
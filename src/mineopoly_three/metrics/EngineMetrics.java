@@ -0,0 +1,71 @@
+package mineopoly_three.metrics;
+
+/**
+ * A registry of PhaseHistograms, one for each EnginePhase, that the GameEngine records turn timings into.
+ * A GameEngine's metrics cover the game it most recently played, and metrics from many games can be combined
+ *  with merge() to get percentiles for a whole batch
+ */
+public class EngineMetrics {
+    private static final EnginePhase[] allPhases = EnginePhase.values();
+    private final PhaseHistogram[] phaseHistograms;
+
+    public EngineMetrics() {
+        phaseHistograms = new PhaseHistogram[allPhases.length];
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new PhaseHistogram();
+        }
+    }
+
+    /**
+     * Records how long one occurrence of a phase took
+     *
+     * @param phase The phase that was timed
+     * @param nanos How long the phase took in nanoseconds
+     */
+    public void record(EnginePhase phase, long nanos) {
+        phaseHistograms[phase.ordinal()].record(nanos);
+    }
+
+    public PhaseHistogram getHistogram(EnginePhase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    /**
+     * Adds every timing recorded in another EngineMetrics to this one
+     *
+     * @param other The metrics to add to this one
+     * @return This EngineMetrics, so metrics from many games can be merged in a chain
+     */
+    public EngineMetrics merge(EngineMetrics other) {
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i].merge(other.phaseHistograms[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Clears every recorded timing so these metrics can be reused for another game
+     */
+    public void reset() {
+        for (PhaseHistogram phaseHistogram : phaseHistograms) {
+            phaseHistogram.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder("(Phase, count, total ms, p50 ns, p90 ns, p99 ns, max ns)");
+        for (EnginePhase phase : allPhases) {
+            PhaseHistogram histogram = getHistogram(phase);
+            summary.append(System.lineSeparator())
+                   .append(phase).append(", ")
+                   .append(histogram.getCount()).append(", ")
+                   .append(histogram.getTotalNanos() / 1_000_000).append(", ")
+                   .append(histogram.getPercentileNanos(0.5)).append(", ")
+                   .append(histogram.getPercentileNanos(0.9)).append(", ")
+                   .append(histogram.getPercentileNanos(0.99)).append(", ")
+                   .append(histogram.getMaxNanos());
+        }
+        return summary.toString();
+    }
+}
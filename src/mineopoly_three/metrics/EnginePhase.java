@@ -0,0 +1,14 @@
+package mineopoly_three.metrics;
+
+/**
+ * The parts of a turn in the GameEngine that are timed when metrics are enabled
+ */
+public enum EnginePhase {
+    // Building one player's PlayerBoardView, recorded once for each player on every turn in any TurnOrder
+    CONVERT_TO_VIEW,
+    RED_GET_TURN_ACTION,
+    BLUE_GET_TURN_ACTION,
+    PERFORM_ACTION,
+    BOARD_UPDATE,
+    INCREASE_DEMAND
+}
@@ -0,0 +1,145 @@
+package mineopoly_three.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of nanosecond durations that is cheap enough to record into on every turn.
+ * Durations are counted in buckets that double in width every 16 buckets, so each bucket covers a range of
+ *  at most 1/16th of its lowest value. Recording is a couple of bit operations and an array increment,
+ *  and percentiles are accurate to within about 6%.
+ */
+public class PhaseHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Enough buckets for any non-negative long value
+    private static final int NUM_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] bucketCounts;
+    private long count;
+    private long totalNanos;
+    private long minNanos;
+    private long maxNanos;
+
+    public PhaseHistogram() {
+        this.bucketCounts = new long[NUM_BUCKETS];
+        this.reset();
+    }
+
+    /**
+     * Records one duration into this histogram
+     *
+     * @param nanos The duration to record in nanoseconds, negative values are counted as 0
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        bucketCounts[getBucketIndex(nanos)]++;
+        count++;
+        totalNanos += nanos;
+        if (nanos < minNanos) {
+            minNanos = nanos;
+        }
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    /**
+     * Adds every duration recorded in another histogram to this one
+     *
+     * @param other The histogram to add to this one
+     */
+    public void merge(PhaseHistogram other) {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            bucketCounts[i] += other.bucketCounts[i];
+        }
+        count += other.count;
+        totalNanos += other.totalNanos;
+        minNanos = Math.min(minNanos, other.minNanos);
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    /**
+     * Clears every recorded duration so this histogram can be reused
+     */
+    public void reset() {
+        Arrays.fill(bucketCounts, 0);
+        count = 0;
+        totalNanos = 0;
+        minNanos = Long.MAX_VALUE;
+        maxNanos = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMinNanos() {
+        return (count == 0) ? 0 : minNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return (count == 0) ? 0 : ((double) totalNanos) / count;
+    }
+
+    /**
+     * Gets an approximation of the duration below which the given fraction of recorded durations fall
+     *
+     * @param percentile The fraction of durations, from 0.0 to 1.0. For example 0.99 for the 99th percentile
+     * @return The approximate duration at that percentile in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long targetCount = (long) Math.ceil(percentile * count);
+        targetCount = Math.max(1, Math.min(targetCount, count));
+        long countSoFar = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            countSoFar += bucketCounts[i];
+            if (countSoFar >= targetCount) {
+                // Report the middle of the bucket, but never outside the range that was actually recorded
+                long bucketMiddle = getBucketLowestValue(i) + (getBucketWidth(i) / 2);
+                return Math.max(getMinNanos(), Math.min(bucketMiddle, maxNanos));
+            }
+        }
+        return maxNanos;
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Keep the highest SUB_BUCKET_BITS + 1 bits of the value, and count how many lower bits were dropped
+        int highestBit = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long getBucketLowestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex / SUB_BUCKET_COUNT) - 1;
+        long subBucket = (bucketIndex % SUB_BUCKET_COUNT) + SUB_BUCKET_COUNT;
+        return subBucket << shift;
+    }
+
+    private static long getBucketWidth(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return 1;
+        }
+        return 1L << ((bucketIndex / SUB_BUCKET_COUNT) - 1);
+    }
+}
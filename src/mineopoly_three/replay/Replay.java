@@ -1,17 +1,26 @@
 package mineopoly_three.replay;
 
 import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.PlayerSeeding;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Scanner;
 
 public class Replay {
     private static final TurnAction[] allTurnActions = TurnAction.values();
+    // Encodings for turns that are not a TurnAction, after the TurnAction indices and the index for no action
+    private static final int TIMED_OUT_ACTION_CODE = allTurnActions.length + 1;
+    private static final int EXCEPTION_CODE = -1;
+    private static final int TIMEOUT_FORFEIT_CODE = -2;
+    // Files without a version line were recorded when every random number generator shared the game's seed
+    private static final String VERSION_PREFIX = "version ";
+    private static final int DERIVED_SEEDS_VERSION = 2;
 
     private int boardSize;
     private long worldSeed;
@@ -19,47 +28,95 @@ public class Replay {
     private List<TurnAction> bluePlayerActions;
     private boolean redThrewException;
     private boolean blueThrewException;
+    private BitSet redTimedOutTurns;
+    private BitSet blueTimedOutTurns;
+    private PlayerSeeding playerSeeding;
 
     public Replay(int boardSize, long worldSeed, List<TurnAction> redPlayerActions, List<TurnAction> bluePlayerActions,
                   boolean redThrewException, boolean blueThrewException) {
+        this(boardSize, worldSeed, redPlayerActions, bluePlayerActions, redThrewException, blueThrewException,
+             new BitSet(), new BitSet());
+    }
+
+    /**
+     * Creates a Replay that also knows which turns each player's strategy ran out of time on.
+     * A timed out turn index equal to the length of a player's action list means the player forfeited
+     *  on that turn by running out of time, and the player must also be marked as having thrown an exception
+     */
+    public Replay(int boardSize, long worldSeed, List<TurnAction> redPlayerActions, List<TurnAction> bluePlayerActions,
+                  boolean redThrewException, boolean blueThrewException,
+                  BitSet redTimedOutTurns, BitSet blueTimedOutTurns) {
+        this(boardSize, worldSeed, redPlayerActions, bluePlayerActions, redThrewException, blueThrewException,
+             redTimedOutTurns, blueTimedOutTurns, PlayerSeeding.DERIVED);
+    }
+
+    /**
+     * Creates a Replay of a game whose players' random number generators were seeded a particular way. Replaying
+     *  the game needs the same PlayerSeeding, since the generators decide things like moves made without energy
+     */
+    public Replay(int boardSize, long worldSeed, List<TurnAction> redPlayerActions, List<TurnAction> bluePlayerActions,
+                  boolean redThrewException, boolean blueThrewException,
+                  BitSet redTimedOutTurns, BitSet blueTimedOutTurns, PlayerSeeding playerSeeding) {
         this.boardSize = boardSize;
         this.worldSeed = worldSeed;
         this.redPlayerActions = redPlayerActions;
         this.bluePlayerActions = bluePlayerActions;
         this.redThrewException = redThrewException;
         this.blueThrewException = blueThrewException;
+        this.redTimedOutTurns = redTimedOutTurns;
+        this.blueTimedOutTurns = blueTimedOutTurns;
+        this.playerSeeding = playerSeeding;
     }
 
     /**
      * Decodes the file containing replay information into a Java Replay object
      * The file format is:
+     * version [format version]\r\n
      * [board size]\r\n
      * [world seed]\r\n
      * [red player actions]\r\n
      * [blue player actions]\r\n
-     * (where player actions are a comma separated list of TurnAction indices)
+     * (where player actions are a comma separated list of TurnAction indices, followed by -1 if the player threw
+     *  an exception or -2 if the player forfeited by running out of time. A turn on which the player ran out of
+     *  time but the game continued is encoded as one past the index used for doing nothing)
+     * The version line was added in version 2, when the players' random number generators started getting their own
+     *  seeds. Files without it are from version 1, and are replayed with PlayerSeeding.SHARED_GAME_SEED
      *
      * @param replayFilePathToRead The file path to the file containing replay information
      * @return A Replay object consisting of the information read from the file
      * @throws FileNotFoundException If Java cannot find the file at the specified path
-     * @throws NumberFormatException If there is an issue parsing any numbers in the replay file
+     * @throws NumberFormatException If there is an issue parsing any numbers in the replay file, or the file is
+     *                                from a version this code can't read
      */
     public static Replay decodeReplayFile(String replayFilePathToRead) throws FileNotFoundException {
         Scanner replayFileReader = new Scanner(new File(replayFilePathToRead));
-        int boardSize = Integer.parseInt(replayFileReader.nextLine().trim());
+        String firstLine = replayFileReader.nextLine().trim();
+        PlayerSeeding playerSeeding = PlayerSeeding.SHARED_GAME_SEED;
+        if (firstLine.startsWith(VERSION_PREFIX)) {
+            int formatVersion = Integer.parseInt(firstLine.substring(VERSION_PREFIX.length()).trim());
+            if (formatVersion != DERIVED_SEEDS_VERSION) {
+                throw new NumberFormatException("Replay files of version " + formatVersion + " are not supported");
+            }
+            playerSeeding = PlayerSeeding.DERIVED;
+            firstLine = replayFileReader.nextLine().trim();
+        }
+        int boardSize = Integer.parseInt(firstLine);
         long worldSeed = Long.parseLong(replayFileReader.nextLine().trim());
 
         // Split and decode the red and blue player actions lists
         String[] redActionEncoding = replayFileReader.nextLine().trim().split(",");
         String[] blueActionEncoding = replayFileReader.nextLine().trim().split(",");
-        List<TurnAction> redActionList = decodeActionList(redActionEncoding);
-        List<TurnAction> blueActionList = decodeActionList(blueActionEncoding);
+        BitSet redTimedOutTurns = new BitSet();
+        BitSet blueTimedOutTurns = new BitSet();
+        List<TurnAction> redActionList = decodeActionList(redActionEncoding, redTimedOutTurns);
+        List<TurnAction> blueActionList = decodeActionList(blueActionEncoding, blueTimedOutTurns);
 
         int lastRedAction = Integer.parseInt(redActionEncoding[redActionEncoding.length - 1]);
         int lastBlueAction = Integer.parseInt(blueActionEncoding[blueActionEncoding.length - 1]);
         boolean redThrewException = (lastRedAction < 0);
         boolean blueThrewException = (lastBlueAction < 0);
-        return new Replay(boardSize, worldSeed, redActionList, blueActionList, redThrewException, blueThrewException);
+        return new Replay(boardSize, worldSeed, redActionList, blueActionList, redThrewException, blueThrewException,
+                          redTimedOutTurns, blueTimedOutTurns, playerSeeding);
     }
 
     /**
@@ -78,45 +135,66 @@ public class Replay {
 
     @Override
     public String toString() {
-        String encodedRedActions = encodeActionList(redPlayerActions, redThrewException);
-        String encodedBlueActions = encodeActionList(bluePlayerActions, blueThrewException);
-        return String.join("\r\n", String.valueOf(boardSize), String.valueOf(worldSeed),
-                           encodedRedActions, encodedBlueActions);
+        String encodedRedActions = encodeActionList(redPlayerActions, redThrewException, redTimedOutTurns);
+        String encodedBlueActions = encodeActionList(bluePlayerActions, blueThrewException, blueTimedOutTurns);
+        String replayBody = String.join("\r\n", String.valueOf(boardSize), String.valueOf(worldSeed),
+                                        encodedRedActions, encodedBlueActions);
+        if (playerSeeding == PlayerSeeding.SHARED_GAME_SEED) {
+            // Written the way version 1 was, so older copies of the game can still read it
+            return replayBody;
+        }
+        return VERSION_PREFIX + DERIVED_SEEDS_VERSION + "\r\n" + replayBody;
     }
 
-    private static String encodeActionList(List<TurnAction> actionList, boolean exceptionThrown) {
+    private static String encodeActionList(List<TurnAction> actionList, boolean exceptionThrown,
+                                           BitSet timedOutTurns) {
         StringBuilder actionListEncoder = new StringBuilder();
+        int turnIndex = 0;
         for (TurnAction action : actionList) {
-            if (action == null) {
+            if (timedOutTurns.get(turnIndex)) {
+                // The player ran out of time on this turn, which is also treated as no action
+                actionListEncoder.append(TIMED_OUT_ACTION_CODE);
+            } else if (action == null) {
                 // There is no turn action at the length of the list, it will be treated as no action
                 actionListEncoder.append(allTurnActions.length);
             } else {
                 actionListEncoder.append(action.ordinal());
             }
             actionListEncoder.append(',');
+            turnIndex++;
         }
 
-        if (exceptionThrown) {
+        if (exceptionThrown && timedOutTurns.get(actionList.size())) {
+            // The player forfeited by running out of time on the turn after its last action
+            actionListEncoder.append(TIMEOUT_FORFEIT_CODE);
+        } else if (exceptionThrown) {
             // A negative number indicates an exception
-            actionListEncoder.append("-1");
-        } else {
+            actionListEncoder.append(EXCEPTION_CODE);
+        } else if (actionListEncoder.length() > 0) {
             // Remove trailing comma
             actionListEncoder.deleteCharAt(actionListEncoder.length() - 1);
         }
         return actionListEncoder.toString();
     }
 
-    private static List<TurnAction> decodeActionList(String[] encodedList) {
+    private static List<TurnAction> decodeActionList(String[] encodedList, BitSet timedOutTurns) {
         List<TurnAction> turnActions = new LinkedList<>();
 
         for (String encodedAction : encodedList) {
             int actionIndex = Integer.parseInt(encodedAction);
             if (actionIndex < 0) {
-                // Exception thrown on this turn
+                // Exception thrown on this turn, or the player forfeited by running out of time
+                if (actionIndex == TIMEOUT_FORFEIT_CODE) {
+                    timedOutTurns.set(turnActions.size());
+                }
                 break;
             }
 
-            if (actionIndex >= allTurnActions.length) {
+            if (actionIndex == TIMED_OUT_ACTION_CODE) {
+                // Player ran out of time on this turn, so it did nothing
+                timedOutTurns.set(turnActions.size());
+                turnActions.add(null);
+            } else if (actionIndex >= allTurnActions.length) {
                 // Player did nothing on this turn
                 turnActions.add(null);
             } else {
@@ -150,4 +228,25 @@ public class Replay {
     public boolean blueThrewException() {
         return blueThrewException;
     }
+
+    /**
+     * @return A BitSet with a bit set for every turn index on which the red player ran out of time
+     */
+    public BitSet getRedTimedOutTurns() {
+        return redTimedOutTurns;
+    }
+
+    /**
+     * @return A BitSet with a bit set for every turn index on which the blue player ran out of time
+     */
+    public BitSet getBlueTimedOutTurns() {
+        return blueTimedOutTurns;
+    }
+
+    /**
+     * @return How the players' random number generators were seeded in the game, which a replay of it must match
+     */
+    public PlayerSeeding getPlayerSeeding() {
+        return playerSeeding;
+    }
 }
@@ -33,6 +33,8 @@ public class ReplayIO {
         long worldSeed = gameReplay.getWorldSeed();
 
         GameEngine replayEngine = new GameEngine(boardSize, redPlayerReplay, bluePlayerReplay, worldSeed);
+        // Older replays were recorded with every random number generator sharing the world seed
+        replayEngine.setPlayerSeeding(gameReplay.getPlayerSeeding());
         replayEngine.setGuiEnabled(true); // I'm going to assume you're doing this to watch
         return replayEngine;
     }
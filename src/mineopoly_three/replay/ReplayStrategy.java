@@ -7,6 +7,7 @@ import mineopoly_three.strategy.PlayerBoardView;
 import mineopoly_three.strategy.MinePlayerStrategy;
 
 import java.awt.*;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Random;
@@ -20,6 +21,8 @@ public class ReplayStrategy implements MinePlayerStrategy {
     private Replay gameToReplay;
     private Queue<TurnAction> actionsToReplay;
     private boolean exceptionThrown;
+    private BitSet timedOutTurns;
+    private int turnIndex;
     private boolean isRedPlayer;
 
     public ReplayStrategy(Replay gameToReplay) {
@@ -32,20 +35,31 @@ public class ReplayStrategy implements MinePlayerStrategy {
         if (isRedPlayer) {
             actionsToReplay = new LinkedList<>(gameToReplay.getRedPlayerActions());
             exceptionThrown = gameToReplay.redThrewException();
+            timedOutTurns = gameToReplay.getRedTimedOutTurns();
         } else {
             actionsToReplay = new LinkedList<>(gameToReplay.getBluePlayerActions());
             exceptionThrown = gameToReplay.blueThrewException();
+            timedOutTurns = gameToReplay.getBlueTimedOutTurns();
         }
 
         this.isRedPlayer = isRedPlayer;
+        this.turnIndex = 0;
     }
 
     @Override
     public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge, boolean isRedTurn) {
+        String replayPlayer = isRedPlayer ? "Red" : "Blue";
+        boolean timedOutThisTurn = timedOutTurns.get(turnIndex);
+        turnIndex++;
+
         if (actionsToReplay.isEmpty() && exceptionThrown) {
-            String exceptionPlayer = isRedPlayer ? "Red" : "Blue";
-            throw new RuntimeException("An exception from the " + exceptionPlayer + " Player happened on this turn");
+            if (timedOutThisTurn) {
+                throw new RuntimeException("The " + replayPlayer + " Player ran out of time and forfeited on this turn");
+            }
+            throw new RuntimeException("An exception from the " + replayPlayer + " Player happened on this turn");
         }
+
+        // A turn the player ran out of time on replays as no action at all, Replay has the turns it happened on
         return actionsToReplay.poll();
     }
 
@@ -0,0 +1,46 @@
+package mineopoly_three.strategy;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * What one tile of the board looks like after it changed, given to an IncrementalMinePlayerStrategy.
+ * This is the tile's state once all of the changes since the strategy's last turn happened, so a tile that
+ *  changed several times only appears once
+ */
+public class BoardChange {
+    private final Point location;
+    private final TileType tileType;
+    private final List<InventoryItem> itemsOnGround;
+
+    public BoardChange(Point location, TileType tileType, List<InventoryItem> itemsOnGround) {
+        this.location = new Point(location.x, location.y);
+        this.tileType = tileType;
+        this.itemsOnGround = itemsOnGround;
+    }
+
+    /**
+     * @return A copy of the location of the tile that changed
+     */
+    public Point getLocation() {
+        return new Point(location.x, location.y);
+    }
+
+    /**
+     * @return The type of the tile now, the same as PlayerBoardView.getTileTypeAtLocation() gives this turn
+     */
+    public TileType getTileType() {
+        return tileType;
+    }
+
+    /**
+     * @return The read-only list of items now on the ground at this tile, the same as
+     *          PlayerBoardView.getItemsOnGround() gives for this location this turn
+     */
+    public List<InventoryItem> getItemsOnGround() {
+        return itemsOnGround;
+    }
+}
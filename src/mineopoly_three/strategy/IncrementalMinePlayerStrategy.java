@@ -0,0 +1,21 @@
+package mineopoly_three.strategy;
+
+import java.util.List;
+
+/**
+ * A MinePlayerStrategy that also wants to be told which tiles changed since its last turn, so it can keep its
+ *  own model of the board up to date without scanning the whole PlayerBoardView every turn.
+ * Only a few tiles change on each turn: tiles being mined out, items being picked up, and autominers at work
+ */
+public interface IncrementalMinePlayerStrategy extends MinePlayerStrategy {
+
+    /**
+     * Called right before every call to getTurnAction(), and counts towards that turn's time limit.
+     * On the first turn this has the changes since initialize() was called
+     *
+     * @param changesSinceLastTurn One BoardChange for every tile whose type or items on the ground changed since
+     *                              this strategy was last called, including on any turns it missed by running
+     *                              out of time, which may be empty. The list can't be modified
+     */
+    void onBoardChanges(List<BoardChange> changesSinceLastTurn);
+}
@@ -1,7 +1,9 @@
 package mineopoly_three.strategy;
 
 import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
 import mineopoly_three.tiles.TileType;
+import mineopoly_three.util.GridIndex;
 
 import java.awt.*;
 import java.util.Map;
@@ -14,14 +16,48 @@ public class PlayerBoardView {
     private Point thisPlayerLocation;
     private Point otherPlayerLocation;
     private int otherPlayerScore;
+    // Which tiles are of each TileType and have each ItemType on the ground, built from the arrays above if
+    //  nobody gave them to the constructor
+    private GridIndex tileTypeIndex;
+    private GridIndex itemsOnGroundIndex;
+    private long stateHash;
 
     public PlayerBoardView(TileType[][] tiles, Map<Point, List<InventoryItem>> itemsOnGround,
                            Point thisPlayerLocation, Point otherPlayerLocation, int otherPlayerScore) {
+        this(tiles, itemsOnGround, null, null, thisPlayerLocation, otherPlayerLocation, otherPlayerScore);
+    }
+
+    /**
+     * Creates a view that answers the nearest tile and item queries from indexes the GameBoard already keeps,
+     *  instead of building its own. The indexes must match the tiles and items given
+     *
+     * @param tileTypeIndex An index with a category for each TileType ordinal, or null to build one when needed
+     * @param itemsOnGroundIndex An index with a category for each ItemType ordinal, or null to build one when needed
+     */
+    public PlayerBoardView(TileType[][] tiles, Map<Point, List<InventoryItem>> itemsOnGround,
+                           GridIndex tileTypeIndex, GridIndex itemsOnGroundIndex,
+                           Point thisPlayerLocation, Point otherPlayerLocation, int otherPlayerScore) {
+        this(tiles, itemsOnGround, tileTypeIndex, itemsOnGroundIndex, thisPlayerLocation, otherPlayerLocation,
+             otherPlayerScore, 0);
+    }
+
+    /**
+     * Creates a view that also carries a hash of the state of the game it was made from, see getStateHash()
+     *
+     * @param stateHash A Zobrist hash of the board and players this view was made from, or 0 if there isn't one
+     */
+    public PlayerBoardView(TileType[][] tiles, Map<Point, List<InventoryItem>> itemsOnGround,
+                           GridIndex tileTypeIndex, GridIndex itemsOnGroundIndex,
+                           Point thisPlayerLocation, Point otherPlayerLocation, int otherPlayerScore,
+                           long stateHash) {
         this.tiles = tiles;
         this.itemsOnGround = itemsOnGround;
+        this.tileTypeIndex = tileTypeIndex;
+        this.itemsOnGroundIndex = itemsOnGroundIndex;
         this.thisPlayerLocation = thisPlayerLocation;
         this.otherPlayerLocation = otherPlayerLocation;
         this.otherPlayerScore = otherPlayerScore;
+        this.stateHash = stateHash;
     }
 
     /**
@@ -56,7 +92,84 @@ public class PlayerBoardView {
     }
 
     /**
-     * Gets a map from every Point with an item on the ground to the InventoryItem on theground
+     * Finds the tile of a type that is the fewest steps away from a location, without searching the whole board
+     *
+     * @param from The location to measure from, usually getYourLocation()
+     * @param tileType The type of tile to look for
+     * @return The location of a nearest tile of that type, or null if there are none on the board.
+     *          If several tiles are equally near, any one of them may be returned
+     */
+    public Point getNearestTileOfType(Point from, TileType tileType) {
+        return getTileTypeIndex().findNearest(from.x, from.y, tileType.ordinal());
+    }
+
+    /**
+     * Finds every tile of a type within a number of steps of a location
+     *
+     * @param from The location to measure from, usually getYourLocation()
+     * @param tileType The type of tile to look for
+     * @param maxDistance The most steps away a tile can be, as a Manhattan distance
+     * @return A new list with the location of every tile found, which may be empty
+     */
+    public List<Point> getTilesOfTypeWithinDistance(Point from, TileType tileType, int maxDistance) {
+        return getTileTypeIndex().findWithinDistance(from.x, from.y, tileType.ordinal(), maxDistance);
+    }
+
+    /**
+     * Finds the location with an item of a type on the ground that is the fewest steps away from a location,
+     *  without searching the whole board
+     *
+     * @param from The location to measure from, usually getYourLocation()
+     * @param itemType The type of item to look for
+     * @return The location of a nearest item of that type on the ground, or null if there are none.
+     *          If several are equally near, any one of them may be returned
+     */
+    public Point getNearestItemOnGround(Point from, ItemType itemType) {
+        return getItemsOnGroundIndex().findNearest(from.x, from.y, itemType.ordinal());
+    }
+
+    /**
+     * Finds every location with an item of a type on the ground within a number of steps of a location
+     *
+     * @param from The location to measure from, usually getYourLocation()
+     * @param itemType The type of item to look for
+     * @param maxDistance The most steps away an item can be, as a Manhattan distance
+     * @return A new list with every location found, which may be empty
+     */
+    public List<Point> getItemsOnGroundWithinDistance(Point from, ItemType itemType, int maxDistance) {
+        return getItemsOnGroundIndex().findWithinDistance(from.x, from.y, itemType.ordinal(), maxDistance);
+    }
+
+    private GridIndex getTileTypeIndex() {
+        if (tileTypeIndex == null) {
+            tileTypeIndex = new GridIndex(tiles.length, TileType.values().length);
+            for (int yIndex = 0; yIndex < tiles.length; yIndex++) {
+                for (int xIndex = 0; xIndex < tiles[yIndex].length; xIndex++) {
+                    if (tiles[yIndex][xIndex] != null) {
+                        tileTypeIndex.set(xIndex, (tiles.length - 1) - yIndex, tiles[yIndex][xIndex].ordinal(), true);
+                    }
+                }
+            }
+        }
+        return tileTypeIndex;
+    }
+
+    private GridIndex getItemsOnGroundIndex() {
+        if (itemsOnGroundIndex == null) {
+            itemsOnGroundIndex = new GridIndex(tiles.length, ItemType.values().length);
+            for (Map.Entry<Point, List<InventoryItem>> itemsAtLocation : itemsOnGround.entrySet()) {
+                Point location = itemsAtLocation.getKey();
+                for (InventoryItem item : itemsAtLocation.getValue()) {
+                    itemsOnGroundIndex.set(location.x, location.y, item.getItemType().ordinal(), true);
+                }
+            }
+        }
+        return itemsOnGroundIndex;
+    }
+
+    /**
+     * Gets a map from every Point with an item on the ground to the InventoryItem on theground.
+     * The map and its lists are read-only, so copy them if your strategy wants to keep track of changes itself
      *
      * @return The mapping for all locations with InventoryItems to those items
      */
@@ -92,4 +205,15 @@ public class PlayerBoardView {
     public int getOtherPlayerScore() {
         return otherPlayerScore;
     }
+
+    /**
+     * Gets a 64-bit hash of the state of the game this view was made from. Two views with the same hash almost
+     *  certainly came from the same board, with the players in the same places holding the same items, so
+     *  strategies can use it as a key to cache what they worked out about a state, like a transposition table
+     *
+     * @return The hash of the game state, or 0 if the board this view came from doesn't keep one
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
 }
\ No newline at end of file
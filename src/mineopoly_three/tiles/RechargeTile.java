@@ -6,7 +6,7 @@ import mineopoly_three.graphics.TileRenderLayer;
 import java.awt.*;
 
 public class RechargeTile extends StoneTile {
-    private static final float RECHARGE_PERCENT_PER_TURN = 0.1f;
+    public static final float RECHARGE_PERCENT_PER_TURN = 0.1f;
 
     public RechargeTile(Point tileLocation) {
         super(tileLocation);
@@ -24,6 +24,12 @@ public class RechargeTile extends StoneTile {
         }
     }
 
+    @Override
+    public boolean needsUpdate() {
+        // Only a player standing here gets recharged
+        return super.playerOnTile != null;
+    }
+
     @Override
     protected Image[] getImageOverlays(ImageManager imageManager) {
         Image[] imageOverlays = super.getImageOverlays(imageManager);
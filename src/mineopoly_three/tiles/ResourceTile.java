@@ -14,10 +14,21 @@ public class ResourceTile extends StoneTile {
     private int numTimesMined;
 
     public ResourceTile(Point tileLocation, ItemType tileResource) {
+        this(tileLocation, tileResource, 0);
+    }
+
+    /**
+     * Creates a resource tile that has already been partly mined, like one being restored from a snapshot
+     *
+     * @param tileLocation The location of this tile on the board
+     * @param tileResource The resource this tile gives once it is mined out
+     * @param numTimesMined How many times this tile has been mined already
+     */
+    public ResourceTile(Point tileLocation, ItemType tileResource, int numTimesMined) {
         super(tileLocation);
         assert(tileResource.isResource());
         this.tileResource = tileResource;
-        this.numTimesMined = 0;
+        this.numTimesMined = numTimesMined;
     }
 
     @Override
@@ -29,6 +40,10 @@ public class ResourceTile extends StoneTile {
         return tileResource;
     }
 
+    public int getNumTimesMined() {
+        return numTimesMined;
+    }
+
     @Override
     public Tile interact(MinePlayer playerOnTile, TurnAction actionOnTile) {
         super.interact(playerOnTile, actionOnTile);
@@ -17,6 +17,7 @@ public abstract class Tile {
     protected MinePlayer playerOnTile;
     protected List<InventoryItem> itemsOnTile;
     protected Point location;
+    private TileActivityListener activityListener;
 
     protected Tile(Point tileLocation) {
         this.playerOnTile = null;
@@ -36,6 +37,15 @@ public abstract class Tile {
         return itemsOnTile;
     }
 
+    /**
+     * Sets the listener told whenever a player enters or exits this tile
+     *
+     * @param activityListener The listener to tell, or null to stop telling anyone
+     */
+    public void setActivityListener(TileActivityListener activityListener) {
+        this.activityListener = activityListener;
+    }
+
     /**
      * @return The TileType enum that represents this Tile
      */
@@ -61,7 +71,7 @@ public abstract class Tile {
             InventoryItem playerAutominer = playerOnTile.getInventory().stream().filter(x -> x.getItemType() == ItemType.AUTOMINER).findFirst().orElse(null);
 
             if(playerAutominer != null) {
-                playerOnTile.getInventory().remove(playerAutominer);
+                playerOnTile.removeItemFromInventory(playerAutominer);
                 itemsOnTile.add(playerAutominer);
             }
         } else {
@@ -88,6 +98,36 @@ public abstract class Tile {
         // By default tiles don't do anything
     }
 
+    /**
+     * Tiles whose update() does something must override this, since the board skips calling update() on tiles
+     *  that return false
+     *
+     * @return True if calling update() on this tile right now would do anything, false otherwise
+     */
+    public boolean needsUpdate() {
+        return false;
+    }
+
+    /**
+     * Lets the activity listener know that needsUpdate() may now return something different
+     */
+    protected void notifyActivityChanged() {
+        if (activityListener != null) {
+            activityListener.onActivityChanged(this);
+        }
+    }
+
+    /**
+     * Puts a player on this tile without anything that entering it would cause, like selling at a market.
+     * Used when restoring a game from a snapshot, where the player was already standing here
+     *
+     * @param playerOnTile The player standing on this tile
+     */
+    public void restorePlayerOnTile(MinePlayer playerOnTile) {
+        this.playerOnTile = playerOnTile;
+        notifyActivityChanged();
+    }
+
     /**
      * Called when a player enters this tile on a turn
      *
@@ -95,6 +135,7 @@ public abstract class Tile {
      */
     public void onEnter(MinePlayer playerEnteringTile) {
         playerOnTile = playerEnteringTile;
+        notifyActivityChanged();
     }
 
     /**
@@ -104,6 +145,7 @@ public abstract class Tile {
      */
     public void onExit(MinePlayer playerExitingTile) {
         playerOnTile = null;
+        notifyActivityChanged();
     }
 
     /**
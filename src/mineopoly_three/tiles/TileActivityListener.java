@@ -0,0 +1,14 @@
+package mineopoly_three.tiles;
+
+/**
+ * Told whenever something happens to a Tile that could change whether it needs to be updated every turn,
+ *  so the board only has to call Tile.update() on the tiles that actually do something
+ */
+public interface TileActivityListener {
+    /**
+     * Called after a player enters, exits, or is put back onto a tile
+     *
+     * @param tile The Tile whose Tile.needsUpdate() result may have changed
+     */
+    void onActivityChanged(Tile tile);
+}
@@ -0,0 +1,56 @@
+package mineopoly_three.tournament;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors that start a new thread for every game. On Java 21 and later these are virtual threads, which
+ *  cost almost nothing while a strategy is blocked on disk or another process, so a huge number of games can wait
+ *  at once without tying up a core each. The project still targets Java 8, so virtual threads are looked up by
+ *  reflection, and older runtimes fall back to ordinary daemon threads.
+ */
+class GameThreads {
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = findVirtualThreadExecutorFactory();
+
+    private GameThreads() {
+    }
+
+    /**
+     * @return True if the running Java version supports virtual threads
+     */
+    static boolean areVirtualThreadsAvailable() {
+        return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Creates an executor that runs every task it is given on its own new thread, virtual if possible
+     *
+     * @return An ExecutorService that must be shut down once all games are submitted
+     */
+    static ExecutorService newThreadPerGameExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR_FACTORY != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.err.println("Creating a virtual thread executor failed, using platform threads instead");
+                e.printStackTrace();
+            }
+        }
+
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread gameThread = new Thread(runnable, "Mine-opoly game");
+            gameThread.setDaemon(true);
+            return gameThread;
+        });
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            // Older than Java 21
+            return null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package mineopoly_three.tournament;
+
+/**
+ * Decides whether the red strategy of a TournamentRunner wins by the minimum score at least some fraction of the
+ *  time, without always playing a fixed number of games. Games are played in batches, and after each batch a Wilson
+ *  score interval is computed around the observed win rate. As soon as the whole interval is above the threshold
+ *  the strategy passes, and as soon as it is entirely below the threshold the strategy fails.
+ *
+ * Looking at the results after every batch gives the test more chances to be wrong, so the allowed error is split
+ *  evenly between every batch that could be played. A strategy far from the threshold is usually decided after
+ *  one or two batches. If the maximum number of games is reached first, the observed win rate decides instead.
+ */
+public class SequentialEvaluator {
+    private final TournamentRunner tournamentRunner;
+    private final double winRateThreshold;
+    private final int gamesPerBatch;
+    private final int maxGames;
+    private final double zScore;
+
+    /**
+     * @param tournamentRunner The runner that plays the games between the strategies being evaluated
+     * @param winRateThreshold The fraction of games the red strategy must win, like 0.99
+     * @param confidenceLevel How sure an early pass or fail should be, like 0.95
+     * @param gamesPerBatch How many games to play between each check of the results
+     * @param maxGames The most games to play before deciding from the observed win rate
+     */
+    public SequentialEvaluator(TournamentRunner tournamentRunner, double winRateThreshold, double confidenceLevel,
+                               int gamesPerBatch, int maxGames) {
+        if (winRateThreshold <= 0 || winRateThreshold >= 1) {
+            throw new IllegalArgumentException("The win rate threshold must be between 0 and 1");
+        }
+        if (confidenceLevel <= 0 || confidenceLevel >= 1) {
+            throw new IllegalArgumentException("The confidence level must be between 0 and 1");
+        }
+        if (gamesPerBatch <= 0 || maxGames < gamesPerBatch) {
+            throw new IllegalArgumentException("There must be at least one full batch of games");
+        }
+
+        this.tournamentRunner = tournamentRunner;
+        this.winRateThreshold = winRateThreshold;
+        this.gamesPerBatch = gamesPerBatch;
+        this.maxGames = maxGames;
+
+        // Split the chance of an error evenly over every check we might make, then make each interval two-sided
+        int maxNumChecks = (maxGames + gamesPerBatch - 1) / gamesPerBatch;
+        double errorPerCheck = (1 - confidenceLevel) / maxNumChecks;
+        this.zScore = getUpperTailZScore(errorPerCheck / 2);
+    }
+
+    /**
+     * Plays batches of games until the win rate is settled or the maximum number of games has been played.
+     * Batches continue the same SeedStream, so evaluating with the same master seed always plays the same games
+     *
+     * @param masterSeed The seed that every game's random seed is derived from
+     * @return A WinRateEvaluation with the verdict and how many games it took to reach it
+     */
+    public WinRateEvaluation evaluate(long masterSeed) {
+        TournamentResult totalResult = new TournamentResult();
+        double lowerBound = 0;
+        double upperBound = 1;
+
+        while (totalResult.getNumGamesPlayed() < maxGames) {
+            int numGamesPlayed = totalResult.getNumGamesPlayed();
+            int numGamesInBatch = Math.min(gamesPerBatch, maxGames - numGamesPlayed);
+            totalResult.merge(playBatch(masterSeed, numGamesPlayed, numGamesInBatch));
+
+            int numWins = totalResult.getNumRedWinsByMinScore();
+            int numGames = totalResult.getNumGamesPlayed();
+            lowerBound = getWilsonBound(numWins, numGames, -zScore);
+            upperBound = getWilsonBound(numWins, numGames, zScore);
+            if (lowerBound >= winRateThreshold) {
+                return new WinRateEvaluation(true, true, lowerBound, upperBound, totalResult);
+            }
+            if (upperBound < winRateThreshold) {
+                return new WinRateEvaluation(false, true, lowerBound, upperBound, totalResult);
+            }
+        }
+
+        // Never got sure enough either way, so fall back to what a fixed number of games would have decided
+        boolean passed = totalResult.getRedWinPercentByMinScore() >= winRateThreshold;
+        return new WinRateEvaluation(passed, false, lowerBound, upperBound, totalResult);
+    }
+
+    /**
+     * Plays one batch of games on the tournament runner. Overridden by tests that need batches with a known result
+     *
+     * @param masterSeed The seed that every game's random seed is derived from
+     * @param firstGame The number of the first game in the batch
+     * @param numGames The number of games in the batch
+     * @return A TournamentResult containing the outcome of every game in the batch
+     */
+    protected TournamentResult playBatch(long masterSeed, int firstGame, int numGames) {
+        return tournamentRunner.playGames(masterSeed, firstGame, numGames);
+    }
+
+    /**
+     * Computes one end of the Wilson score interval for a win rate
+     *
+     * @param numWins The number of games won
+     * @param numGames The number of games played
+     * @param signedZScore A negative z score for the lower bound, or a positive one for the upper bound
+     * @return The bound on the true win rate
+     */
+    private static double getWilsonBound(int numWins, int numGames, double signedZScore) {
+        double winRate = ((double) numWins) / numGames;
+        double zSquared = signedZScore * signedZScore;
+        double denominator = 1 + zSquared / numGames;
+        double center = winRate + zSquared / (2.0 * numGames);
+        double spread = signedZScore * Math.sqrt(winRate * (1 - winRate) / numGames
+                                                 + zSquared / (4.0 * numGames * numGames));
+        return Math.min(1, Math.max(0, (center + spread) / denominator));
+    }
+
+    /**
+     * Finds the z score with the given probability of a standard normal value being above it, using the rational
+     *  approximation from Abramowitz and Stegun 26.2.23 (accurate to about 4.5e-4, plenty for choosing a bound)
+     *
+     * @param upperTailProbability The probability above the z score, between 0 and 0.5
+     * @return The z score
+     */
+    private static double getUpperTailZScore(double upperTailProbability) {
+        double t = Math.sqrt(-2 * Math.log(upperTailProbability));
+        double numerator = 2.515517 + t * (0.802853 + t * 0.010328);
+        double denominator = 1 + t * (1.432788 + t * (0.189269 + t * 0.001308));
+        return t - numerator / denominator;
+    }
+}
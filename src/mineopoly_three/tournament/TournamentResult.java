@@ -0,0 +1,240 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.SalesLedger;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.metrics.EngineMetrics;
+
+/**
+ * The combined outcome of some number of finished games between the same two strategies.
+ * Results from games played on different threads can be combined with merge()
+ */
+public class TournamentResult {
+    private int numGamesPlayed;
+    private int numRedWinsByMinScore;
+    private int numBlueWinsByMinScore;
+    private int numRedWins;
+    private int numBlueWins;
+    private int numTies;
+    private int numRedExceptions;
+    private int numBlueExceptions;
+    private int numRedTimedOutTurns;
+    private int numBlueTimedOutTurns;
+    private long totalRedScore;
+    private long totalBlueScore;
+    // Totals from each game's SalesLedger, indexed by ItemType ordinal
+    private final long[] totalRedRevenue = new long[ItemType.values().length];
+    private final long[] totalBlueRevenue = new long[ItemType.values().length];
+    private final long[] totalRedPriceDrop = new long[ItemType.values().length];
+    private final long[] totalBluePriceDrop = new long[ItemType.values().length];
+    // Phase timings combined from every game that recorded them, or null if no game did
+    private EngineMetrics metrics;
+
+    /**
+     * Adds the outcome of a game that has finished running to this result
+     *
+     * @param finishedGame A GameEngine that has already had runGame() called on it
+     */
+    public void recordGame(GameEngine finishedGame) {
+        int redScore = finishedGame.getRedPlayerScore();
+        int blueScore = finishedGame.getBluePlayerScore();
+        int minScoreToWin = finishedGame.getMinScoreToWin();
+
+        numGamesPlayed++;
+        totalRedScore += redScore;
+        totalBlueScore += blueScore;
+
+        // Only count a win by minimum score if the strategy scored enough points to end the game early
+        if (redScore > minScoreToWin) {
+            numRedWinsByMinScore++;
+        }
+        if (blueScore > minScoreToWin) {
+            numBlueWinsByMinScore++;
+        }
+
+        if (redScore > blueScore) {
+            numRedWins++;
+        } else if (blueScore > redScore) {
+            numBlueWins++;
+        } else {
+            numTies++;
+        }
+
+        // A strategy that throws an exception always receives a score of -1
+        if (redScore < 0) {
+            numRedExceptions++;
+        }
+        if (blueScore < 0) {
+            numBlueExceptions++;
+        }
+
+        numRedTimedOutTurns += finishedGame.getRedPlayer().getNumTimedOutTurns();
+        numBlueTimedOutTurns += finishedGame.getBluePlayer().getNumTimedOutTurns();
+
+        SalesLedger salesLedger = finishedGame.getEconomy().getSalesLedger();
+        for (ItemType itemType : ItemType.values()) {
+            int ordinal = itemType.ordinal();
+            totalRedRevenue[ordinal] += salesLedger.getRevenue(SalesLedger.RED_PLAYER, itemType);
+            totalBlueRevenue[ordinal] += salesLedger.getRevenue(SalesLedger.BLUE_PLAYER, itemType);
+            totalRedPriceDrop[ordinal] += salesLedger.getPriceDrop(SalesLedger.RED_PLAYER, itemType);
+            totalBluePriceDrop[ordinal] += salesLedger.getPriceDrop(SalesLedger.BLUE_PLAYER, itemType);
+        }
+        if (finishedGame.isMetricsEnabled()) {
+            mergeMetrics(finishedGame.getMetrics());
+        }
+    }
+
+    /**
+     * Combines the games recorded in another TournamentResult into this one
+     *
+     * @param other The TournamentResult whose games should be added to this one
+     * @return This TournamentResult, so partial results can be merged in a chain
+     */
+    public TournamentResult merge(TournamentResult other) {
+        numGamesPlayed += other.numGamesPlayed;
+        numRedWinsByMinScore += other.numRedWinsByMinScore;
+        numBlueWinsByMinScore += other.numBlueWinsByMinScore;
+        numRedWins += other.numRedWins;
+        numBlueWins += other.numBlueWins;
+        numTies += other.numTies;
+        numRedExceptions += other.numRedExceptions;
+        numBlueExceptions += other.numBlueExceptions;
+        numRedTimedOutTurns += other.numRedTimedOutTurns;
+        numBlueTimedOutTurns += other.numBlueTimedOutTurns;
+        totalRedScore += other.totalRedScore;
+        totalBlueScore += other.totalBlueScore;
+        for (int ordinal = 0; ordinal < totalRedRevenue.length; ordinal++) {
+            totalRedRevenue[ordinal] += other.totalRedRevenue[ordinal];
+            totalBlueRevenue[ordinal] += other.totalBlueRevenue[ordinal];
+            totalRedPriceDrop[ordinal] += other.totalRedPriceDrop[ordinal];
+            totalBluePriceDrop[ordinal] += other.totalBluePriceDrop[ordinal];
+        }
+        if (other.metrics != null) {
+            mergeMetrics(other.metrics);
+        }
+        return this;
+    }
+
+    private void mergeMetrics(EngineMetrics gameMetrics) {
+        if (metrics == null) {
+            metrics = new EngineMetrics();
+        }
+        metrics.merge(gameMetrics);
+    }
+
+    public int getNumGamesPlayed() {
+        return numGamesPlayed;
+    }
+
+    public int getNumRedWinsByMinScore() {
+        return numRedWinsByMinScore;
+    }
+
+    public int getNumBlueWinsByMinScore() {
+        return numBlueWinsByMinScore;
+    }
+
+    public int getNumRedWins() {
+        return numRedWins;
+    }
+
+    public int getNumBlueWins() {
+        return numBlueWins;
+    }
+
+    public int getNumTies() {
+        return numTies;
+    }
+
+    public int getNumRedExceptions() {
+        return numRedExceptions;
+    }
+
+    public int getNumBlueExceptions() {
+        return numBlueExceptions;
+    }
+
+    /**
+     * @return The total number of turns on which the red strategy ran out of time, over every game
+     */
+    public int getNumRedTimedOutTurns() {
+        return numRedTimedOutTurns;
+    }
+
+    /**
+     * @return The total number of turns on which the blue strategy ran out of time, over every game
+     */
+    public int getNumBlueTimedOutTurns() {
+        return numBlueTimedOutTurns;
+    }
+
+    public long getTotalRedScore() {
+        return totalRedScore;
+    }
+
+    public long getTotalBlueScore() {
+        return totalBlueScore;
+    }
+
+    /**
+     * @return Everything the red strategy earned selling a resource, over every game
+     */
+    public long getTotalRedRevenue(ItemType resourceType) {
+        return totalRedRevenue[resourceType.ordinal()];
+    }
+
+    /**
+     * @return Everything the blue strategy earned selling a resource, over every game
+     */
+    public long getTotalBlueRevenue(ItemType resourceType) {
+        return totalBlueRevenue[resourceType.ordinal()];
+    }
+
+    /**
+     * @return How much the red strategy's sales lowered the price of a resource, over every game
+     */
+    public long getTotalRedPriceDrop(ItemType resourceType) {
+        return totalRedPriceDrop[resourceType.ordinal()];
+    }
+
+    /**
+     * @return How much the blue strategy's sales lowered the price of a resource, over every game
+     */
+    public long getTotalBluePriceDrop(ItemType resourceType) {
+        return totalBluePriceDrop[resourceType.ordinal()];
+    }
+
+    /**
+     * @return The phase timings combined from every game played with metrics enabled, or null if none were
+     */
+    public EngineMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return The fraction of games in which the red strategy scored enough points to win by the minimum score
+     */
+    public double getRedWinPercentByMinScore() {
+        if (numGamesPlayed == 0) {
+            return 0;
+        }
+        return ((double) numRedWinsByMinScore) / numGamesPlayed;
+    }
+
+    /**
+     * @return The fraction of games in which the blue strategy scored enough points to win by the minimum score
+     */
+    public double getBlueWinPercentByMinScore() {
+        if (numGamesPlayed == 0) {
+            return 0;
+        }
+        return ((double) numBlueWinsByMinScore) / numGamesPlayed;
+    }
+
+    @Override
+    public String toString() {
+        return "(Games, red wins, blue wins, ties, red min score wins, blue min score wins): (" + numGamesPlayed + ", "
+                + numRedWins + ", " + numBlueWins + ", " + numTies + ", " + numRedWinsByMinScore + ", "
+                + numBlueWinsByMinScore + ")";
+    }
+}
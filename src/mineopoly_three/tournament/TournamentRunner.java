@@ -0,0 +1,308 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.ResourcePlacement;
+import mineopoly_three.game.TurnOrder;
+import mineopoly_three.game.TurnTimeoutPolicy;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.util.SeedStream;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Plays many games of Mine-opoly between two strategies at the same time, using every core on the machine.
+ * Strategies usually keep state between turns, so instead of one shared strategy object this class takes a
+ *  factory for each side and creates a brand-new strategy for every game it plays.
+ * A runner that creates its own pool owns the pool's threads, so close it once it has played its games.
+ */
+public class TournamentRunner implements AutoCloseable {
+    // Below this many games, a task plays its games one after another instead of splitting further
+    private static final int MAX_GAMES_PER_TASK = 4;
+
+    private final int boardSize;
+    private final Supplier<MinePlayerStrategy> redStrategyFactory;
+    private final Supplier<MinePlayerStrategy> blueStrategyFactory;
+    private final ForkJoinPool gamePool;
+    // Only a pool this runner created is shut down by close(), a pool passed in belongs to the caller
+    private final boolean ownsGamePool;
+    // Every pool thread keeps one engine and resets it between games, instead of allocating a new engine each game
+    private final ThreadLocal<GameEngine> pooledEngines;
+    private long turnTimeLimitMillis;
+    private long timeBankMillis;
+    private TurnTimeoutPolicy turnTimeoutPolicy;
+    private TurnOrder turnOrder;
+    private ResourcePlacement resourcePlacement;
+    private boolean metricsEnabled;
+    // 0 to play games on the work-stealing pool, otherwise the most games that may run at once on their own threads
+    private int maxConcurrentThreadPerGame;
+
+    /**
+     * Creates a runner with its own work-stealing pool of one thread per core. The pool's threads, and the engine
+     *  each of them keeps, stay alive until close() is called
+     */
+    public TournamentRunner(int boardSize, Supplier<MinePlayerStrategy> redStrategyFactory,
+                            Supplier<MinePlayerStrategy> blueStrategyFactory) {
+        this(boardSize, redStrategyFactory, blueStrategyFactory,
+             new ForkJoinPool(Runtime.getRuntime().availableProcessors()), true);
+    }
+
+    /**
+     * Creates a runner that plays its games on a pool owned by the caller, which close() leaves running
+     */
+    public TournamentRunner(int boardSize, Supplier<MinePlayerStrategy> redStrategyFactory,
+                            Supplier<MinePlayerStrategy> blueStrategyFactory, ForkJoinPool gamePool) {
+        this(boardSize, redStrategyFactory, blueStrategyFactory, gamePool, false);
+    }
+
+    private TournamentRunner(int boardSize, Supplier<MinePlayerStrategy> redStrategyFactory,
+                             Supplier<MinePlayerStrategy> blueStrategyFactory, ForkJoinPool gamePool,
+                             boolean ownsGamePool) {
+        this.boardSize = boardSize;
+        this.redStrategyFactory = redStrategyFactory;
+        this.blueStrategyFactory = blueStrategyFactory;
+        this.gamePool = gamePool;
+        this.ownsGamePool = ownsGamePool;
+        this.pooledEngines = new ThreadLocal<>();
+        this.turnTimeoutPolicy = TurnTimeoutPolicy.SKIP_TURN;
+        this.turnOrder = TurnOrder.SEQUENTIAL;
+        this.resourcePlacement = ResourcePlacement.REJECTION_SAMPLING;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Limits how long strategies may take on each turn in every game this runner plays, so one slow strategy
+     *  cannot stall the whole tournament. See GameEngine.setTurnTimeLimit() for how the limits work
+     *
+     * @param turnTimeLimitMillis The time each strategy gets every turn in milliseconds, or 0 for no per-turn limit
+     * @param timeBankMillis The extra time each strategy may use over the whole game in milliseconds, or 0 for none
+     * @param turnTimeoutPolicy What to do when a strategy runs out of time
+     */
+    public void setTurnTimeLimit(long turnTimeLimitMillis, long timeBankMillis, TurnTimeoutPolicy turnTimeoutPolicy) {
+        this.turnTimeLimitMillis = turnTimeLimitMillis;
+        this.timeBankMillis = timeBankMillis;
+        this.turnTimeoutPolicy = turnTimeoutPolicy;
+    }
+
+    /**
+     * Chooses how strategies are asked for their TurnActions in every game this runner plays.
+     * See GameEngine.setTurnOrder()
+     *
+     * @param turnOrder How to ask the strategies for their TurnActions, SEQUENTIAL by default
+     */
+    public void setTurnOrder(TurnOrder turnOrder) {
+        this.turnOrder = turnOrder;
+    }
+
+    /**
+     * Chooses how resources are placed on the board of every game this runner plays.
+     * See GameEngine.setResourcePlacement()
+     *
+     * @param resourcePlacement How to pick the tiles resources spawn on, REJECTION_SAMPLING by default
+     */
+    public void setResourcePlacement(ResourcePlacement resourcePlacement) {
+        if (resourcePlacement == null) {
+            throw new IllegalArgumentException("A ResourcePlacement is needed to generate boards");
+        }
+        this.resourcePlacement = resourcePlacement;
+    }
+
+    /**
+     * Turns on phase timing metrics for every game this runner plays. The metrics from all games are combined
+     *  in the TournamentResult
+     *
+     * @param metricsEnabled True to record phase timings, false to stop recording them
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * Switches between playing games on the work-stealing pool, which has one thread per core, and playing every
+     *  game on its own thread. A thread per game suits strategies that spend most of their turn blocked, like
+     *  reading lookup tables from disk or waiting on a helper process, since blocked games don't hold up a core.
+     * The threads are virtual threads when the running Java version has them (Java 21 and later)
+     *
+     * @param maxConcurrentGames The most games that may be in progress at once, or 0 to use the work-stealing pool
+     */
+    public void setThreadPerGame(int maxConcurrentGames) {
+        if (maxConcurrentGames < 0) {
+            throw new IllegalArgumentException("The maximum number of concurrent games cannot be negative");
+        }
+        this.maxConcurrentThreadPerGame = maxConcurrentGames;
+    }
+
+    /**
+     * @return True if games will run on virtual threads, false if on the work-stealing pool or platform threads
+     */
+    public boolean isUsingVirtualThreads() {
+        return maxConcurrentThreadPerGame > 0 && GameThreads.areVirtualThreadsAvailable();
+    }
+
+    /**
+     * Plays a number of games split across the work-stealing pool and combines their results.
+     * Game number i is played with the seed new SeedStream(masterSeed).seedForGame(i), so every game gets a
+     *  different board, and playing with the same master seed again gives exactly the same games
+     *
+     * @param numGames The total number of games to play
+     * @param masterSeed The seed that every game's random seed is derived from
+     * @return A TournamentResult containing the outcome of every game played
+     */
+    public TournamentResult playGames(int numGames, long masterSeed) {
+        return playGames(masterSeed, 0, numGames);
+    }
+
+    /**
+     * Plays the games numbered [firstGame, firstGame + numGames) of the batch for a master seed. Playing a batch in
+     *  several pieces this way gives exactly the same games as playing it all at once with playGames(int, long)
+     *
+     * @param masterSeed The seed that every game's random seed is derived from
+     * @param firstGame The number of the first game to play
+     * @param numGames The number of games to play
+     * @return A TournamentResult containing the outcome of every game played
+     */
+    public TournamentResult playGames(long masterSeed, int firstGame, int numGames) {
+        SeedStream seedStream = new SeedStream(masterSeed);
+        if (maxConcurrentThreadPerGame > 0) {
+            return playGamesThreadPerGame(seedStream, firstGame, firstGame + numGames);
+        }
+        return gamePool.invoke(new GameRangeTask(seedStream, firstGame, firstGame + numGames));
+    }
+
+    /**
+     * Plays the games numbered [firstGame, lastGame) each on its own new thread, never letting more than
+     *  maxConcurrentThreadPerGame of them run at once
+     */
+    private TournamentResult playGamesThreadPerGame(SeedStream seedStream, int firstGame, int lastGame) {
+        TournamentResult totalResult = new TournamentResult();
+        Semaphore gamesInProgress = new Semaphore(maxConcurrentThreadPerGame);
+        AtomicReference<RuntimeException> gameFailure = new AtomicReference<>();
+        ExecutorService gameExecutor = GameThreads.newThreadPerGameExecutor();
+
+        try {
+            for (int gameNumber = firstGame; gameNumber < lastGame && gameFailure.get() == null; gameNumber++) {
+                // Wait for a game to finish before starting another once the limit is reached
+                gamesInProgress.acquireUninterruptibly();
+                long gameSeed = seedStream.seedForGame(gameNumber);
+                gameExecutor.execute(() -> {
+                    try {
+                        GameEngine finishedGame = playGame(gameSeed);
+                        synchronized (totalResult) {
+                            totalResult.recordGame(finishedGame);
+                        }
+                    } catch (RuntimeException e) {
+                        gameFailure.compareAndSet(null, e);
+                    } finally {
+                        gamesInProgress.release();
+                    }
+                });
+            }
+
+            // Every permit is back once every game has finished
+            gamesInProgress.acquireUninterruptibly(maxConcurrentThreadPerGame);
+        } finally {
+            gameExecutor.shutdown();
+        }
+
+        if (gameFailure.get() != null) {
+            throw gameFailure.get();
+        }
+        return totalResult;
+    }
+
+    /**
+     * Shuts down the work-stealing pool if this runner created it. Its threads finish any games already started,
+     *  then exit, which lets their pooled engines be garbage collected. Games can't be played on the pool after this
+     */
+    @Override
+    public void close() {
+        if (ownsGamePool) {
+            gamePool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game with freshly created strategies, on whatever thread calls this
+     *
+     * @param randomSeed The random seed for world generation and the strategies to use
+     * @return The GameEngine after the game has finished, so the caller can inspect its outcome
+     */
+    public GameEngine playGame(long randomSeed) {
+        MinePlayerStrategy redStrategy = redStrategyFactory.get();
+        MinePlayerStrategy blueStrategy = blueStrategyFactory.get();
+        GameEngine gameEngine = new GameEngine(boardSize, redStrategy, blueStrategy, randomSeed);
+        gameEngine.setGuiEnabled(false);
+        gameEngine.setResourcePlacement(resourcePlacement);
+        gameEngine.setTurnTimeLimit(turnTimeLimitMillis, timeBankMillis, turnTimeoutPolicy);
+        gameEngine.setTurnOrder(turnOrder);
+        gameEngine.setMetricsEnabled(metricsEnabled);
+        gameEngine.runGame();
+        return gameEngine;
+    }
+
+    /**
+     * Plays a single game on this thread's pooled engine and records its outcome. The engine is reset and reused
+     *  by the next game played on this thread, so it cannot be handed back to the caller
+     */
+    private void playPooledGame(long randomSeed, TournamentResult result) {
+        MinePlayerStrategy redStrategy = redStrategyFactory.get();
+        MinePlayerStrategy blueStrategy = blueStrategyFactory.get();
+        GameEngine gameEngine = pooledEngines.get();
+        if (gameEngine == null) {
+            gameEngine = new GameEngine(boardSize, redStrategy, blueStrategy, randomSeed);
+            gameEngine.setGuiEnabled(false);
+            pooledEngines.set(gameEngine);
+        } else {
+            gameEngine.reset(boardSize, randomSeed, redStrategy, blueStrategy);
+        }
+        // Only generates the board again if the engine's last game placed resources another way
+        gameEngine.setResourcePlacement(resourcePlacement);
+        gameEngine.setTurnTimeLimit(turnTimeLimitMillis, timeBankMillis, turnTimeoutPolicy);
+        gameEngine.setTurnOrder(turnOrder);
+        gameEngine.setMetricsEnabled(metricsEnabled);
+
+        gameEngine.runGame();
+        result.recordGame(gameEngine);
+    }
+
+    /**
+     * Plays the games numbered [firstGame, lastGame) by splitting the range in half until each half is small,
+     *  letting idle pool threads steal the halves that have not started yet
+     */
+    private class GameRangeTask extends RecursiveTask<TournamentResult> {
+        private final SeedStream seedStream;
+        private final int firstGame;
+        private final int lastGame;
+
+        GameRangeTask(SeedStream seedStream, int firstGame, int lastGame) {
+            this.seedStream = seedStream;
+            this.firstGame = firstGame;
+            this.lastGame = lastGame;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (lastGame - firstGame <= MAX_GAMES_PER_TASK) {
+                TournamentResult result = new TournamentResult();
+                for (int gameNumber = firstGame; gameNumber < lastGame; gameNumber++) {
+                    playPooledGame(seedStream.seedForGame(gameNumber), result);
+                }
+                return result;
+            }
+
+            int middleGame = (firstGame + lastGame) >>> 1;
+            GameRangeTask firstHalf = new GameRangeTask(seedStream, firstGame, middleGame);
+            GameRangeTask secondHalf = new GameRangeTask(seedStream, middleGame, lastGame);
+            firstHalf.fork();
+            TournamentResult secondHalfResult = secondHalf.compute();
+            return firstHalf.join().merge(secondHalfResult);
+        }
+    }
+}
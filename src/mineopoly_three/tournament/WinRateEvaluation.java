@@ -0,0 +1,68 @@
+package mineopoly_three.tournament;
+
+/**
+ * The outcome of a SequentialEvaluator deciding whether a strategy's win rate clears a threshold
+ */
+public class WinRateEvaluation {
+    private final boolean passed;
+    private final boolean decidedEarly;
+    private final double winRateLowerBound;
+    private final double winRateUpperBound;
+    private final TournamentResult tournamentResult;
+
+    WinRateEvaluation(boolean passed, boolean decidedEarly, double winRateLowerBound, double winRateUpperBound,
+                      TournamentResult tournamentResult) {
+        this.passed = passed;
+        this.decidedEarly = decidedEarly;
+        this.winRateLowerBound = winRateLowerBound;
+        this.winRateUpperBound = winRateUpperBound;
+        this.tournamentResult = tournamentResult;
+    }
+
+    /**
+     * @return True if the strategy's win rate was judged to be at least the threshold
+     */
+    public boolean isPassed() {
+        return passed;
+    }
+
+    /**
+     * @return True if the confidence bound settled the result before the maximum number of games was played.
+     *          If false, the result was decided by the observed win rate over every game instead
+     */
+    public boolean isDecidedEarly() {
+        return decidedEarly;
+    }
+
+    public int getNumGamesPlayed() {
+        return tournamentResult.getNumGamesPlayed();
+    }
+
+    /**
+     * @return The observed fraction of games the red strategy won by the minimum score
+     */
+    public double getWinRate() {
+        return tournamentResult.getRedWinPercentByMinScore();
+    }
+
+    public double getWinRateLowerBound() {
+        return winRateLowerBound;
+    }
+
+    public double getWinRateUpperBound() {
+        return winRateUpperBound;
+    }
+
+    /**
+     * @return The combined results of every game played during the evaluation
+     */
+    public TournamentResult getTournamentResult() {
+        return tournamentResult;
+    }
+
+    @Override
+    public String toString() {
+        return "(Passed, games played, win rate, lower bound, upper bound): (" + passed + ", " + getNumGamesPlayed()
+                + ", " + getWinRate() + ", " + winRateLowerBound + ", " + winRateUpperBound + ")";
+    }
+}
@@ -0,0 +1,190 @@
+package mineopoly_three.util;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Remembers which tiles of a square board are in each of a fixed number of categories, like the tiles of each
+ *  TileType, so the tiles in a category nearest to a location can be found without looking at every tile.
+ * Each category is a bit per tile, numbered row by row from the top of the board like GameBoard numbers its
+ *  tiles, so a search only has to look at the rows near the starting location. Distances are Manhattan distances
+ */
+public class GridIndex {
+    private final int boardSize;
+    private final BitSet[] tilesByCategory;
+
+    /**
+     * Creates an index with no tiles in any category
+     *
+     * @param boardSize The width and height of the board
+     * @param numCategories How many categories tiles can be in, numbered from 0
+     */
+    public GridIndex(int boardSize, int numCategories) {
+        this.boardSize = boardSize;
+        this.tilesByCategory = new BitSet[numCategories];
+        for (int category = 0; category < numCategories; category++) {
+            tilesByCategory[category] = new BitSet(boardSize * boardSize);
+        }
+    }
+
+    /**
+     * Creates a copy of another index, which later changes to either index won't affect
+     *
+     * @param other The index to copy
+     */
+    public GridIndex(GridIndex other) {
+        this.boardSize = other.boardSize;
+        this.tilesByCategory = new BitSet[other.tilesByCategory.length];
+        for (int category = 0; category < tilesByCategory.length; category++) {
+            tilesByCategory[category] = (BitSet) other.tilesByCategory[category].clone();
+        }
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Adds a tile to a category or removes it from one. Locations outside the board are ignored
+     *
+     * @param x The x coordinate of the tile
+     * @param y The y coordinate of the tile
+     * @param category The category to change
+     * @param inCategory True to add the tile to the category, false to remove it
+     */
+    public void set(int x, int y, int category, boolean inCategory) {
+        if (isValidLocation(x, y)) {
+            tilesByCategory[category].set(getTileIndex(x, y), inCategory);
+        }
+    }
+
+    /**
+     * Removes every tile from every category
+     */
+    public void clear() {
+        for (BitSet tiles : tilesByCategory) {
+            tiles.clear();
+        }
+    }
+
+    /**
+     * @return True if the tile at (x, y) is in the category, false if it isn't or is outside the board
+     */
+    public boolean contains(int x, int y, int category) {
+        return isValidLocation(x, y) && tilesByCategory[category].get(getTileIndex(x, y));
+    }
+
+    /**
+     * @return The number of tiles in the category
+     */
+    public int count(int category) {
+        return tilesByCategory[category].cardinality();
+    }
+
+    /**
+     * Finds the tile in a category with the smallest Manhattan distance to a location.
+     * Only the rows within the best distance found so far are searched
+     *
+     * @param x The x coordinate to measure distance from
+     * @param y The y coordinate to measure distance from
+     * @param category The category of tile to look for
+     * @return The location of a nearest tile in the category, or null if there are none. If several tiles are
+     *          equally near, any one of them may be returned
+     */
+    public Point findNearest(int x, int y, int category) {
+        BitSet tiles = tilesByCategory[category];
+        if (tiles.isEmpty()) {
+            return null;
+        }
+
+        Point nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (int yDistance = 0; yDistance < nearestDistance; yDistance++) {
+            int rowBelow = y - yDistance;
+            int rowAbove = y + yDistance;
+            if (rowBelow < 0 && rowAbove >= boardSize) {
+                // Every row has been searched
+                break;
+            }
+
+            int belowColumn = findNearestInRow(tiles, rowBelow, x);
+            if (belowColumn >= 0 && yDistance + Math.abs(belowColumn - x) < nearestDistance) {
+                nearestDistance = yDistance + Math.abs(belowColumn - x);
+                nearest = new Point(belowColumn, rowBelow);
+            }
+            // With no distance the row above is the same row
+            int aboveColumn = (yDistance == 0) ? -1 : findNearestInRow(tiles, rowAbove, x);
+            if (aboveColumn >= 0 && yDistance + Math.abs(aboveColumn - x) < nearestDistance) {
+                nearestDistance = yDistance + Math.abs(aboveColumn - x);
+                nearest = new Point(aboveColumn, rowAbove);
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Finds every tile in a category within a Manhattan distance of a location
+     *
+     * @param x The x coordinate to measure distance from
+     * @param y The y coordinate to measure distance from
+     * @param category The category of tile to look for
+     * @param maxDistance The largest distance a tile can be away and still be found
+     * @return A new list with the location of every tile found, ordered by rows from the bottom of the board
+     */
+    public List<Point> findWithinDistance(int x, int y, int category, int maxDistance) {
+        BitSet tiles = tilesByCategory[category];
+        List<Point> tilesFound = new ArrayList<>();
+        int firstRow = Math.max(y - maxDistance, 0);
+        int lastRow = Math.min(y + maxDistance, boardSize - 1);
+        for (int rowY = firstRow; rowY <= lastRow; rowY++) {
+            int xDistanceLeft = maxDistance - Math.abs(rowY - y);
+            int firstColumn = Math.max(x - xDistanceLeft, 0);
+            int lastColumn = Math.min(x + xDistanceLeft, boardSize - 1);
+            if (firstColumn > lastColumn) {
+                continue;
+            }
+
+            int rowStart = getTileIndex(0, rowY);
+            for (int tileIndex = tiles.nextSetBit(rowStart + firstColumn);
+                 tileIndex >= 0 && tileIndex <= rowStart + lastColumn;
+                 tileIndex = tiles.nextSetBit(tileIndex + 1)) {
+                tilesFound.add(new Point(tileIndex - rowStart, rowY));
+            }
+        }
+        return tilesFound;
+    }
+
+    /**
+     * @return The column of the set tile in a row closest to column x, or -1 if the row is outside the board or
+     *          has no set tiles. Ties go to the left
+     */
+    private int findNearestInRow(BitSet tiles, int rowY, int x) {
+        if (rowY < 0 || rowY >= boardSize) {
+            return -1;
+        }
+
+        int rowStart = getTileIndex(0, rowY);
+        int searchStart = rowStart + Math.min(Math.max(x, 0), boardSize - 1);
+        int left = tiles.previousSetBit(searchStart);
+        int right = tiles.nextSetBit(searchStart);
+        int leftColumn = (left >= rowStart) ? left - rowStart : -1;
+        int rightColumn = (right >= 0 && right < rowStart + boardSize) ? right - rowStart : -1;
+
+        if (leftColumn < 0) {
+            return rightColumn;
+        } else if (rightColumn < 0) {
+            return leftColumn;
+        }
+        return (Math.abs(rightColumn - x) < Math.abs(leftColumn - x)) ? rightColumn : leftColumn;
+    }
+
+    private boolean isValidLocation(int x, int y) {
+        return x >= 0 && x < boardSize && y >= 0 && y < boardSize;
+    }
+
+    private int getTileIndex(int x, int y) {
+        return ((boardSize - 1) - y) * boardSize + x;
+    }
+}
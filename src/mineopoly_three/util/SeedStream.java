@@ -0,0 +1,49 @@
+package mineopoly_three.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Hands out a different, reproducible random seed for every game in a batch, all derived from one master seed.
+ * The seed for a game depends only on the master seed and the game's number, never on which thread plays it
+ *  or in what order, so running a batch in parallel gives exactly the same games as running it serially.
+ *
+ * Seeds are mixed with the same function SplittableRandom uses, so games numbered next to each other still get
+ *  completely unrelated seeds (unlike startingSeed + i, which java.util.Random turns into similar first values).
+ */
+public class SeedStream {
+    // The increment SplittableRandom adds to its state for every value it generates
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long masterSeed;
+
+    public SeedStream(long masterSeed) {
+        this.masterSeed = masterSeed;
+    }
+
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Gets the seed for one game of the batch. This is the same value the (gameNumber + 1)th call to
+     *  new SplittableRandom(masterSeed).nextLong() would return, but can be computed for any game directly
+     *
+     * @param gameNumber The number of the game in the batch, starting from 0
+     * @return The random seed for that game
+     */
+    public long seedForGame(long gameNumber) {
+        return deriveSeed(masterSeed, gameNumber);
+    }
+
+    /**
+     * Derives an independent seed from a parent seed, such as the seed for one player's random number generator
+     *  from the seed of the game they are playing. Different stream numbers give unrelated seeds
+     *
+     * @param parentSeed The seed to derive from
+     * @param streamNumber Which of the parent seed's derived seeds to get
+     * @return The derived seed
+     */
+    public static long deriveSeed(long parentSeed, long streamNumber) {
+        return new SplittableRandom(parentSeed + streamNumber * GOLDEN_GAMMA).nextLong();
+    }
+}
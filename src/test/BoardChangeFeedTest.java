@@ -0,0 +1,194 @@
+package test;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.Economy;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.TurnOrder;
+import mineopoly_three.game.TurnTimeoutPolicy;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.BoardChange;
+import mineopoly_three.strategy.IncrementalMinePlayerStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.TileType;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A strategy that only ever looks at the board in initialize() and from then on keeps it up to date from the
+ *  BoardChanges alone must see exactly the board that the PlayerBoardView shows on every turn
+ */
+public class BoardChangeFeedTest {
+    private static final int[] BOARD_SIZES = {14, 20};
+    private static final long[] SEEDS = {1, 2, 3};
+    /**
+     * Rebuilds the board from the change feed and compares it with the view it is given on every turn. Any
+     *  difference is kept rather than thrown, since the engine would only treat an exception as the strategy failing
+     */
+    private static class BoardRebuildingStrategy extends MiningRandomStrategy
+            implements IncrementalMinePlayerStrategy {
+        private final int slowTurnInterval;
+        private final long slowTurnMillis;
+        private int boardSize;
+        private TileType[][] tileTypes;
+        private Map<Point, List<InventoryItem>> itemsOnGround;
+        private int numCalls;
+        private int numChangesReceived;
+        private String firstDifference;
+
+        BoardRebuildingStrategy() {
+            this(0, 0);
+        }
+
+        /**
+         * @param slowTurnInterval Every this many calls, take slowTurnMillis to decide, or 0 to never be slow
+         * @param slowTurnMillis How long to take on a slow turn
+         */
+        BoardRebuildingStrategy(int slowTurnInterval, long slowTurnMillis) {
+            this.slowTurnInterval = slowTurnInterval;
+            this.slowTurnMillis = slowTurnMillis;
+        }
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+            super.initialize(boardSize, maxInventorySize, maxCharge, winningScore, startingBoard, startTileLocation,
+                             isRedPlayer, random);
+            this.boardSize = boardSize;
+            this.tileTypes = new TileType[boardSize][boardSize];
+            for (int x = 0; x < boardSize; x++) {
+                for (int y = 0; y < boardSize; y++) {
+                    tileTypes[x][y] = startingBoard.getTileTypeAtLocation(x, y);
+                }
+            }
+            this.itemsOnGround = new HashMap<>(startingBoard.getItemsOnGround());
+        }
+
+        @Override
+        public void onBoardChanges(List<BoardChange> changesSinceLastTurn) {
+            for (BoardChange change : changesSinceLastTurn) {
+                Point location = change.getLocation();
+                tileTypes[location.x][location.y] = change.getTileType();
+                if (change.getItemsOnGround().isEmpty()) {
+                    itemsOnGround.remove(location);
+                } else {
+                    itemsOnGround.put(location, change.getItemsOnGround());
+                }
+            }
+            numChangesReceived += changesSinceLastTurn.size();
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            numCalls++;
+            if (firstDifference == null) {
+                firstDifference = findDifference(boardView);
+            }
+            if (slowTurnInterval > 0 && numCalls % slowTurnInterval == 0) {
+                try {
+                    Thread.sleep(slowTurnMillis);
+                } catch (InterruptedException e) {
+                    // Interrupted for running out of time, which is the point
+                }
+            }
+            return super.getTurnAction(boardView, economy, currentCharge, isRedTurn);
+        }
+
+        private String findDifference(PlayerBoardView boardView) {
+            for (int x = 0; x < boardSize; x++) {
+                for (int y = 0; y < boardSize; y++) {
+                    Point location = new Point(x, y);
+                    if (tileTypes[x][y] != boardView.getTileTypeAtLocation(x, y)) {
+                        return "Call " + numCalls + ", tile " + location + ": " + tileTypes[x][y] + " instead of "
+                               + boardView.getTileTypeAtLocation(x, y);
+                    }
+                    String rebuiltItems = String.valueOf(describeItems(itemsOnGround.get(location)));
+                    String viewItems = String.valueOf(describeItems(boardView.getItemsOnGround().get(location)));
+                    if (!rebuiltItems.equals(viewItems)) {
+                        return "Call " + numCalls + ", items at " + location + ": " + rebuiltItems + " instead of "
+                               + viewItems;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    private static String describeItems(List<InventoryItem> items) {
+        if (items == null || items.isEmpty()) {
+            return "[]";
+        }
+        StringBuilder description = new StringBuilder();
+        for (InventoryItem item : items) {
+            description.append(item.getItemType()).append(' ');
+        }
+        return description.toString();
+    }
+
+    private static int countMissedTurns(List<TurnAction> turnActions) {
+        int numMissedTurns = 0;
+        for (TurnAction turnAction : turnActions) {
+            if (turnAction == null) {
+                numMissedTurns++;
+            }
+        }
+        return numMissedTurns;
+    }
+
+    @Test
+    public void testRebuiltBoardMatchesViewEveryTurn() {
+        for (TurnOrder turnOrder : TurnOrder.values()) {
+            for (int boardSize : BOARD_SIZES) {
+                for (long seed : SEEDS) {
+                    String message = turnOrder + ", size " + boardSize + ", seed " + seed;
+                    BoardRebuildingStrategy redStrategy = new BoardRebuildingStrategy();
+                    BoardRebuildingStrategy blueStrategy = new BoardRebuildingStrategy();
+                    GameEngine gameEngine = new GameEngine(boardSize, redStrategy, blueStrategy, seed);
+                    gameEngine.setTurnOrder(turnOrder);
+                    gameEngine.runGame();
+
+                    assertNull(message, redStrategy.firstDifference);
+                    assertNull(message, blueStrategy.firstDifference);
+                    assertEquals(message, gameEngine.getRedPlayer().getAllTurnActions().size(),
+                                 redStrategy.numCalls);
+                    // Otherwise nothing changed and this test proves nothing
+                    assertTrue(message, redStrategy.numChangesReceived > 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStrategyBehindOnChangesCatchesUp() {
+        // Every 25th call runs far past the limit, and the turns until it returns are skipped without calling it.
+        //  It has to be given every change from those turns on its next call
+        for (TurnOrder turnOrder : TurnOrder.values()) {
+            for (long seed : SEEDS) {
+                String message = turnOrder + ", seed " + seed;
+                BoardRebuildingStrategy redStrategy = new BoardRebuildingStrategy(25, 30);
+                GameEngine gameEngine = new GameEngine(14, redStrategy, new ResourceClearingStrategy(), seed);
+                gameEngine.setTurnOrder(turnOrder);
+                gameEngine.setTurnTimeLimit(10, 0, TurnTimeoutPolicy.SKIP_TURN);
+                gameEngine.runGame();
+
+                assertNull(message, redStrategy.firstDifference);
+                // Otherwise the strategy never fell behind and this test proves nothing
+                List<TurnAction> redTurnActions = gameEngine.getRedPlayer().getAllTurnActions();
+                assertTrue(message, countMissedTurns(redTurnActions) > redStrategy.numCalls / 25);
+                assertTrue(message, redStrategy.numCalls > 20);
+                assertTrue(message, redStrategy.numChangesReceived > 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package test;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.ChunkedGameBoard;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.MinePlayer;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.TileType;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedGameBoardTest {
+    private static final int[] BOARD_SIZES = {40, 100, 333};
+    private static final long[] SEEDS = {1, 2, 3};
+
+    private static String describeTileTypes(ChunkedGameBoard board) {
+        StringBuilder description = new StringBuilder();
+        for (int y = 0; y < board.getSize(); y++) {
+            for (int x = 0; x < board.getSize(); x++) {
+                description.append(board.getTileTypeAtLocation(x, y)).append(' ');
+            }
+        }
+        return description.toString();
+    }
+
+    private static String describeView(PlayerBoardView view, int boardSize) {
+        StringBuilder description = new StringBuilder();
+        for (int x = 0; x < boardSize; x++) {
+            for (int y = 0; y < boardSize; y++) {
+                int[] numOfType = new int[ItemType.values().length];
+                List<InventoryItem> items = view.getItemsOnGround().get(new Point(x, y));
+                if (items != null) {
+                    for (InventoryItem item : items) {
+                        numOfType[item.getItemType().ordinal()]++;
+                    }
+                }
+                description.append(view.getTileTypeAtLocation(x, y)).append(Arrays.toString(numOfType));
+            }
+        }
+        return description.append(view.getYourLocation()).append(view.getOtherPlayerLocation())
+                          .append(view.getOtherPlayerScore()).toString();
+    }
+
+    @Test
+    public void testChunksDontDependOnGenerationOrder() {
+        for (int boardSize : BOARD_SIZES) {
+            for (long seed : SEEDS) {
+                String inRowOrder = describeTileTypes(new ChunkedGameBoard(boardSize, seed));
+
+                // Generate every chunk starting from the top right corner instead
+                ChunkedGameBoard reversedBoard = new ChunkedGameBoard(boardSize, seed);
+                for (int y = boardSize - 1; y >= 0; y--) {
+                    for (int x = boardSize - 1; x >= 0; x--) {
+                        reversedBoard.getTileTypeAtLocation(x, y);
+                    }
+                }
+                assertEquals("Size " + boardSize + ", seed " + seed, inRowOrder, describeTileTypes(reversedBoard));
+
+                // And in a shuffled order, one tile from each chunk
+                ChunkedGameBoard shuffledBoard = new ChunkedGameBoard(boardSize, seed);
+                List<Point> chunkCorners = new ArrayList<>();
+                for (int x = 0; x < boardSize; x += ChunkedGameBoard.CHUNK_SIZE) {
+                    for (int y = 0; y < boardSize; y += ChunkedGameBoard.CHUNK_SIZE) {
+                        chunkCorners.add(new Point(x, y));
+                    }
+                }
+                Collections.shuffle(chunkCorners, new Random(seed));
+                for (Point chunkCorner : chunkCorners) {
+                    shuffledBoard.getTileTypeAtLocation(chunkCorner.x, chunkCorner.y);
+                }
+                assertEquals("Size " + boardSize + ", seed " + seed, inRowOrder, describeTileTypes(shuffledBoard));
+            }
+        }
+    }
+
+    @Test
+    public void testChunksGeneratedOnlyWhenLookedAt() {
+        ChunkedGameBoard board = new ChunkedGameBoard(8192, 3);
+        int generatedAtStart = board.getNumGeneratedChunks();
+        int chunksPerSide = 8192 / ChunkedGameBoard.CHUNK_SIZE;
+        assertTrue(generatedAtStart < chunksPerSide * chunksPerSide);
+
+        board.getTileTypeAtLocation(4000, 4000);
+        board.getTileTypeAtLocation(4001, 4001);
+        assertEquals(generatedAtStart + 1, board.getNumGeneratedChunks());
+    }
+
+    @Test
+    public void testViewsStayAsTheyWereMade() {
+        int boardSize = 40;
+        TurnAction[] allTurnActions = TurnAction.values();
+        for (long seed : SEEDS) {
+            ChunkedGameBoard board = new ChunkedGameBoard(boardSize, seed);
+            // The board only needs players, so they are borrowed from a game that is never played
+            GameEngine playerSource = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), seed);
+            MinePlayer redPlayer = playerSource.getRedPlayer();
+            MinePlayer bluePlayer = playerSource.getBluePlayer();
+            board.placePlayer(redPlayer, board.getRedStartTileLocation());
+            board.placePlayer(bluePlayer, board.getBlueStartTileLocation());
+
+            Random actionRandom = new Random(seed);
+            List<PlayerBoardView> views = new ArrayList<>();
+            List<String> descriptionsWhenMade = new ArrayList<>();
+            for (int turn = 0; turn < 400; turn++) {
+                if (turn % 50 == 0) {
+                    redPlayer.addItemToInventory(new InventoryItem(ItemType.AUTOMINER));
+                }
+                board.performAction(redPlayer, allTurnActions[actionRandom.nextInt(allTurnActions.length)]);
+                board.performAction(bluePlayer, allTurnActions[actionRandom.nextInt(allTurnActions.length)]);
+                board.update();
+
+                if (turn % 40 == 0) {
+                    PlayerBoardView view = board.convertToView(redPlayer, bluePlayer);
+                    views.add(view);
+                    descriptionsWhenMade.add(describeView(view, boardSize));
+                }
+            }
+
+            for (int i = 0; i < views.size(); i++) {
+                assertEquals("Seed " + seed + ", view " + i, descriptionsWhenMade.get(i),
+                             describeView(views.get(i), boardSize));
+            }
+            assertEquals(TileType.RED_MARKET, views.get(0).getTileTypeAtLocation(board.getRedStartTileLocation()));
+        }
+    }
+}
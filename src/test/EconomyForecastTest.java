@@ -0,0 +1,187 @@
+package test;
+
+import mineopoly_three.game.Economy;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Forecasts and quotes work out future prices without stepping through the turns, so they are checked against an
+ *  economy that really does step through them, especially once prices reach their maximum. The current prices
+ *  read without allocating are checked against the copied price map the same way
+ */
+public class EconomyForecastTest {
+    private static final ItemType[] RESOURCE_TYPES = {ItemType.DIAMOND, ItemType.EMERALD, ItemType.RUBY};
+
+    /**
+     * Makes the protected methods the GameEngine uses to change prices callable from the tests
+     */
+    private static class SteppableEconomy extends Economy {
+        SteppableEconomy() {
+            super(RESOURCE_TYPES);
+        }
+
+        SteppableEconomy(ItemType[] resourceTypes) {
+            super(resourceTypes);
+        }
+
+        void step(int numTurns) {
+            for (int turn = 0; turn < numTurns; turn++) {
+                increaseDemand();
+            }
+        }
+
+        int sell(List<InventoryItem> itemsToSell) {
+            return sellResources(itemsToSell);
+        }
+    }
+
+    private static List<InventoryItem> createRandomItems(Random random) {
+        ItemType[] allItemTypes = ItemType.values();
+        List<InventoryItem> items = new ArrayList<>();
+        int numItems = random.nextInt(6);
+        for (int i = 0; i < numItems; i++) {
+            items.add(new InventoryItem(allItemTypes[random.nextInt(allItemTypes.length)]));
+        }
+        return items;
+    }
+
+    private static int getTurnsToMaxPrice(ItemType resourceType) {
+        int priceRange = resourceType.getMaxPrice() - resourceType.getStartingPrice();
+        return (priceRange + resourceType.getPriceIncreasePerTurn() - 1) / resourceType.getPriceIncreasePerTurn();
+    }
+
+    @Test
+    public void testForecastMatchesSteppedPrices() {
+        Random random = new Random(5);
+        for (int economyNumber = 0; economyNumber < 500; economyNumber++) {
+            SteppableEconomy economy = new SteppableEconomy();
+            SteppableEconomy steppedEconomy = new SteppableEconomy();
+            int numWarmUpTurns = random.nextInt(50);
+            for (int turn = 0; turn < numWarmUpTurns; turn++) {
+                if (random.nextInt(4) == 0) {
+                    List<InventoryItem> itemsToSell = createRandomItems(random);
+                    economy.sell(itemsToSell);
+                    steppedEconomy.sell(itemsToSell);
+                }
+                economy.step(1);
+                steppedEconomy.step(1);
+            }
+
+            // Far enough ahead that most forecasts run into the maximum price
+            int turnsFromNow = random.nextInt(300);
+            List<InventoryItem> itemsToSell = createRandomItems(random);
+            int quotedSale = economy.quoteSale(itemsToSell, turnsFromNow);
+            steppedEconomy.step(turnsFromNow);
+            for (ItemType itemType : ItemType.values()) {
+                assertEquals(itemType + " in " + turnsFromNow + " turns", steppedEconomy.getPrice(itemType),
+                             economy.getForecastPrice(itemType, turnsFromNow));
+            }
+            assertEquals(steppedEconomy.sell(itemsToSell), quotedSale);
+        }
+    }
+
+    @Test
+    public void testForecastStopsAtMaxPrice() {
+        for (ItemType resourceType : RESOURCE_TYPES) {
+            int turnsToMaxPrice = getTurnsToMaxPrice(resourceType);
+            SteppableEconomy economy = new SteppableEconomy();
+            assertEquals(resourceType.getMaxPrice(), economy.getForecastPrice(resourceType, turnsToMaxPrice));
+            assertEquals(resourceType.getMaxPrice(), economy.getForecastPrice(resourceType, turnsToMaxPrice + 1));
+
+            // One turn short of the maximum, the next turn's rise is cut off at it
+            economy.step(turnsToMaxPrice - 1);
+            assertTrue(economy.getPrice(resourceType) < resourceType.getMaxPrice());
+            assertEquals(resourceType.getMaxPrice(), economy.getForecastPrice(resourceType, 1));
+
+            // Once at the maximum, no forecast goes past it, even one far enough off to overflow an int
+            economy.step(1);
+            assertEquals(resourceType.getMaxPrice(), economy.getPrice(resourceType));
+            assertEquals(resourceType.getMaxPrice(), economy.getForecastPrice(resourceType, 0));
+            assertEquals(resourceType.getMaxPrice(), economy.getForecastPrice(resourceType, 1));
+            assertEquals(resourceType.getMaxPrice(), economy.getForecastPrice(resourceType, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void testQuoteAtMaxPrice() {
+        SteppableEconomy economy = new SteppableEconomy();
+        int turnsToAllMaxPrices = 0;
+        for (ItemType resourceType : RESOURCE_TYPES) {
+            turnsToAllMaxPrices = Math.max(turnsToAllMaxPrices, getTurnsToMaxPrice(resourceType));
+        }
+        economy.step(turnsToAllMaxPrices);
+
+        List<InventoryItem> itemsToSell = new ArrayList<>();
+        int expectedTotal = 0;
+        for (ItemType resourceType : RESOURCE_TYPES) {
+            itemsToSell.add(new InventoryItem(resourceType));
+            itemsToSell.add(new InventoryItem(resourceType));
+            expectedTotal += 2 * resourceType.getMaxPrice();
+        }
+        itemsToSell.add(new InventoryItem(ItemType.AUTOMINER));
+
+        assertEquals(expectedTotal, economy.quoteSale(itemsToSell));
+        assertEquals(expectedTotal, economy.quoteSale(itemsToSell, 1000));
+        assertEquals(expectedTotal, economy.sell(itemsToSell));
+    }
+
+    @Test
+    public void testPriceMatchesCurrentPrices() {
+        Random random = new Random(8);
+        SteppableEconomy economy = new SteppableEconomy();
+        for (int turn = 0; turn < 400; turn++) {
+            if (random.nextInt(3) == 0) {
+                economy.sell(createRandomItems(random));
+            }
+            economy.step(random.nextInt(3));
+
+            Map<ItemType, Integer> currentPrices = economy.getCurrentPrices();
+            assertEquals(RESOURCE_TYPES.length, currentPrices.size());
+            for (ItemType resourceType : RESOURCE_TYPES) {
+                assertEquals("Turn " + turn, (int) currentPrices.get(resourceType), economy.getPrice(resourceType));
+            }
+        }
+    }
+
+    @Test
+    public void testPriceOfItemNotBought() {
+        SteppableEconomy economy = new SteppableEconomy();
+        economy.step(10);
+        assertEquals(0, economy.getPrice(ItemType.AUTOMINER));
+
+        // Nor a resource left out of the economy, however much demand increases or what is sold
+        SteppableEconomy diamondEconomy = new SteppableEconomy(new ItemType[] {ItemType.DIAMOND});
+        diamondEconomy.step(10);
+        List<InventoryItem> itemsToSell = new ArrayList<>();
+        itemsToSell.add(new InventoryItem(ItemType.DIAMOND));
+        itemsToSell.add(new InventoryItem(ItemType.RUBY));
+        diamondEconomy.sell(itemsToSell);
+        assertEquals(0, diamondEconomy.getPrice(ItemType.RUBY));
+        assertEquals(0, diamondEconomy.getPrice(ItemType.EMERALD));
+        assertFalse(diamondEconomy.getCurrentPrices().containsKey(ItemType.RUBY));
+        assertEquals((int) diamondEconomy.getCurrentPrices().get(ItemType.DIAMOND),
+                     diamondEconomy.getPrice(ItemType.DIAMOND));
+    }
+
+    @Test
+    public void testForecastOfItemNotBought() {
+        SteppableEconomy economy = new SteppableEconomy();
+        assertEquals(0, economy.getForecastPrice(ItemType.AUTOMINER, 0));
+        assertEquals(0, economy.getForecastPrice(ItemType.AUTOMINER, 100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeForecast() {
+        new SteppableEconomy().getForecastPrice(ItemType.DIAMOND, -1);
+    }
+}
@@ -0,0 +1,63 @@
+package test;
+
+import mineopoly_three.game.GameEngine;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A reset engine reuses its board, economy, and players in place when the board size doesn't change, and replaces
+ *  them when it does. Either way it has to play exactly the game a new engine would
+ */
+public class EngineResetTest {
+    private static final long[] SEEDS = {1, 2, 3, 4, 5};
+
+    private static GameEngine playNewGame(int boardSize, long seed) {
+        GameEngine gameEngine = new GameEngine(boardSize, new MiningRandomStrategy(), new MiningRandomStrategy(),
+                                               seed);
+        gameEngine.runGame();
+        return gameEngine;
+    }
+
+    @Test
+    public void testResetToSameSizeMatchesNewEngine() {
+        GameEngine reusedEngine = playNewGame(20, 99);
+        for (long seed : SEEDS) {
+            reusedEngine.reset(20, seed, new MiningRandomStrategy(), new MiningRandomStrategy());
+            reusedEngine.runGame();
+            GameSnapshotTest.assertSameGame("Seed " + seed, playNewGame(20, seed), reusedEngine);
+        }
+    }
+
+    @Test
+    public void testResetToOtherSizeMatchesNewEngine() {
+        GameEngine reusedEngine = playNewGame(14, 99);
+        int[] boardSizes = {20, 14, 26, 26, 14};
+        for (int i = 0; i < SEEDS.length; i++) {
+            String message = "Size " + boardSizes[i] + ", seed " + SEEDS[i];
+            reusedEngine.reset(boardSizes[i], SEEDS[i], new MiningRandomStrategy(), new MiningRandomStrategy());
+            assertEquals(message, boardSizes[i], reusedEngine.getBoard().getSize());
+            reusedEngine.runGame();
+            GameSnapshotTest.assertSameGame(message, playNewGame(boardSizes[i], SEEDS[i]), reusedEngine);
+        }
+    }
+
+    @Test
+    public void testResetBeforePlayingMatchesNewEngine() {
+        // The board is generated again in place before anything has changed it
+        GameEngine reusedEngine = new GameEngine(20, new MiningRandomStrategy(), new MiningRandomStrategy(), 7);
+        reusedEngine.reset(20, 8, new MiningRandomStrategy(), new MiningRandomStrategy());
+        assertEquals(new GameEngine(20, new MiningRandomStrategy(), new MiningRandomStrategy(), 8).getStateHash(),
+                     reusedEngine.getStateHash());
+        reusedEngine.runGame();
+        GameSnapshotTest.assertSameGame("Seed 8", playNewGame(20, 8), reusedEngine);
+    }
+
+    @Test
+    public void testResetWithSwappedPlayersMatchesNewEngine() {
+        GameEngine reusedEngine = playNewGame(20, 99);
+        reusedEngine.reset(20, 3, true);
+        reusedEngine.runGame();
+        GameSnapshotTest.assertSameGame("Swapped", playNewGame(20, 3), reusedEngine);
+    }
+}
@@ -0,0 +1,73 @@
+package test;
+
+import mineopoly_three.event.TurnCompletedEvent;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.TileType;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * A view from GameBoard.convertToView() must keep showing the board as it was when the view was made, index
+ *  queries included, since a strategy that runs past its deadline may still be reading it after the board changes
+ */
+public class GameBoardViewTest {
+    private static final int BOARD_SIZE = 20;
+    private static final long[] SEEDS = {1, 2, 3};
+    private static final int TURNS_BETWEEN_VIEWS = 20;
+
+    private static String describeView(PlayerBoardView view) {
+        StringBuilder description = new StringBuilder();
+        for (int x = 0; x < BOARD_SIZE; x++) {
+            for (int y = 0; y < BOARD_SIZE; y++) {
+                description.append(view.getTileTypeAtLocation(x, y)).append(' ');
+            }
+        }
+
+        // Far enough to find everything, so these describe the whole of both indexes
+        Point center = new Point(BOARD_SIZE / 2, BOARD_SIZE / 2);
+        for (TileType tileType : TileType.values()) {
+            description.append(tileType).append(view.getTilesOfTypeWithinDistance(center, tileType, 2 * BOARD_SIZE))
+                       .append(view.getNearestTileOfType(center, tileType));
+        }
+        for (ItemType itemType : ItemType.values()) {
+            description.append(itemType).append(view.getItemsOnGroundWithinDistance(center, itemType, 2 * BOARD_SIZE))
+                       .append(view.getNearestItemOnGround(center, itemType));
+        }
+        return description.toString();
+    }
+
+    @Test
+    public void testViewsStayAsTheyWereMade() {
+        for (long seed : SEEDS) {
+            GameEngine gameEngine = new GameEngine(BOARD_SIZE, new ResourceClearingStrategy(),
+                                                   new ResourceClearingStrategy(), seed);
+            List<PlayerBoardView> views = new ArrayList<>();
+            List<String> descriptionsWhenMade = new ArrayList<>();
+            gameEngine.getEventBus().subscribe(TurnCompletedEvent.class, event -> {
+                if (event.getTurnNumber() % TURNS_BETWEEN_VIEWS == 0) {
+                    PlayerBoardView view = gameEngine.getBoard().convertToView(gameEngine.getRedPlayer(),
+                                                                               gameEngine.getBluePlayer());
+                    views.add(view);
+                    descriptionsWhenMade.add(describeView(view));
+                }
+            });
+            gameEngine.runGame();
+
+            for (int i = 0; i < views.size(); i++) {
+                assertEquals("Seed " + seed + ", view " + i, descriptionsWhenMade.get(i), describeView(views.get(i)));
+            }
+            // Otherwise the board never changed and this test proves nothing
+            PlayerBoardView finalView = gameEngine.getBoard().convertToView(gameEngine.getRedPlayer(),
+                                                                            gameEngine.getBluePlayer());
+            assertNotEquals("Seed " + seed, descriptionsWhenMade.get(0), describeView(finalView));
+        }
+    }
+}
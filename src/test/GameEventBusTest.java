@@ -0,0 +1,171 @@
+package test;
+
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.GameEventListener;
+import mineopoly_three.event.PriceChangedEvent;
+import mineopoly_three.event.SaleEvent;
+import mineopoly_three.game.Economy;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GameEventBusTest {
+    private static final ItemType[] RESOURCE_TYPES = {ItemType.DIAMOND, ItemType.EMERALD, ItemType.RUBY};
+
+    /**
+     * An Executor that holds on to every task until the test runs them
+     */
+    private static class QueuedExecutor implements Executor {
+        private final List<Runnable> queuedTasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            queuedTasks.add(task);
+        }
+
+        int runAll() {
+            List<Runnable> tasksToRun = new ArrayList<>(queuedTasks);
+            queuedTasks.clear();
+            tasksToRun.forEach(Runnable::run);
+            return tasksToRun.size();
+        }
+    }
+
+    private static class WatchedEconomy extends Economy {
+        WatchedEconomy(GameEventBus eventBus) {
+            super(RESOURCE_TYPES);
+            setEventBus(eventBus);
+        }
+
+        void step(int numTurns) {
+            for (int turn = 0; turn < numTurns; turn++) {
+                increaseDemand();
+            }
+        }
+
+        int sell(ItemType resourceType) {
+            return sellResources(Collections.singletonList(new InventoryItem(resourceType)));
+        }
+    }
+
+    @Test
+    public void testSubscribeDeliversExactClassOnly() {
+        GameEventBus eventBus = new GameEventBus();
+        List<SaleEvent> saleEvents = new ArrayList<>();
+        eventBus.subscribe(SaleEvent.class, saleEvents::add);
+
+        SaleEvent saleEvent = new SaleEvent(1, 2);
+        eventBus.publish(saleEvent);
+        eventBus.publish(new PriceChangedEvent(new EnumMap<>(ItemType.class)));
+        assertEquals(1, saleEvents.size());
+        assertSame(saleEvent, saleEvents.get(0));
+    }
+
+    @Test
+    public void testCoalescingReplacesPendingEvent() {
+        GameEventBus eventBus = new GameEventBus();
+        QueuedExecutor executor = new QueuedExecutor();
+        List<SaleEvent> saleEvents = new ArrayList<>();
+        eventBus.subscribeCoalescing(SaleEvent.class, saleEvents::add, executor);
+
+        // Only the first event schedules a delivery, and that delivery carries the last event
+        SaleEvent lastEvent = new SaleEvent(3, 30);
+        eventBus.publish(new SaleEvent(1, 10));
+        eventBus.publish(new SaleEvent(2, 20));
+        eventBus.publish(lastEvent);
+        assertTrue(saleEvents.isEmpty());
+        assertEquals(1, executor.runAll());
+        assertEquals(1, saleEvents.size());
+        assertSame(lastEvent, saleEvents.get(0));
+
+        // Once delivered, the next event schedules a new delivery
+        SaleEvent nextEvent = new SaleEvent(4, 40);
+        eventBus.publish(nextEvent);
+        assertEquals(1, executor.runAll());
+        assertEquals(2, saleEvents.size());
+        assertSame(nextEvent, saleEvents.get(1));
+        assertEquals(0, executor.runAll());
+    }
+
+    @Test
+    public void testHasListeners() {
+        GameEventBus eventBus = new GameEventBus();
+        assertFalse(eventBus.hasListeners(SaleEvent.class));
+
+        GameEventListener<SaleEvent> listener = event -> { };
+        eventBus.subscribe(SaleEvent.class, listener);
+        assertTrue(eventBus.hasListeners(SaleEvent.class));
+        assertFalse(eventBus.hasListeners(PriceChangedEvent.class));
+
+        // An emptied list of listeners doesn't count
+        eventBus.unsubscribe(SaleEvent.class, listener);
+        assertFalse(eventBus.hasListeners(SaleEvent.class));
+
+        eventBus.subscribeCoalescing(PriceChangedEvent.class, event -> { }, Runnable::run);
+        assertTrue(eventBus.hasListeners(PriceChangedEvent.class));
+        eventBus.clear();
+        assertFalse(eventBus.hasListeners(PriceChangedEvent.class));
+    }
+
+    @Test
+    public void testUnsubscribe() {
+        GameEventBus eventBus = new GameEventBus();
+        List<SaleEvent> firstEvents = new ArrayList<>();
+        List<SaleEvent> secondEvents = new ArrayList<>();
+        GameEventListener<SaleEvent> firstListener = firstEvents::add;
+        GameEventListener<SaleEvent> secondListener = secondEvents::add;
+        eventBus.subscribe(SaleEvent.class, firstListener);
+        eventBus.subscribeCoalescing(SaleEvent.class, secondListener, Runnable::run);
+
+        assertFalse(eventBus.unsubscribe(PriceChangedEvent.class, firstListener));
+        assertTrue(eventBus.unsubscribe(SaleEvent.class, firstListener));
+        assertFalse(eventBus.unsubscribe(SaleEvent.class, firstListener));
+        eventBus.publish(new SaleEvent(1, 10));
+        assertEquals(0, firstEvents.size());
+        assertEquals(1, secondEvents.size());
+
+        // A coalescing listener is removed by the listener passed in, not the wrapper around it
+        assertTrue(eventBus.unsubscribe(SaleEvent.class, secondListener));
+        eventBus.publish(new SaleEvent(2, 20));
+        assertEquals(1, secondEvents.size());
+        assertFalse(eventBus.hasListeners(SaleEvent.class));
+    }
+
+    @Test
+    public void testPriceChangesPublishedEveryTenIncreases() {
+        GameEventBus eventBus = new GameEventBus();
+        List<PriceChangedEvent> priceEvents = new ArrayList<>();
+        eventBus.subscribe(PriceChangedEvent.class, priceEvents::add);
+        WatchedEconomy economy = new WatchedEconomy(eventBus);
+
+        economy.step(9);
+        assertEquals(0, priceEvents.size());
+        economy.step(1);
+        assertEquals(1, priceEvents.size());
+        assertEquals(economy.getCurrentPrices(), priceEvents.get(0).getPrices());
+        economy.step(15);
+        assertEquals(2, priceEvents.size());
+
+        // A sale is published right away and starts the count again
+        economy.step(4);
+        economy.sell(ItemType.DIAMOND);
+        assertEquals(3, priceEvents.size());
+        assertEquals(economy.getCurrentPrices(), priceEvents.get(2).getPrices());
+        economy.step(9);
+        assertEquals(3, priceEvents.size());
+        economy.step(1);
+        assertEquals(4, priceEvents.size());
+        assertEquals(economy.getCurrentPrices(), priceEvents.get(3).getPrices());
+    }
+}
@@ -0,0 +1,190 @@
+package test;
+
+import mineopoly_three.event.TurnCompletedEvent;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.GameSnapshot;
+import mineopoly_three.game.PriceHistory;
+import mineopoly_three.game.SalesLedger;
+import mineopoly_three.item.ItemType;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class GameSnapshotTest {
+    private static final int[] BOARD_SIZES = {14, 20};
+    private static final long[] SEEDS = {1, 2, 3};
+    private static final int[] SNAPSHOT_TURNS = {0, 1, 50, 300};
+
+    private static GameEngine createGame(int boardSize, long seed) {
+        return new GameEngine(boardSize, new MiningRandomStrategy(), new MiningRandomStrategy(), seed);
+    }
+
+    /**
+     * Plays a game through, taking a snapshot once the given turn has been played
+     */
+    private static GameSnapshot playAndSnapshot(GameEngine gameEngine, int snapshotTurn) {
+        GameSnapshot[] snapshot = new GameSnapshot[1];
+        if (snapshotTurn == 0) {
+            snapshot[0] = gameEngine.createSnapshot();
+        }
+        gameEngine.getEventBus().subscribe(TurnCompletedEvent.class, event -> {
+            if (event.getTurnNumber() == snapshotTurn && !event.isGameOver()) {
+                snapshot[0] = gameEngine.createSnapshot();
+            }
+        });
+        gameEngine.runGame();
+        assertNotNull("No snapshot taken on turn " + snapshotTurn, snapshot[0]);
+        return snapshot[0];
+    }
+
+    private static String describeLedger(SalesLedger salesLedger) {
+        StringBuilder description = new StringBuilder();
+        for (int entry = 0; entry < salesLedger.getNumEntries(); entry++) {
+            description.append(salesLedger.getTurn(entry)).append(' ').append(salesLedger.getPlayer(entry))
+                       .append(' ').append(salesLedger.getItemType(entry)).append(' ')
+                       .append(salesLedger.getNumSold(entry)).append(' ').append(salesLedger.getUnitPrice(entry))
+                       .append(' ').append(salesLedger.getPriceAfterSale(entry)).append('\n');
+        }
+        for (ItemType resourceType : ItemType.values()) {
+            for (int player : new int[]{SalesLedger.RED_PLAYER, SalesLedger.BLUE_PLAYER}) {
+                description.append(resourceType).append(' ').append(player).append(' ')
+                           .append(salesLedger.getRevenue(player, resourceType)).append(' ')
+                           .append(salesLedger.getNumSold(player, resourceType)).append(' ')
+                           .append(salesLedger.getPriceDrop(player, resourceType)).append('\n');
+            }
+        }
+        return description.toString();
+    }
+
+    static void assertSameGame(String message, GameEngine expected, GameEngine actual) {
+        assertEquals(message, expected.getStateHash(), actual.getStateHash());
+        assertEquals(message, expected.getRedPlayerScore(), actual.getRedPlayerScore());
+        assertEquals(message, expected.getBluePlayerScore(), actual.getBluePlayerScore());
+        assertEquals(message, expected.getRedPlayer().getAllTurnActions(), actual.getRedPlayer().getAllTurnActions());
+        assertEquals(message, expected.getBluePlayer().getAllTurnActions(),
+                     actual.getBluePlayer().getAllTurnActions());
+        assertEquals(message, expected.getEconomy().getCurrentPrices(), actual.getEconomy().getCurrentPrices());
+        assertEquals(message, describeLedger(expected.getEconomy().getSalesLedger()),
+                     describeLedger(actual.getEconomy().getSalesLedger()));
+    }
+
+    @Test
+    public void testRestoredGameFinishesTheSame() {
+        for (int boardSize : BOARD_SIZES) {
+            for (long seed : SEEDS) {
+                GameEngine fullGame = createGame(boardSize, seed);
+                fullGame.runGame();
+
+                for (int snapshotTurn : SNAPSHOT_TURNS) {
+                    String message = "Size " + boardSize + ", seed " + seed + ", turn " + snapshotTurn;
+                    GameSnapshot snapshot = playAndSnapshot(createGame(boardSize, seed), snapshotTurn);
+                    GameEngine restoredGame = snapshot.restore(new MiningRandomStrategy(),
+                                                               new MiningRandomStrategy());
+                    restoredGame.runGame();
+                    assertSameGame(message, fullGame, restoredGame);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRestoreMatchesSnapshotState() {
+        GameEngine sourceGame = createGame(14, 5);
+        GameSnapshot snapshot = playAndSnapshot(sourceGame, 100);
+        GameEngine restoredGame = snapshot.restore(new MiningRandomStrategy(), new MiningRandomStrategy());
+
+        // Taking a snapshot of the restored engine gives back the same state
+        GameSnapshot snapshotOfRestored = restoredGame.createSnapshot();
+        assertEquals(snapshot.getTurnNumber(), snapshotOfRestored.getTurnNumber());
+        assertEquals(snapshot.isRedTurn(), snapshotOfRestored.isRedTurn());
+        assertEquals(snapshot.getRedPlayerScore(), snapshotOfRestored.getRedPlayerScore());
+        assertEquals(snapshot.getBluePlayerScore(), snapshotOfRestored.getBluePlayerScore());
+        assertEquals(restoredGame.getStateHash(),
+                     snapshotOfRestored.restore(new MiningRandomStrategy(), new MiningRandomStrategy())
+                                       .getStateHash());
+    }
+
+    @Test
+    public void testRestoreIntoReusedEngine() {
+        GameEngine fullGame = createGame(20, 7);
+        fullGame.runGame();
+        GameSnapshot snapshot = playAndSnapshot(createGame(20, 7), 50);
+
+        // An engine that has already played a game on a board of another size
+        GameEngine reusedEngine = createGame(14, 99);
+        reusedEngine.runGame();
+        reusedEngine.restoreSnapshot(snapshot, new MiningRandomStrategy(), new MiningRandomStrategy());
+        reusedEngine.runGame();
+        assertSameGame("Reused engine", fullGame, reusedEngine);
+    }
+
+    @Test
+    public void testForkedGamesAllFinishTheSame() {
+        GameEngine fullGame = createGame(14, 11);
+        fullGame.runGame();
+        GameSnapshot snapshot = playAndSnapshot(createGame(14, 11), 200);
+
+        List<GameEngine> forkedGames = snapshot.fork(3, MiningRandomStrategy::new, MiningRandomStrategy::new);
+        assertEquals(3, forkedGames.size());
+        for (GameEngine forkedGame : forkedGames) {
+            forkedGame.runGame();
+            assertSameGame("Forked game", fullGame, forkedGame);
+        }
+    }
+
+    @Test
+    public void testPriceHistoryKeptThroughRestore() {
+        GameEngine fullGame = createGame(14, 3);
+        fullGame.runGame();
+        PriceHistory fullHistory = fullGame.getEconomy().getPriceHistory();
+
+        GameSnapshot snapshot = playAndSnapshot(createGame(14, 3), 300);
+        GameEngine restoredGame = snapshot.restore(new MiningRandomStrategy(), new MiningRandomStrategy());
+        PriceHistory restoredHistory = restoredGame.getEconomy().getPriceHistory();
+
+        // Turns from before the snapshot can be looked up straight after restoring, and after playing on
+        assertEquals(fullHistory.getFirstTurn(), restoredHistory.getFirstTurn());
+        assertEquals(snapshot.getTurnNumber(), restoredHistory.getLatestTurn());
+        for (int turn = 0; turn < 2; turn++) {
+            for (ItemType resourceType : ItemType.values()) {
+                for (int historyTurn = 0; historyTurn <= restoredHistory.getLatestTurn(); historyTurn++) {
+                    assertEquals("Turn " + historyTurn, fullHistory.getPrice(resourceType, historyTurn),
+                                 restoredHistory.getPrice(resourceType, historyTurn));
+                }
+                assertEquals(fullHistory.getMeanPrice(resourceType, 0, snapshot.getTurnNumber()),
+                             restoredHistory.getMeanPrice(resourceType, 0, snapshot.getTurnNumber()), 0);
+            }
+            restoredGame.runGame();
+        }
+
+        assertEquals(fullHistory.getLatestTurn(), restoredHistory.getLatestTurn());
+        boolean anyResourceSold = false;
+        for (ItemType resourceType : ItemType.values()) {
+            assertEquals(fullHistory.getLastSaleTurn(resourceType), restoredHistory.getLastSaleTurn(resourceType));
+            anyResourceSold |= fullHistory.getLastSaleTurn(resourceType) >= 0;
+        }
+        assertTrue(anyResourceSold);
+    }
+
+    @Test
+    public void testSalesLedgerKeptThroughRestoreAndFork() {
+        GameEngine fullGame = createGame(20, 13);
+        fullGame.runGame();
+        String fullLedger = describeLedger(fullGame.getEconomy().getSalesLedger());
+
+        GameSnapshot snapshot = playAndSnapshot(createGame(20, 13), 400);
+        GameEngine restoredGame = snapshot.restore(new MiningRandomStrategy(), new MiningRandomStrategy());
+        assertTrue(restoredGame.getEconomy().getSalesLedger().getNumEntries() > 0);
+        restoredGame.runGame();
+        assertEquals(fullLedger, describeLedger(restoredGame.getEconomy().getSalesLedger()));
+
+        for (GameEngine forkedGame : snapshot.fork(2, MiningRandomStrategy::new, MiningRandomStrategy::new)) {
+            forkedGame.runGame();
+            assertEquals(fullLedger, describeLedger(forkedGame.getEconomy().getSalesLedger()));
+        }
+    }
+}
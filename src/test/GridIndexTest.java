@@ -0,0 +1,126 @@
+package test;
+
+import mineopoly_three.util.GridIndex;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Fills GridIndexes with random tiles and checks their searches against looking at every tile on the board
+ */
+public class GridIndexTest {
+    private static final int[] BOARD_SIZES = {1, 2, 14, 33, 64, 65};
+    // From almost empty categories, where a search has to cover most of the board, to almost full ones
+    private static final double[] TILE_DENSITIES = {0.001, 0.02, 0.3, 0.95};
+    private static final int NUM_CATEGORIES = 3;
+    private static final int GRIDS_PER_CASE = 20;
+
+    private static boolean[][][] fillRandomly(GridIndex index, double density, Random random) {
+        int boardSize = index.getBoardSize();
+        boolean[][][] inCategory = new boolean[NUM_CATEGORIES][boardSize][boardSize];
+        for (int category = 0; category < NUM_CATEGORIES; category++) {
+            for (int x = 0; x < boardSize; x++) {
+                for (int y = 0; y < boardSize; y++) {
+                    inCategory[category][x][y] = random.nextDouble() < density;
+                    index.set(x, y, category, inCategory[category][x][y]);
+                }
+            }
+        }
+        return inCategory;
+    }
+
+    private static int bruteForceNearestDistance(boolean[][] inCategory, int fromX, int fromY) {
+        int nearestDistance = -1;
+        for (int x = 0; x < inCategory.length; x++) {
+            for (int y = 0; y < inCategory.length; y++) {
+                int distance = Math.abs(x - fromX) + Math.abs(y - fromY);
+                if (inCategory[x][y] && (nearestDistance < 0 || distance < nearestDistance)) {
+                    nearestDistance = distance;
+                }
+            }
+        }
+        return nearestDistance;
+    }
+
+    private static List<Point> bruteForceWithinDistance(boolean[][] inCategory, int fromX, int fromY,
+                                                        int maxDistance) {
+        List<Point> tilesFound = new ArrayList<>();
+        for (int y = 0; y < inCategory.length; y++) {
+            for (int x = 0; x < inCategory.length; x++) {
+                if (inCategory[x][y] && Math.abs(x - fromX) + Math.abs(y - fromY) <= maxDistance) {
+                    tilesFound.add(new Point(x, y));
+                }
+            }
+        }
+        return tilesFound;
+    }
+
+    @Test
+    public void testFindNearestMatchesBruteForce() {
+        Random random = new Random(17);
+        for (int boardSize : BOARD_SIZES) {
+            for (double density : TILE_DENSITIES) {
+                for (int grid = 0; grid < GRIDS_PER_CASE; grid++) {
+                    GridIndex index = new GridIndex(boardSize, NUM_CATEGORIES);
+                    boolean[][][] inCategory = fillRandomly(index, density, random);
+                    for (int category = 0; category < NUM_CATEGORIES; category++) {
+                        for (int x = 0; x < boardSize; x += 1 + boardSize / 8) {
+                            for (int y = 0; y < boardSize; y += 1 + boardSize / 8) {
+                                String message = "Size " + boardSize + ", density " + density + ", from (" + x
+                                                 + ", " + y + ")";
+                                int expectedDistance = bruteForceNearestDistance(inCategory[category], x, y);
+                                Point nearest = index.findNearest(x, y, category);
+                                if (expectedDistance < 0) {
+                                    assertNull(message, nearest);
+                                    continue;
+                                }
+
+                                // Ties can be broken either way, so only the distance has to match
+                                assertTrue(message, inCategory[category][nearest.x][nearest.y]);
+                                assertEquals(message, expectedDistance,
+                                             Math.abs(nearest.x - x) + Math.abs(nearest.y - y));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFindWithinDistanceMatchesBruteForce() {
+        Random random = new Random(23);
+        for (int boardSize : BOARD_SIZES) {
+            for (double density : TILE_DENSITIES) {
+                GridIndex index = new GridIndex(boardSize, NUM_CATEGORIES);
+                boolean[][][] inCategory = fillRandomly(index, density, random);
+                for (int maxDistance = 0; maxDistance <= 2 * boardSize; maxDistance += 1 + boardSize / 4) {
+                    int x = random.nextInt(boardSize);
+                    int y = random.nextInt(boardSize);
+                    assertEquals("Size " + boardSize + ", density " + density + ", distance " + maxDistance,
+                                 bruteForceWithinDistance(inCategory[0], x, y, maxDistance),
+                                 index.findWithinDistance(x, y, 0, maxDistance));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        GridIndex index = new GridIndex(14, 1);
+        index.set(3, 4, 0, true);
+        GridIndex copy = new GridIndex(index);
+        index.set(3, 4, 0, false);
+
+        assertNull(index.findNearest(0, 0, 0));
+        assertEquals(new Point(3, 4), copy.findNearest(0, 0, 0));
+        assertEquals(1, copy.count(0));
+    }
+}
@@ -2,7 +2,6 @@ package test;
 
 import mineopoly_three.action.TurnAction;
 import mineopoly_three.game.Economy;
-import mineopoly_three.game.GameEngine;
 import mineopoly_three.item.InventoryItem;
 import mineopoly_three.item.ItemType;
 import mineopoly_three.strategy.MinePlayerStrategy;
@@ -10,6 +9,9 @@ import mineopoly_three.strategy.PlayerBoardView;
 import mineopoly_three.strategy.PlayerStrategy;
 import mineopoly_three.strategy.RandomStrategy;
 import mineopoly_three.tiles.TileType;
+import mineopoly_three.tournament.SequentialEvaluator;
+import mineopoly_three.tournament.TournamentRunner;
+import mineopoly_three.tournament.WinRateEvaluation;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -19,6 +21,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.*;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -26,7 +29,11 @@ import static org.junit.Assert.assertTrue;
 public class MineopolyTest {
     private ItemType[] itemTypes = new ItemType[]{ItemType.DIAMOND,ItemType.EMERALD,ItemType.RUBY,ItemType.AUTOMINER};
     private Economy economy = new Economy(itemTypes);
-    private MinePlayerStrategy yourStrategy = new PlayerStrategy();
+    // Every win percentage game gets a fresh strategy from this, and the single-turn tests use yourStrategy
+    private static final Supplier<MinePlayerStrategy> YOUR_STRATEGY_FACTORY = PlayerStrategy::new;
+    private MinePlayerStrategy yourStrategy = YOUR_STRATEGY_FACTORY.get();
+    // Fixed so that a failing win percentage test plays the same games when it is run again
+    private static final long WIN_PERCENT_MASTER_SEED = 0;
     private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
     private final PrintStream originalOut = System.out;
 
@@ -36,96 +43,40 @@ public class MineopolyTest {
     }
 
     //win percentage testing
-    @Test
-    public void testWinPercentageSize14() {
-        final int numTotalRounds = 1000;
-        int numRoundsWonByMinScore = 0;
-        MinePlayerStrategy randomStrategy = new RandomStrategy();
-        GameEngine gameEngine;
-
-        for (int i = 0; i < numTotalRounds; i++) {
-            long randomSeed = System.currentTimeMillis();
-            gameEngine = new GameEngine(14, yourStrategy, randomStrategy, randomSeed);
-            gameEngine.setGuiEnabled(false);
-            gameEngine.runGame();
-
-            if (gameEngine.getRedPlayer().getScore() > gameEngine.getMinScoreToWin()) {
-                numRoundsWonByMinScore++;
-            }
+    private static WinRateEvaluation evaluateWinPercentage(int boardSize) {
+        try (TournamentRunner tournamentRunner = new TournamentRunner(boardSize, YOUR_STRATEGY_FACTORY,
+                                                                      RandomStrategy::new)) {
+            // Stops as soon as 95% sure of the result, and never plays more than the original 1000 games
+            return new SequentialEvaluator(tournamentRunner, 0.99, 0.95, 100, 1000).evaluate(WIN_PERCENT_MASTER_SEED);
         }
+    }
 
+    @Test
+    public void testWinPercentageSize14() {
+        WinRateEvaluation evaluation = evaluateWinPercentage(14);
 
-        double winPercentage = ((double) numRoundsWonByMinScore) / numTotalRounds;
-        assertTrue(winPercentage >= 0.99);
+        assertTrue(evaluation.toString(), evaluation.isPassed());
     }
 
     @Test
     public void testWinPercentageSize20() {
-        final int numTotalRounds = 1000;
-        int numRoundsWonByMinScore = 0;
-        MinePlayerStrategy randomStrategy = new RandomStrategy();
-        GameEngine gameEngine;
-
-        for (int i = 0; i < numTotalRounds; i++) {
-            long randomSeed = System.currentTimeMillis();
-            gameEngine = new GameEngine(20, yourStrategy, randomStrategy, randomSeed);
-            gameEngine.setGuiEnabled(false);
-            gameEngine.runGame();
-
-            if (gameEngine.getRedPlayer().getScore() > gameEngine.getMinScoreToWin()) {
-                numRoundsWonByMinScore++;
-            }
-        }
+        WinRateEvaluation evaluation = evaluateWinPercentage(20);
 
-
-        double winPercentage = ((double) numRoundsWonByMinScore) / numTotalRounds;
-        assertTrue(winPercentage >= 0.99);
+        assertTrue(evaluation.toString(), evaluation.isPassed());
     }
 
     @Test
     public void testWinPercentageSize26() {
-        final int numTotalRounds = 1000;
-        int numRoundsWonByMinScore = 0;
-        MinePlayerStrategy randomStrategy = new RandomStrategy();
-        GameEngine gameEngine;
-
-        for (int i = 0; i < numTotalRounds; i++) {
-            long randomSeed = System.currentTimeMillis();
-            gameEngine = new GameEngine(26, yourStrategy, randomStrategy, randomSeed);
-            gameEngine.setGuiEnabled(false);
-            gameEngine.runGame();
-
-            if (gameEngine.getRedPlayer().getScore() > gameEngine.getMinScoreToWin()) {
-                numRoundsWonByMinScore++;
-            }
-        }
-
+        WinRateEvaluation evaluation = evaluateWinPercentage(26);
 
-        double winPercentage = ((double) numRoundsWonByMinScore) / numTotalRounds;
-        assertTrue(winPercentage >= 0.99);
+        assertTrue(evaluation.toString(), evaluation.isPassed());
     }
 
     @Test
     public void testWinPercentageSize32() {
-        final int numTotalRounds = 1000;
-        int numRoundsWonByMinScore = 0;
-        MinePlayerStrategy randomStrategy = new RandomStrategy();
-        GameEngine gameEngine;
-
-        for (int i = 0; i < numTotalRounds; i++) {
-            long randomSeed = System.currentTimeMillis();
-            gameEngine = new GameEngine(32, yourStrategy, randomStrategy, randomSeed);
-            gameEngine.setGuiEnabled(false);
-            gameEngine.runGame();
-
-            if (gameEngine.getRedPlayer().getScore() > gameEngine.getMinScoreToWin()) {
-                numRoundsWonByMinScore++;
-            }
-        }
-
+        WinRateEvaluation evaluation = evaluateWinPercentage(32);
 
-        double winPercentage = ((double) numRoundsWonByMinScore) / numTotalRounds;
-        assertTrue(winPercentage >= 0.99);
+        assertTrue(evaluation.toString(), evaluation.isPassed());
     }
 
     @Test
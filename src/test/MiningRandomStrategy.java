@@ -0,0 +1,79 @@
+package test;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.Economy;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A strategy for tests that mines, picks up, and sells resources while wandering randomly. It keeps no state
+ *  besides its color and the Random it is given, so a new copy restored from a GameSnapshot plays on exactly the
+ *  same as the strategy the snapshot was taken from
+ */
+public class MiningRandomStrategy implements MinePlayerStrategy {
+    private static final TurnAction[] MOVES = {TurnAction.MOVE_UP, TurnAction.MOVE_DOWN, TurnAction.MOVE_LEFT,
+                                               TurnAction.MOVE_RIGHT};
+
+    private Random random;
+    private TileType marketType;
+
+    @Override
+    public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                           PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                           Random random) {
+        this.random = random;
+        this.marketType = isRedPlayer ? TileType.RED_MARKET : TileType.BLUE_MARKET;
+    }
+
+    @Override
+    public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                    boolean isRedTurn) {
+        Point location = boardView.getYourLocation();
+        List<InventoryItem> itemsHere = boardView.getItemsOnGround().get(location);
+        if (itemsHere != null && itemsHere.stream().anyMatch(item -> item.getItemType().isResource())) {
+            return TurnAction.PICK_UP_RESOURCE;
+        }
+
+        TileType tileHere = boardView.getTileTypeAtLocation(location);
+        boolean onResource = tileHere == TileType.RESOURCE_DIAMOND || tileHere == TileType.RESOURCE_EMERALD
+                             || tileHere == TileType.RESOURCE_RUBY;
+        if (onResource && random.nextBoolean()) {
+            return TurnAction.MINE;
+        }
+
+        Point market = boardView.getNearestTileOfType(location, marketType);
+        if (market != null && random.nextInt(3) == 0) {
+            // Head for the market now and then, so resources get sold and prices move
+            if (market.x != location.x) {
+                return market.x > location.x ? TurnAction.MOVE_RIGHT : TurnAction.MOVE_LEFT;
+            }
+            if (market.y != location.y) {
+                return market.y > location.y ? TurnAction.MOVE_UP : TurnAction.MOVE_DOWN;
+            }
+        }
+        return MOVES[random.nextInt(MOVES.length)];
+    }
+
+    @Override
+    public void onReceiveItem(InventoryItem itemReceived) {
+    }
+
+    @Override
+    public void onSoldInventory(int totalSellPrice) {
+    }
+
+    @Override
+    public String getName() {
+        return "MiningRandomStrategy";
+    }
+
+    @Override
+    public void endRound(int pointsScored, int opponentPointsScored) {
+    }
+}
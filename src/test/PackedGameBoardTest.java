@@ -0,0 +1,146 @@
+package test;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.GameBoard;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.MinePlayer;
+import mineopoly_three.game.PackedGameBoard;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.Tile;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Plays the same random actions on a GameBoard and a PackedGameBoard generated from the same seed, and checks that
+ *  the tiles, the items on them, the players, and the players' views stay the same on both
+ */
+public class PackedGameBoardTest {
+    private static final int[] BOARD_SIZES = {14, 20, 26, 32};
+    private static final int SEEDS_PER_SIZE = 50;
+    private static final int TURNS_PER_GAME = 1000;
+    // Comparing every tile is slow, so the whole board is compared this often and after the last turn
+    private static final int TURNS_BETWEEN_FULL_CHECKS = 25;
+
+    private static String describeItems(List<InventoryItem> items) {
+        int[] numOfType = new int[ItemType.values().length];
+        if (items != null) {
+            for (InventoryItem item : items) {
+                numOfType[item.getItemType().ordinal()]++;
+            }
+        }
+        return Arrays.toString(numOfType);
+    }
+
+    private static String describeTile(Tile tile, PlayerBoardView view) {
+        Point location = tile.getLocation();
+        String description = tile.getType() + " " + describeItems(tile.getItemsOnTile()) + " "
+                             + describeItems(view.getItemsOnGround().get(location)) + " "
+                             + view.getTileTypeAtLocation(location);
+        if (tile instanceof ResourceTile) {
+            description += " mined " + ((ResourceTile) tile).getNumTimesMined();
+        }
+        return description;
+    }
+
+    private static String describePlayer(MinePlayer player, Point location) {
+        return location + " energy " + player.getCurrentEnergy() + " score " + player.getScore() + " inventory "
+               + describeItems(player.getInventory());
+    }
+
+    private static void assertSameBoards(String message, GameBoard board, MinePlayer boardRed, MinePlayer boardBlue,
+                                         PackedGameBoard packedBoard, MinePlayer packedRed, MinePlayer packedBlue,
+                                         boolean checkEveryTile) {
+        assertEquals(message, describePlayer(boardRed, boardRed.getCurrentTile().getLocation()),
+                     describePlayer(packedRed, packedBoard.getPlayerLocation(packedRed)));
+        assertEquals(message, describePlayer(boardBlue, boardBlue.getCurrentTile().getLocation()),
+                     describePlayer(packedBlue, packedBoard.getPlayerLocation(packedBlue)));
+        if (!checkEveryTile) {
+            return;
+        }
+
+        PlayerBoardView boardView = board.convertToView(boardRed, boardBlue);
+        PlayerBoardView packedView = packedBoard.convertToView(packedRed, packedBlue);
+        assertEquals(message, boardView.getYourLocation(), packedView.getYourLocation());
+        assertEquals(message, boardView.getOtherPlayerLocation(), packedView.getOtherPlayerLocation());
+        for (int x = 0; x < board.getSize(); x++) {
+            for (int y = 0; y < board.getSize(); y++) {
+                assertEquals(message + " at (" + x + ", " + y + ")",
+                             describeTile(board.getTileAtLocation(x, y), boardView),
+                             describeTile(packedBoard.getTileAtLocation(x, y), packedView));
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesGameBoardOverRandomGames() {
+        TurnAction[] allTurnActions = TurnAction.values();
+        for (int boardSize : BOARD_SIZES) {
+            for (long seed = 1; seed <= SEEDS_PER_SIZE; seed++) {
+                // Two engines with the same seed give the same board, and players with the same random numbers
+                GameEngine boardGame = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), seed);
+                GameEngine packedGame = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), seed);
+                GameBoard board = boardGame.getBoard();
+                PackedGameBoard packedBoard = PackedGameBoard.fromBoard(packedGame.getBoard());
+
+                MinePlayer boardRed = boardGame.getRedPlayer();
+                MinePlayer boardBlue = boardGame.getBluePlayer();
+                MinePlayer packedRed = packedGame.getRedPlayer();
+                MinePlayer packedBlue = packedGame.getBluePlayer();
+                board.getTileAtLocation(board.getRedStartTileLocation()).onEnter(boardRed);
+                board.getTileAtLocation(board.getBlueStartTileLocation()).onEnter(boardBlue);
+                packedBoard.placePlayer(packedRed, packedBoard.getRedStartTileLocation());
+                packedBoard.placePlayer(packedBlue, packedBoard.getBlueStartTileLocation());
+
+                Random actionRandom = new Random(seed);
+                for (int turn = 0; turn < TURNS_PER_GAME; turn++) {
+                    if (turn % 50 == 0) {
+                        // Hand out autominers now and then, so placing and picking them up gets played too
+                        boardRed.addItemToInventory(new InventoryItem(ItemType.AUTOMINER));
+                        packedRed.addItemToInventory(new InventoryItem(ItemType.AUTOMINER));
+                    }
+                    TurnAction redAction = allTurnActions[actionRandom.nextInt(allTurnActions.length)];
+                    TurnAction blueAction = allTurnActions[actionRandom.nextInt(allTurnActions.length)];
+                    redAction.getActionToPerform().performAction(board, boardRed, redAction);
+                    packedBoard.performAction(packedRed, redAction);
+                    blueAction.getActionToPerform().performAction(board, boardBlue, blueAction);
+                    packedBoard.performAction(packedBlue, blueAction);
+                    board.update();
+                    packedBoard.update();
+
+                    boolean checkEveryTile = (turn % TURNS_BETWEEN_FULL_CHECKS == 0) || (turn == TURNS_PER_GAME - 1);
+                    assertSameBoards("Size " + boardSize + ", seed " + seed + ", turn " + turn, board, boardRed,
+                                     boardBlue, packedBoard, packedRed, packedBlue, checkEveryTile);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRoundTripThroughGameBoard() {
+        for (int boardSize : BOARD_SIZES) {
+            GameEngine gameEngine = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), boardSize);
+            gameEngine.runGame();
+            GameBoard board = gameEngine.getBoard();
+            GameBoard roundTripBoard = PackedGameBoard.fromBoard(board).toGameBoard();
+
+            for (int x = 0; x < boardSize; x++) {
+                for (int y = 0; y < boardSize; y++) {
+                    Tile tile = board.getTileAtLocation(x, y);
+                    Tile roundTripTile = roundTripBoard.getTileAtLocation(x, y);
+                    assertEquals(tile.getType(), roundTripTile.getType());
+                    assertEquals(describeItems(tile.getItemsOnTile()), describeItems(roundTripTile.getItemsOnTile()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package test;
+
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.TurnOrder;
+import mineopoly_three.metrics.EngineMetrics;
+import mineopoly_three.metrics.EnginePhase;
+import mineopoly_three.metrics.PhaseHistogram;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Percentiles come back as the middle of the bucket they land in, so the bucket boundaries are checked with values
+ *  whose buckets are worked out by hand
+ */
+public class PhaseHistogramTest {
+
+    private static PhaseHistogram createHistogram(long... values) {
+        PhaseHistogram histogram = new PhaseHistogram();
+        for (long value : values) {
+            histogram.record(value);
+        }
+        return histogram;
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        // Below 16 every value has a bucket of its own
+        PhaseHistogram histogram = new PhaseHistogram();
+        for (long value = 0; value < 16; value++) {
+            histogram.record(value);
+        }
+        for (int i = 1; i <= 16; i++) {
+            assertEquals("Percentile " + i + "/16", i - 1, histogram.getPercentileNanos(i / 16.0));
+        }
+    }
+
+    @Test
+    public void testBucketEdges() {
+        // 16 through 31 still have buckets of width 1
+        assertEquals(16, createHistogram(0, 16, 1000).getPercentileNanos(0.5));
+        assertEquals(31, createHistogram(0, 31, 1000).getPercentileNanos(0.5));
+
+        // 32 starts the first bucket of width 2, covering 32 and 33, whose middle is 33
+        assertEquals(33, createHistogram(0, 32, 1000).getPercentileNanos(0.5));
+        assertEquals(33, createHistogram(0, 33, 1000).getPercentileNanos(0.5));
+        assertEquals(35, createHistogram(0, 34, 1000).getPercentileNanos(0.5));
+
+        // 1000 is in the bucket covering 992 to 1023, and 1024 starts the next one covering 1024 to 1087
+        assertEquals(1008, createHistogram(0, 992, 2000).getPercentileNanos(0.5));
+        assertEquals(1008, createHistogram(0, 1000, 2000).getPercentileNanos(0.5));
+        assertEquals(1008, createHistogram(0, 1023, 2000).getPercentileNanos(0.5));
+        assertEquals(1056, createHistogram(0, 1024, 2000).getPercentileNanos(0.5));
+    }
+
+    @Test
+    public void testPercentileClampedToRecordedRange() {
+        // The middle of the 1000 bucket is 1008, past the largest value recorded
+        PhaseHistogram histogram = createHistogram(1000);
+        assertEquals(1000, histogram.getPercentileNanos(0.5));
+        assertEquals(1000, histogram.getPercentileNanos(1));
+
+        // And the middle of the 1023 bucket is below the smallest value recorded
+        histogram = createHistogram(1023, 1023);
+        assertEquals(1023, histogram.getPercentileNanos(0));
+
+        // The last bucket holds values up to Long.MAX_VALUE
+        histogram = createHistogram(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(0.99));
+    }
+
+    @Test
+    public void testPercentilesOfKnownValues() {
+        PhaseHistogram histogram = new PhaseHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(1, histogram.getPercentileNanos(0));
+        assertEquals(1, histogram.getPercentileNanos(0.01));
+        // The 50th value is in the bucket covering 50 and 51
+        assertEquals(51, histogram.getPercentileNanos(0.5));
+        // The 90th value is in the bucket covering 88 to 91
+        assertEquals(90, histogram.getPercentileNanos(0.9));
+        // The 99th value is in the bucket covering 96 to 99, and the 100th in the one covering 100 to 103
+        assertEquals(98, histogram.getPercentileNanos(0.99));
+        assertEquals(100, histogram.getPercentileNanos(1));
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getTotalNanos());
+        assertEquals(1, histogram.getMinNanos());
+        assertEquals(100, histogram.getMaxNanos());
+        assertEquals(50.5, histogram.getMeanNanos(), 0);
+    }
+
+    @Test
+    public void testPercentilesWithinBucketError() {
+        Random random = new Random(4);
+        long[] values = new long[10000];
+        PhaseHistogram histogram = new PhaseHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 30);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[] {0.1, 0.5, 0.9, 0.99, 0.999}) {
+            long exactValue = values[(int) Math.ceil(percentile * values.length) - 1];
+            long histogramValue = histogram.getPercentileNanos(percentile);
+            assertTrue("Percentile " + percentile, Math.abs(histogramValue - exactValue) <= exactValue / 16 + 1);
+        }
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        PhaseHistogram histogram = new PhaseHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMinNanos());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getMeanNanos(), 0);
+        assertEquals(0, histogram.getPercentileNanos(0.5));
+    }
+
+    @Test
+    public void testNegativeCountedAsZero() {
+        PhaseHistogram histogram = createHistogram(-5, 10);
+        assertEquals(2, histogram.getCount());
+        assertEquals(10, histogram.getTotalNanos());
+        assertEquals(0, histogram.getMinNanos());
+        assertEquals(0, histogram.getPercentileNanos(0.5));
+    }
+
+    @Test
+    public void testMergeMatchesRecordingEverything() {
+        PhaseHistogram merged = createHistogram(5, 40, 1000);
+        merged.merge(createHistogram(3, 33, 5000, 70000));
+        PhaseHistogram recordedTogether = createHistogram(5, 40, 1000, 3, 33, 5000, 70000);
+
+        assertEquals(7, merged.getCount());
+        assertEquals(recordedTogether.getTotalNanos(), merged.getTotalNanos());
+        assertEquals(3, merged.getMinNanos());
+        assertEquals(70000, merged.getMaxNanos());
+        for (int i = 0; i <= 20; i++) {
+            assertEquals(recordedTogether.getPercentileNanos(i / 20.0), merged.getPercentileNanos(i / 20.0));
+        }
+
+        // Merging an empty histogram changes nothing, including the minimum
+        merged.merge(new PhaseHistogram());
+        assertEquals(7, merged.getCount());
+        assertEquals(3, merged.getMinNanos());
+    }
+
+    @Test
+    public void testReset() {
+        PhaseHistogram histogram = createHistogram(7, 900, 12345);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getTotalNanos());
+        assertEquals(0, histogram.getMinNanos());
+        assertEquals(0, histogram.getPercentileNanos(1));
+
+        // Nothing from before the reset is left in the buckets
+        histogram.record(20);
+        assertEquals(20, histogram.getMinNanos());
+        assertEquals(20, histogram.getMaxNanos());
+        assertEquals(20, histogram.getPercentileNanos(0));
+        assertEquals(20, histogram.getPercentileNanos(1));
+    }
+
+    @Test
+    public void testEngineMetricsMergeAndReset() {
+        EngineMetrics metrics = new EngineMetrics();
+        metrics.record(EnginePhase.CONVERT_TO_VIEW, 100);
+        metrics.record(EnginePhase.BOARD_UPDATE, 20);
+        EngineMetrics otherMetrics = new EngineMetrics();
+        otherMetrics.record(EnginePhase.CONVERT_TO_VIEW, 300);
+        otherMetrics.record(EnginePhase.PERFORM_ACTION, 8);
+
+        assertSame(metrics, metrics.merge(otherMetrics));
+        assertEquals(2, metrics.getHistogram(EnginePhase.CONVERT_TO_VIEW).getCount());
+        assertEquals(400, metrics.getHistogram(EnginePhase.CONVERT_TO_VIEW).getTotalNanos());
+        assertEquals(1, metrics.getHistogram(EnginePhase.BOARD_UPDATE).getCount());
+        assertEquals(8, metrics.getHistogram(EnginePhase.PERFORM_ACTION).getMaxNanos());
+        assertEquals(0, metrics.getHistogram(EnginePhase.INCREASE_DEMAND).getCount());
+        // The other metrics are left as they were
+        assertEquals(1, otherMetrics.getHistogram(EnginePhase.CONVERT_TO_VIEW).getCount());
+
+        metrics.reset();
+        for (EnginePhase phase : EnginePhase.values()) {
+            assertEquals(phase.toString(), 0, metrics.getHistogram(phase).getCount());
+        }
+    }
+
+    @Test
+    public void testOneViewPerPlayerInEveryTurnOrder() {
+        for (TurnOrder turnOrder : TurnOrder.values()) {
+            GameEngine gameEngine = new GameEngine(14, new MiningRandomStrategy(), new MiningRandomStrategy(), 3);
+            gameEngine.setTurnOrder(turnOrder);
+            gameEngine.setMetricsEnabled(true);
+            gameEngine.runGame();
+
+            EngineMetrics metrics = gameEngine.getMetrics();
+            long numStrategyCalls = metrics.getHistogram(EnginePhase.RED_GET_TURN_ACTION).getCount()
+                                    + metrics.getHistogram(EnginePhase.BLUE_GET_TURN_ACTION).getCount();
+            assertTrue(turnOrder.toString(), numStrategyCalls > 0);
+            assertEquals(turnOrder.toString(), numStrategyCalls,
+                         metrics.getHistogram(EnginePhase.CONVERT_TO_VIEW).getCount());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package test;
+
+import mineopoly_three.game.Economy;
+import mineopoly_three.game.PriceHistory;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Walks an economy through turns and sales whose prices are worked out by hand, and checks what its PriceHistory
+ *  says about them. Diamonds start at 150 and rise by 5 a turn, rubies start at 50 and rise by 3
+ */
+public class PriceHistoryTest {
+    private static final ItemType[] RESOURCE_TYPES = {ItemType.DIAMOND, ItemType.EMERALD, ItemType.RUBY};
+
+    /**
+     * Makes the protected methods the GameEngine uses to change prices callable from the tests
+     */
+    private static class SteppableEconomy extends Economy {
+        SteppableEconomy(ItemType[] resourceTypes) {
+            super(resourceTypes);
+        }
+
+        void step(int numTurns) {
+            for (int turn = 0; turn < numTurns; turn++) {
+                increaseDemand();
+            }
+        }
+
+        void sell(ItemType resourceType, int numToSell) {
+            List<InventoryItem> itemsToSell = new ArrayList<>();
+            for (int i = 0; i < numToSell; i++) {
+                itemsToSell.add(new InventoryItem(resourceType));
+            }
+            sellResources(itemsToSell);
+        }
+
+        void reset() {
+            resetPrices();
+        }
+    }
+
+    private static void assertTurnsNotRecorded(PriceHistory priceHistory, int fromTurn, int toTurn) {
+        try {
+            priceHistory.getMeanPrice(ItemType.DIAMOND, fromTurn, toTurn);
+            fail("Turns " + fromTurn + " to " + toTurn + " aren't recorded");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testQueriesOverKnownPrices() {
+        SteppableEconomy economy = new SteppableEconomy(RESOURCE_TYPES);
+        PriceHistory priceHistory = economy.getPriceHistory();
+        economy.step(4);
+        // Selling 2 of 8 takes a quarter off, 170 * 0.75 = 127.5, which rounds down
+        economy.sell(ItemType.DIAMOND, 2);
+        economy.step(1);
+        // 65 * 0.875 = 56.875
+        economy.sell(ItemType.RUBY, 1);
+
+        assertEquals(0, priceHistory.getFirstTurn());
+        assertEquals(5, priceHistory.getLatestTurn());
+        int[] diamondPrices = {150, 155, 160, 165, 170, 132};
+        for (int turn = 0; turn <= 5; turn++) {
+            assertEquals("Turn " + turn, diamondPrices[turn], priceHistory.getPrice(ItemType.DIAMOND, turn));
+        }
+        // A sale only shows from the next turn on, since the history has the prices each turn started with
+        assertEquals(65, priceHistory.getPrice(ItemType.RUBY, 5));
+        assertEquals(56, economy.getPrice(ItemType.RUBY));
+        assertEquals(0, priceHistory.getPrice(ItemType.AUTOMINER, 5));
+
+        assertEquals(155, priceHistory.getMinPrice(ItemType.DIAMOND, 1, 3));
+        assertEquals(165, priceHistory.getMaxPrice(ItemType.DIAMOND, 1, 3));
+        assertEquals(160, priceHistory.getMeanPrice(ItemType.DIAMOND, 1, 3), 0);
+        assertEquals(132, priceHistory.getMinPrice(ItemType.DIAMOND, 0, 5));
+        assertEquals(170, priceHistory.getMaxPrice(ItemType.DIAMOND, 0, 5));
+        assertEquals(932 / 6.0, priceHistory.getMeanPrice(ItemType.DIAMOND, 0, 5), 1e-9);
+        assertEquals(170, priceHistory.getMinPrice(ItemType.DIAMOND, 4, 4));
+
+        assertEquals(4, priceHistory.getLastSaleTurn(ItemType.DIAMOND));
+        assertEquals(5, priceHistory.getLastSaleTurn(ItemType.RUBY));
+        assertEquals(-1, priceHistory.getLastSaleTurn(ItemType.EMERALD));
+    }
+
+    @Test
+    public void testJustAfterReset() {
+        SteppableEconomy economy = new SteppableEconomy(RESOURCE_TYPES);
+        economy.step(20);
+        economy.sell(ItemType.EMERALD, 3);
+        economy.reset();
+
+        // Only the starting prices of turn 0 are left
+        PriceHistory priceHistory = economy.getPriceHistory();
+        assertEquals(0, priceHistory.getFirstTurn());
+        assertEquals(0, priceHistory.getLatestTurn());
+        assertEquals(150, priceHistory.getPrice(ItemType.DIAMOND, 0));
+        assertEquals(100, priceHistory.getMinPrice(ItemType.EMERALD, 0, 0));
+        assertEquals(100, priceHistory.getMaxPrice(ItemType.EMERALD, 0, 0));
+        assertEquals(50, priceHistory.getMeanPrice(ItemType.RUBY, 0, 0), 0);
+        assertEquals(-1, priceHistory.getLastSaleTurn(ItemType.EMERALD));
+        assertTurnsNotRecorded(priceHistory, 0, 1);
+        assertTurnsNotRecorded(priceHistory, 1, 1);
+        assertTurnsNotRecorded(priceHistory, -1, 0);
+    }
+
+    @Test
+    public void testEconomyBuyingNothing() {
+        // The emptiest history an economy can have still has the prices of turn 0, and they are all 0
+        SteppableEconomy economy = new SteppableEconomy(new ItemType[0]);
+        economy.step(3);
+        PriceHistory priceHistory = economy.getPriceHistory();
+        assertEquals(3, priceHistory.getLatestTurn());
+        assertEquals(0, priceHistory.getMaxPrice(ItemType.DIAMOND, 0, 3));
+        assertEquals(0, priceHistory.getMeanPrice(ItemType.RUBY, 0, 3), 0);
+        assertEquals(-1, priceHistory.getLastSaleTurn(ItemType.DIAMOND));
+    }
+
+    @Test
+    public void testOldestTurnsForgottenOnceFull() {
+        SteppableEconomy economy = new SteppableEconomy(RESOURCE_TYPES);
+        economy.step(PriceHistory.CAPACITY + 5);
+
+        PriceHistory priceHistory = economy.getPriceHistory();
+        assertEquals(PriceHistory.CAPACITY + 5, priceHistory.getLatestTurn());
+        assertEquals(6, priceHistory.getFirstTurn());
+        assertEquals(180, priceHistory.getPrice(ItemType.DIAMOND, 6));
+        assertEquals(400, priceHistory.getPrice(ItemType.RUBY, priceHistory.getLatestTurn()));
+        assertEquals(180, priceHistory.getMinPrice(ItemType.DIAMOND, 6, priceHistory.getLatestTurn()));
+        assertTurnsNotRecorded(priceHistory, 5, 6);
+    }
+
+    @Test
+    public void testEmptyWindow() {
+        SteppableEconomy economy = new SteppableEconomy(RESOURCE_TYPES);
+        economy.step(5);
+        assertTurnsNotRecorded(economy.getPriceHistory(), 3, 2);
+    }
+}
@@ -0,0 +1,101 @@
+package test;
+
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.PlayerSeeding;
+import mineopoly_three.replay.Replay;
+import mineopoly_three.replay.ReplayStrategy;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReplayTest {
+    private static final int BOARD_SIZE = 14;
+    private static final long SEED = 42;
+
+    private static Replay writeAndReadBack(Replay replay) throws IOException {
+        File replayFile = File.createTempFile("mineopoly", ".replay");
+        try {
+            Replay.encodeReplayFile(replay, replayFile.getPath());
+            return Replay.decodeReplayFile(replayFile.getPath());
+        } finally {
+            replayFile.delete();
+        }
+    }
+
+    /**
+     * Plays a game between two RandomStrategies, saves its replay to a file, then plays the replay back and checks
+     *  that it ends in exactly the same state
+     */
+    private static void checkReplayPlaysBack(PlayerSeeding playerSeeding) throws IOException {
+        GameEngine originalGame = new GameEngine(BOARD_SIZE, new RandomStrategy(), new RandomStrategy(), SEED);
+        originalGame.setPlayerSeeding(playerSeeding);
+        originalGame.runGame();
+        Replay replay = writeAndReadBack(originalGame.getReplay());
+        assertEquals(playerSeeding, replay.getPlayerSeeding());
+
+        GameEngine replayedGame = new GameEngine(replay.getBoardSize(), new ReplayStrategy(replay),
+                                                 new ReplayStrategy(replay), replay.getWorldSeed());
+        replayedGame.setPlayerSeeding(replay.getPlayerSeeding());
+        replayedGame.runGame();
+
+        assertEquals(originalGame.getStateHash(), replayedGame.getStateHash());
+        assertEquals(originalGame.getRedPlayerScore(), replayedGame.getRedPlayerScore());
+        assertEquals(originalGame.getBluePlayerScore(), replayedGame.getBluePlayerScore());
+    }
+
+    @Test
+    public void testDerivedSeedReplayPlaysBack() throws IOException {
+        checkReplayPlaysBack(PlayerSeeding.DERIVED);
+    }
+
+    @Test
+    public void testSharedSeedReplayPlaysBack() throws IOException {
+        checkReplayPlaysBack(PlayerSeeding.SHARED_GAME_SEED);
+    }
+
+    @Test
+    public void testUnversionedFileUsesSharedSeed() throws IOException {
+        File replayFile = File.createTempFile("mineopoly", ".replay");
+        try {
+            FileWriter replayWriter = new FileWriter(replayFile);
+            replayWriter.write("14\r\n42\r\n0,1,2\r\n3,4,5");
+            replayWriter.close();
+
+            Replay replay = Replay.decodeReplayFile(replayFile.getPath());
+            assertEquals(PlayerSeeding.SHARED_GAME_SEED, replay.getPlayerSeeding());
+            assertEquals(14, replay.getBoardSize());
+            assertEquals(42, replay.getWorldSeed());
+            assertEquals(3, replay.getRedPlayerActions().size());
+        } finally {
+            replayFile.delete();
+        }
+    }
+
+    @Test
+    public void testVersionLineOnlyForDerivedSeeds() {
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, new RandomStrategy(), new RandomStrategy(), SEED);
+        assertTrue(gameEngine.getReplay().toString().startsWith("version 2\r\n"));
+
+        gameEngine.setPlayerSeeding(PlayerSeeding.SHARED_GAME_SEED);
+        assertTrue(gameEngine.getReplay().toString().startsWith(BOARD_SIZE + "\r\n"));
+    }
+
+    @Test
+    public void testSharedSeedMatchesGameSeed() {
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, new RandomStrategy(), new RandomStrategy(), SEED);
+        gameEngine.setPlayerSeeding(PlayerSeeding.SHARED_GAME_SEED);
+
+        // Both players draw exactly what a Random seeded with the game seed would, like before seeds were derived
+        Random expectedRandom = new Random(SEED);
+        int expectedValue = expectedRandom.nextInt();
+        assertEquals(expectedValue, gameEngine.getRedPlayer().getRandomNumberGenerator().nextInt());
+        assertEquals(expectedValue, gameEngine.getBluePlayer().getRandomNumberGenerator().nextInt());
+    }
+}
@@ -0,0 +1,50 @@
+package test;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.Economy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.*;
+
+/**
+ * A strategy for tests that mines out one resource tile after another and leaves what it mines on the ground, so
+ *  tiles keep changing type and items keep appearing on the board
+ */
+public class ResourceClearingStrategy extends MiningRandomStrategy {
+    private static final TileType[] RESOURCE_TILE_TYPES = {TileType.RESOURCE_DIAMOND, TileType.RESOURCE_EMERALD,
+                                                           TileType.RESOURCE_RUBY};
+
+    @Override
+    public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                    boolean isRedTurn) {
+        Point location = boardView.getYourLocation();
+        Point nearestResource = null;
+        for (TileType resourceTileType : RESOURCE_TILE_TYPES) {
+            Point resource = boardView.getNearestTileOfType(location, resourceTileType);
+            if (resource != null && (nearestResource == null
+                                     || getDistance(location, resource) < getDistance(location, nearestResource))) {
+                nearestResource = resource;
+            }
+        }
+        if (nearestResource == null) {
+            return super.getTurnAction(boardView, economy, currentCharge, isRedTurn);
+        }
+        if (nearestResource.x != location.x) {
+            return nearestResource.x > location.x ? TurnAction.MOVE_RIGHT : TurnAction.MOVE_LEFT;
+        }
+        if (nearestResource.y != location.y) {
+            return nearestResource.y > location.y ? TurnAction.MOVE_UP : TurnAction.MOVE_DOWN;
+        }
+        return TurnAction.MINE;
+    }
+
+    @Override
+    public String getName() {
+        return "ResourceClearingStrategy";
+    }
+
+    private static int getDistance(Point from, Point to) {
+        return Math.abs(from.x - to.x) + Math.abs(from.y - to.y);
+    }
+}
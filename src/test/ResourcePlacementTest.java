@@ -0,0 +1,105 @@
+package test;
+
+import mineopoly_three.game.GameBoard;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.ResourcePlacement;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.TileType;
+import mineopoly_three.tournament.TournamentRunner;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ResourcePlacementTest {
+    // Small boards, where the resource rings are crowded enough for rejection sampling to give up on some spawns
+    private static final int[] CROWDED_BOARD_SIZES = {10, 12, 14};
+    private static final int SEEDS_PER_SIZE = 50;
+
+    private static GameEngine createGame(int boardSize, long seed, ResourcePlacement resourcePlacement) {
+        GameEngine gameEngine = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), seed);
+        gameEngine.setResourcePlacement(resourcePlacement);
+        return gameEngine;
+    }
+
+    private static int countResourceTiles(GameBoard board) {
+        int numResourceTiles = 0;
+        for (int x = 0; x < board.getSize(); x++) {
+            for (int y = 0; y < board.getSize(); y++) {
+                TileType tileType = board.getTileAtLocation(x, y).getType();
+                if (tileType == TileType.RESOURCE_DIAMOND || tileType == TileType.RESOURCE_EMERALD
+                    || tileType == TileType.RESOURCE_RUBY) {
+                    numResourceTiles++;
+                }
+            }
+        }
+        return numResourceTiles;
+    }
+
+    private static int getNumResourcesToSpawn(int boardSize) {
+        int numResourcesToSpawn = 0;
+        for (ItemType itemType : ItemType.values()) {
+            if (itemType.isResource()) {
+                numResourcesToSpawn += (int) (boardSize * boardSize * itemType.getSpawnCountRatio());
+            }
+        }
+        return numResourcesToSpawn;
+    }
+
+    @Test
+    public void testCandidateListLosesNoSpawns() {
+        boolean rejectionSamplingLostSpawns = false;
+        for (int boardSize : CROWDED_BOARD_SIZES) {
+            int numResourcesToSpawn = getNumResourcesToSpawn(boardSize);
+            for (long seed = 0; seed < SEEDS_PER_SIZE; seed++) {
+                GameEngine candidateGame = createGame(boardSize, seed, ResourcePlacement.CANDIDATE_LIST);
+                assertEquals("Size " + boardSize + ", seed " + seed, numResourcesToSpawn,
+                             countResourceTiles(candidateGame.getBoard()));
+
+                GameEngine rejectionGame = createGame(boardSize, seed, ResourcePlacement.REJECTION_SAMPLING);
+                rejectionSamplingLostSpawns |= countResourceTiles(rejectionGame.getBoard()) < numResourcesToSpawn;
+            }
+        }
+        // Otherwise the rings weren't crowded and this test proves nothing
+        assertTrue(rejectionSamplingLostSpawns);
+    }
+
+    @Test
+    public void testSameSeedGivesSameBoard() {
+        for (long seed = 0; seed < 10; seed++) {
+            GameEngine gameEngine = createGame(20, seed, ResourcePlacement.CANDIDATE_LIST);
+            long boardHash = gameEngine.getBoard().getStateHash();
+            assertEquals(boardHash, createGame(20, seed, ResourcePlacement.CANDIDATE_LIST).getBoard().getStateHash());
+            assertNotEquals(boardHash,
+                            createGame(20, seed, ResourcePlacement.REJECTION_SAMPLING).getBoard().getStateHash());
+
+            // A board generated in place by reset() keeps the placement and matches a new engine's
+            gameEngine.runGame();
+            gameEngine.reset(20, seed, false);
+            assertEquals(ResourcePlacement.CANDIDATE_LIST, gameEngine.getResourcePlacement());
+            assertEquals(boardHash, gameEngine.getBoard().getStateHash());
+        }
+    }
+
+    @Test
+    public void testTournamentRunnerUsesPlacement() {
+        try (TournamentRunner runner = new TournamentRunner(20, MiningRandomStrategy::new,
+                                                            MiningRandomStrategy::new)) {
+            runner.setResourcePlacement(ResourcePlacement.CANDIDATE_LIST);
+            for (long seed = 0; seed < 5; seed++) {
+                GameEngine expectedGame = new GameEngine(20, new MiningRandomStrategy(), new MiningRandomStrategy(),
+                                                         seed);
+                expectedGame.setResourcePlacement(ResourcePlacement.CANDIDATE_LIST);
+                expectedGame.runGame();
+                assertEquals(expectedGame.getStateHash(), runner.playGame(seed).getStateHash());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPlacement() {
+        new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 1).setResourcePlacement(null);
+    }
+}
@@ -0,0 +1,78 @@
+package test;
+
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.GameSnapshot;
+import mineopoly_three.game.PlayerSeeding;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The players' random number generators can have their state saved in a GameSnapshot, but must still give exactly
+ *  the numbers java.util.Random would. They are reached through MinePlayer.getRandomNumberGenerator(), seeded with
+ *  the game seed by PlayerSeeding.SHARED_GAME_SEED so the expected numbers come from new Random(gameSeed)
+ */
+public class RestorableRandomTest {
+    private static final long[] SEEDS = {0, 1, -1, 42, Long.MIN_VALUE, Long.MAX_VALUE};
+
+    private static Random getPlayerRandom(long seed) {
+        GameEngine gameEngine = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), seed);
+        gameEngine.setPlayerSeeding(PlayerSeeding.SHARED_GAME_SEED);
+        return gameEngine.getRedPlayer().getRandomNumberGenerator();
+    }
+
+    private static void assertSameSequence(String message, Random expected, Random actual) {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(message, expected.nextInt(), actual.nextInt());
+            assertEquals(message, expected.nextInt(100), actual.nextInt(100));
+            assertEquals(message, expected.nextInt(1 << 20), actual.nextInt(1 << 20));
+            assertEquals(message, expected.nextLong(), actual.nextLong());
+            assertEquals(message, expected.nextBoolean(), actual.nextBoolean());
+            assertEquals(message, expected.nextDouble(), actual.nextDouble(), 0);
+            assertEquals(message, expected.nextFloat(), actual.nextFloat(), 0);
+        }
+
+        byte[] expectedBytes = new byte[37];
+        byte[] actualBytes = new byte[37];
+        expected.nextBytes(expectedBytes);
+        actual.nextBytes(actualBytes);
+        assertArrayEquals(message, expectedBytes, actualBytes);
+    }
+
+    @Test
+    public void testMatchesJavaUtilRandom() {
+        for (long seed : SEEDS) {
+            assertSameSequence("Seed " + seed, new Random(seed), getPlayerRandom(seed));
+        }
+    }
+
+    @Test
+    public void testSetSeedMatchesJavaUtilRandom() {
+        Random playerRandom = getPlayerRandom(0);
+        playerRandom.nextLong();
+        for (long seed : SEEDS) {
+            playerRandom.setSeed(seed);
+            assertSameSequence("Reseeded with " + seed, new Random(seed), playerRandom);
+        }
+    }
+
+    @Test
+    public void testSnapshotContinuesSequence() {
+        GameEngine gameEngine = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 42);
+        Random playerRandom = gameEngine.getBluePlayer().getRandomNumberGenerator();
+        for (int i = 0; i < 17; i++) {
+            playerRandom.nextInt();
+        }
+
+        GameSnapshot snapshot = gameEngine.createSnapshot();
+        GameEngine restoredGame = snapshot.restore(new RandomStrategy(), new RandomStrategy());
+        Random restoredRandom = restoredGame.getBluePlayer().getRandomNumberGenerator();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(playerRandom.nextLong(), restoredRandom.nextLong());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package test;
+
+import mineopoly_three.game.Economy;
+import mineopoly_three.game.SalesLedger;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Makes sales whose prices are worked out by hand through an economy and checks the entries and totals its
+ *  SalesLedger keeps for them. Each sale lowers a price to (int) (price * (1 - numSold / 8)), and each turn raises
+ *  diamonds by 5, emeralds by 4, and rubies by 3
+ */
+public class SalesLedgerTest {
+    private static final ItemType[] RESOURCE_TYPES = {ItemType.DIAMOND, ItemType.EMERALD, ItemType.RUBY};
+    private static final int RED = SalesLedger.RED_PLAYER;
+    private static final int BLUE = SalesLedger.BLUE_PLAYER;
+    private static final int NONE = SalesLedger.NO_PLAYER;
+
+    /**
+     * Makes the protected methods the GameEngine uses to change prices callable from the tests
+     */
+    private static class SteppableEconomy extends Economy {
+        SteppableEconomy() {
+            super(RESOURCE_TYPES);
+        }
+
+        void step(int numTurns) {
+            for (int turn = 0; turn < numTurns; turn++) {
+                increaseDemand();
+            }
+        }
+
+        int sell(List<InventoryItem> itemsToSell, int player) {
+            return sellResources(itemsToSell, player);
+        }
+
+        int sell(List<InventoryItem> itemsToSell) {
+            return sellResources(itemsToSell);
+        }
+
+        void reset() {
+            resetPrices();
+        }
+    }
+
+    private static List<InventoryItem> createItems(ItemType... itemTypes) {
+        List<InventoryItem> items = new ArrayList<>();
+        for (ItemType itemType : itemTypes) {
+            items.add(new InventoryItem(itemType));
+        }
+        return items;
+    }
+
+    private static void assertEntry(SalesLedger ledger, int entry, int turn, int player, ItemType resourceType,
+                                    int numSold, int unitPrice, int priceAfterSale) {
+        String message = "Entry " + entry;
+        assertEquals(message, turn, ledger.getTurn(entry));
+        assertEquals(message, player, ledger.getPlayer(entry));
+        assertEquals(message, resourceType, ledger.getItemType(entry));
+        assertEquals(message, numSold, ledger.getNumSold(entry));
+        assertEquals(message, unitPrice, ledger.getUnitPrice(entry));
+        assertEquals(message, priceAfterSale, ledger.getPriceAfterSale(entry));
+    }
+
+    private static void assertTotals(SalesLedger ledger, int player, ItemType resourceType, long revenue, int numSold,
+                                     long priceDrop) {
+        String message = "Player " + player + ", " + resourceType;
+        assertEquals(message, revenue, ledger.getRevenue(player, resourceType));
+        assertEquals(message, numSold, ledger.getNumSold(player, resourceType));
+        assertEquals(message, priceDrop, ledger.getPriceDrop(player, resourceType));
+    }
+
+    /**
+     * Makes the sales the other tests check, returning the economy they were made in
+     */
+    private static SteppableEconomy makeKnownSales() {
+        SteppableEconomy economy = new SteppableEconomy();
+
+        // Turn 0: diamond 150 -> 112, ruby 50 -> 43, then emerald 100 -> 87 sold directly
+        assertEquals(350, economy.sell(createItems(ItemType.DIAMOND, ItemType.RUBY, ItemType.DIAMOND), RED));
+        assertEquals(100, economy.sell(createItems(ItemType.EMERALD)));
+
+        // Turn 2: diamond 122 -> 61 -> 53
+        economy.step(2);
+        assertEquals(488, economy.sell(createItems(ItemType.DIAMOND, ItemType.DIAMOND, ItemType.DIAMOND,
+                                                   ItemType.DIAMOND), BLUE));
+        assertEquals(61, economy.sell(createItems(ItemType.DIAMOND, ItemType.AUTOMINER), RED));
+
+        // Turn 3: nothing sellable sold by red, then ruby 52 -> 32 sold as no one's
+        economy.step(1);
+        assertEquals(0, economy.sell(createItems(ItemType.AUTOMINER), RED));
+        assertEquals(156, economy.sell(createItems(ItemType.RUBY, ItemType.RUBY, ItemType.RUBY), NONE));
+        return economy;
+    }
+
+    @Test
+    public void testEntriesOfKnownSales() {
+        SalesLedger ledger = makeKnownSales().getSalesLedger();
+        // A sale of several resources has an entry for each, in the order the economy buys them
+        assertEquals(6, ledger.getNumEntries());
+        assertEntry(ledger, 0, 0, RED, ItemType.DIAMOND, 2, 150, 112);
+        assertEntry(ledger, 1, 0, RED, ItemType.RUBY, 1, 50, 43);
+        assertEntry(ledger, 2, 0, NONE, ItemType.EMERALD, 1, 100, 87);
+        assertEntry(ledger, 3, 2, BLUE, ItemType.DIAMOND, 4, 122, 61);
+        assertEntry(ledger, 4, 2, RED, ItemType.DIAMOND, 1, 61, 53);
+        assertEntry(ledger, 5, 3, NONE, ItemType.RUBY, 3, 52, 32);
+    }
+
+    @Test
+    public void testTotalsOfKnownSales() {
+        SalesLedger ledger = makeKnownSales().getSalesLedger();
+        assertTotals(ledger, RED, ItemType.DIAMOND, 361, 3, 46);
+        assertTotals(ledger, RED, ItemType.RUBY, 50, 1, 7);
+        assertTotals(ledger, BLUE, ItemType.DIAMOND, 488, 4, 61);
+
+        // Sales made as no one's don't count towards either player
+        assertTotals(ledger, RED, ItemType.EMERALD, 0, 0, 0);
+        assertTotals(ledger, BLUE, ItemType.EMERALD, 0, 0, 0);
+        assertTotals(ledger, BLUE, ItemType.RUBY, 0, 0, 0);
+        assertTotals(ledger, RED, ItemType.AUTOMINER, 0, 0, 0);
+        try {
+            ledger.getRevenue(NONE, ItemType.RUBY);
+            fail("Totals aren't kept for NO_PLAYER");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testTurnTotalsOfKnownSales() {
+        SalesLedger ledger = makeKnownSales().getSalesLedger();
+        // Unlike the player totals, these count sales made as no one's
+        assertEquals(450, ledger.getRevenueOnTurn(0));
+        assertEquals(0, ledger.getRevenueOnTurn(1));
+        assertEquals(549, ledger.getRevenueOnTurn(2));
+        assertEquals(156, ledger.getRevenueOnTurn(3));
+        assertEquals(0, ledger.getRevenueOnTurn(4));
+
+        assertEquals(2, ledger.getNumSoldOnTurn(0, ItemType.DIAMOND));
+        assertEquals(1, ledger.getNumSoldOnTurn(0, ItemType.EMERALD));
+        assertEquals(1, ledger.getNumSoldOnTurn(0, ItemType.RUBY));
+        assertEquals(5, ledger.getNumSoldOnTurn(2, ItemType.DIAMOND));
+        assertEquals(0, ledger.getNumSoldOnTurn(2, ItemType.RUBY));
+        assertEquals(3, ledger.getNumSoldOnTurn(3, ItemType.RUBY));
+        assertEquals(0, ledger.getNumSoldOnTurn(3, ItemType.AUTOMINER));
+    }
+
+    @Test
+    public void testCsvOfKnownSales() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        makeKnownSales().getSalesLedger().writeCsv(csv);
+        assertEquals("turn,player,item_type,num_sold,unit_price,price_after_sale\n"
+                     + "0,red,DIAMOND,2,150,112\n"
+                     + "0,red,RUBY,1,50,43\n"
+                     + "0,none,EMERALD,1,100,87\n"
+                     + "2,blue,DIAMOND,4,122,61\n"
+                     + "2,red,DIAMOND,1,61,53\n"
+                     + "3,none,RUBY,3,52,32\n", csv.toString());
+    }
+
+    @Test
+    public void testResetClearsLedger() {
+        SteppableEconomy economy = makeKnownSales();
+        economy.reset();
+        SalesLedger ledger = economy.getSalesLedger();
+        assertEquals(0, ledger.getNumEntries());
+        assertEquals(0, ledger.getRevenueOnTurn(0));
+        assertTotals(ledger, RED, ItemType.DIAMOND, 0, 0, 0);
+        assertTotals(ledger, BLUE, ItemType.DIAMOND, 0, 0, 0);
+
+        // And the next game's sales are recorded from the start of the arrays again
+        economy.sell(createItems(ItemType.EMERALD), BLUE);
+        assertEquals(1, ledger.getNumEntries());
+        assertEntry(ledger, 0, 0, BLUE, ItemType.EMERALD, 1, 100, 87);
+        assertTotals(ledger, BLUE, ItemType.EMERALD, 100, 1, 13);
+    }
+
+    @Test
+    public void testLedgerGrowsPastInitialCapacity() {
+        // Far more sales than the ledger starts with room for, one a turn, alternating between the players
+        SteppableEconomy economy = new SteppableEconomy();
+        long[] expectedRevenue = new long[2];
+        for (int turn = 1; turn <= 200; turn++) {
+            economy.step(1);
+            int player = turn % 2 == 0 ? RED : BLUE;
+            expectedRevenue[player] += economy.sell(createItems(ItemType.DIAMOND), player);
+        }
+
+        SalesLedger ledger = economy.getSalesLedger();
+        assertEquals(200, ledger.getNumEntries());
+        assertEquals(expectedRevenue[RED], ledger.getRevenue(RED, ItemType.DIAMOND));
+        assertEquals(expectedRevenue[BLUE], ledger.getRevenue(BLUE, ItemType.DIAMOND));
+        assertEquals(100, ledger.getNumSold(RED, ItemType.DIAMOND));
+        for (int entry = 0; entry < ledger.getNumEntries(); entry++) {
+            assertEquals(entry + 1, ledger.getTurn(entry));
+            assertEquals(ledger.getUnitPrice(entry), ledger.getRevenueOnTurn(entry + 1));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testEntryPastEnd() {
+        makeKnownSales().getSalesLedger().getTurn(6);
+    }
+}
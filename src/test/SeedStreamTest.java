@@ -0,0 +1,46 @@
+package test;
+
+import mineopoly_three.util.SeedStream;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class SeedStreamTest {
+    private static final long[] MASTER_SEEDS = {0, 1, -1, 42, Long.MIN_VALUE, Long.MAX_VALUE, 0x123456789abcdefL};
+
+    @Test
+    public void testSeedsMatchSplittableRandomOrder() {
+        for (long masterSeed : MASTER_SEEDS) {
+            SeedStream seedStream = new SeedStream(masterSeed);
+            SplittableRandom splittableRandom = new SplittableRandom(masterSeed);
+            for (int gameNumber = 0; gameNumber < 1000; gameNumber++) {
+                assertEquals("Game " + gameNumber + " of master seed " + masterSeed,
+                             splittableRandom.nextLong(), seedStream.seedForGame(gameNumber));
+            }
+        }
+    }
+
+    @Test
+    public void testSeedsDoNotDependOnOrder() {
+        SeedStream seedStream = new SeedStream(42);
+        long lastSeed = seedStream.seedForGame(999);
+        for (int gameNumber = 0; gameNumber < 999; gameNumber++) {
+            seedStream.seedForGame(gameNumber);
+        }
+        assertEquals(lastSeed, seedStream.seedForGame(999));
+    }
+
+    @Test
+    public void testDerivedStreamsDiffer() {
+        long gameSeed = new SeedStream(0).seedForGame(0);
+        for (int stream = 1; stream <= 4; stream++) {
+            assertNotEquals(gameSeed, SeedStream.deriveSeed(gameSeed, stream));
+            for (int otherStream = stream + 1; otherStream <= 4; otherStream++) {
+                assertNotEquals(SeedStream.deriveSeed(gameSeed, stream), SeedStream.deriveSeed(gameSeed, otherStream));
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package test;
+
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tournament.SequentialEvaluator;
+import mineopoly_three.tournament.TournamentResult;
+import mineopoly_three.tournament.WinRateEvaluation;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SequentialEvaluatorTest {
+    private static final int GAMES_PER_BATCH = 100;
+    private static final int MAX_GAMES = 1000;
+
+    /**
+     * Skips playing games and instead makes red win exactly numWinsPer1000 out of every 1000 games by minimum score,
+     *  so the Wilson bounds can be checked against results known in advance
+     */
+    private static class FixedWinRateEvaluator extends SequentialEvaluator {
+        private final int numWinsPer1000;
+        private final GameEngine wonGame;
+        private final GameEngine lostGame;
+
+        FixedWinRateEvaluator(int numWinsPer1000) {
+            super(null, 0.99, 0.95, GAMES_PER_BATCH, MAX_GAMES);
+            this.numWinsPer1000 = numWinsPer1000;
+            this.wonGame = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0);
+            wonGame.getRedPlayer().setScore(wonGame.getMinScoreToWin() + 1);
+            this.lostGame = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0);
+        }
+
+        @Override
+        protected TournamentResult playBatch(long masterSeed, int firstGame, int numGames) {
+            TournamentResult batchResult = new TournamentResult();
+            for (int gameNumber = firstGame; gameNumber < firstGame + numGames; gameNumber++) {
+                // Spread the losses out evenly, rather than bunching them at the start or end
+                boolean redWins = (gameNumber % 1000) * numWinsPer1000 / 1000
+                                  != ((gameNumber % 1000) + 1) * numWinsPer1000 / 1000;
+                batchResult.recordGame(redWins ? wonGame : lostGame);
+            }
+            return batchResult;
+        }
+    }
+
+    @Test
+    public void testAlwaysWinningPassesEarly() {
+        WinRateEvaluation evaluation = new FixedWinRateEvaluator(1000).evaluate(0);
+
+        assertTrue(evaluation.toString(), evaluation.isPassed());
+        assertTrue(evaluation.isDecidedEarly());
+        assertTrue(evaluation.getNumGamesPlayed() < MAX_GAMES);
+        assertTrue(evaluation.getWinRateLowerBound() >= 0.99);
+    }
+
+    @Test
+    public void testNeverWinningFailsAfterOneBatch() {
+        WinRateEvaluation evaluation = new FixedWinRateEvaluator(0).evaluate(0);
+
+        assertFalse(evaluation.toString(), evaluation.isPassed());
+        assertTrue(evaluation.isDecidedEarly());
+        assertEquals(GAMES_PER_BATCH, evaluation.getNumGamesPlayed());
+        assertTrue(evaluation.getWinRateUpperBound() < 0.99);
+    }
+
+    @Test
+    public void testHalfWinningFailsEarly() {
+        WinRateEvaluation evaluation = new FixedWinRateEvaluator(500).evaluate(0);
+
+        assertFalse(evaluation.toString(), evaluation.isPassed());
+        assertTrue(evaluation.isDecidedEarly());
+        assertTrue(evaluation.getWinRateLowerBound() <= 0.5);
+        assertTrue(evaluation.getWinRateUpperBound() >= 0.5);
+    }
+
+    @Test
+    public void testCloseToThresholdFallsBackToObservedRate() {
+        // Too close to 99% for the bounds to settle it, so the observed rate over every game decides
+        WinRateEvaluation passingEvaluation = new FixedWinRateEvaluator(990).evaluate(0);
+        assertTrue(passingEvaluation.toString(), passingEvaluation.isPassed());
+        assertFalse(passingEvaluation.isDecidedEarly());
+        assertEquals(MAX_GAMES, passingEvaluation.getNumGamesPlayed());
+        assertEquals(0.99, passingEvaluation.getWinRate(), 1e-9);
+
+        WinRateEvaluation failingEvaluation = new FixedWinRateEvaluator(985).evaluate(0);
+        assertFalse(failingEvaluation.toString(), failingEvaluation.isPassed());
+        assertFalse(failingEvaluation.isDecidedEarly());
+        assertEquals(MAX_GAMES, failingEvaluation.getNumGamesPlayed());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThresholdMustBeAFraction() {
+        new SequentialEvaluator(null, 1.5, 0.95, GAMES_PER_BATCH, MAX_GAMES);
+    }
+}
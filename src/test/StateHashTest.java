@@ -0,0 +1,69 @@
+package test;
+
+import mineopoly_three.event.TurnCompletedEvent;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.PackedGameBoard;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The state hash is kept up to date a piece at a time as the game changes, so it is checked against the hash of
+ *  the same state built again from scratch
+ */
+public class StateHashTest {
+    private static final int[] BOARD_SIZES = {14, 20, 26};
+    private static final long[] SEEDS = {1, 2, 3, 4};
+
+    private static GameEngine createGame(int boardSize, long seed) {
+        return new GameEngine(boardSize, new MiningRandomStrategy(), new MiningRandomStrategy(), seed);
+    }
+
+    private static List<Long> playAndRecordHashes(GameEngine gameEngine) {
+        List<Long> stateHashes = new ArrayList<>();
+        gameEngine.getEventBus().subscribe(TurnCompletedEvent.class,
+                                           event -> stateHashes.add(gameEngine.getStateHash()));
+        gameEngine.runGame();
+        return stateHashes;
+    }
+
+    @Test
+    public void testIncrementalHashMatchesRebuiltHash() {
+        for (int boardSize : BOARD_SIZES) {
+            for (long seed : SEEDS) {
+                GameEngine gameEngine = createGame(boardSize, seed);
+                gameEngine.getEventBus().subscribe(TurnCompletedEvent.class, event -> {
+                    String message = "Size " + boardSize + ", seed " + seed + ", turn " + event.getTurnNumber();
+
+                    // A restored engine builds every part of its hash from the state it is given
+                    GameEngine restoredGame = gameEngine.createSnapshot().restore(new RandomStrategy(),
+                                                                                  new RandomStrategy());
+                    assertEquals(message, gameEngine.getStateHash(), restoredGame.getStateHash());
+
+                    // And so does a board made again tile by tile
+                    long boardHash = gameEngine.getBoard().getStateHash();
+                    assertEquals(message, boardHash,
+                                 PackedGameBoard.fromBoard(gameEngine.getBoard()).toGameBoard().getStateHash());
+                });
+                gameEngine.runGame();
+            }
+        }
+    }
+
+    @Test
+    public void testSameGameGivesSameHashes() {
+        for (long seed : SEEDS) {
+            List<Long> stateHashes = playAndRecordHashes(createGame(20, seed));
+            assertEquals("Seed " + seed, stateHashes, playAndRecordHashes(createGame(20, seed)));
+
+            // Something changes almost every turn, so almost every hash should be different
+            assertTrue("Seed " + seed, new HashSet<>(stateHashes).size() > stateHashes.size() / 2);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package test;
+
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tournament.TournamentResult;
+import mineopoly_three.tournament.TournamentRunner;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Where a game is played must not change how it turns out, and a thread per game must respect its limit
+ */
+public class TournamentRunnerTest {
+    private static final int NUM_GAMES = 24;
+
+    /**
+     * Counts how many games are between initialize() and endRound() at once, taking a while to initialize so
+     *  that games started together overlap
+     */
+    private static class ConcurrencyCountingStrategy extends MiningRandomStrategy {
+        private final AtomicInteger gamesInProgress;
+        private final AtomicInteger peakGamesInProgress;
+
+        ConcurrencyCountingStrategy(AtomicInteger gamesInProgress, AtomicInteger peakGamesInProgress) {
+            this.gamesInProgress = gamesInProgress;
+            this.peakGamesInProgress = peakGamesInProgress;
+        }
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+            super.initialize(boardSize, maxInventorySize, maxCharge, winningScore, startingBoard, startTileLocation,
+                             isRedPlayer, random);
+            peakGamesInProgress.accumulateAndGet(gamesInProgress.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void endRound(int pointsScored, int opponentPointsScored) {
+            gamesInProgress.decrementAndGet();
+        }
+    }
+
+    private static String describeResult(TournamentResult result) {
+        StringBuilder description = new StringBuilder(result.toString());
+        description.append(' ').append(result.getTotalRedScore()).append(' ').append(result.getTotalBlueScore());
+        for (ItemType itemType : ItemType.values()) {
+            description.append(' ').append(result.getTotalRedRevenue(itemType))
+                       .append(' ').append(result.getTotalBlueRevenue(itemType))
+                       .append(' ').append(result.getTotalRedPriceDrop(itemType))
+                       .append(' ').append(result.getTotalBluePriceDrop(itemType));
+        }
+        return description.toString();
+    }
+
+    @Test
+    public void testThreadPerGameMatchesPool() {
+        try (TournamentRunner runner = new TournamentRunner(14, MiningRandomStrategy::new,
+                                                            MiningRandomStrategy::new)) {
+            for (long masterSeed = 1; masterSeed <= 3; masterSeed++) {
+                String pooledResult = describeResult(runner.playGames(NUM_GAMES, masterSeed));
+                runner.setThreadPerGame(4);
+                TournamentResult threadPerGameResult = runner.playGames(NUM_GAMES, masterSeed);
+                runner.setThreadPerGame(0);
+
+                assertEquals(NUM_GAMES, threadPerGameResult.getNumGamesPlayed());
+                assertEquals("Master seed " + masterSeed, pooledResult, describeResult(threadPerGameResult));
+            }
+        }
+    }
+
+    @Test
+    public void testThreadPerGameLimitsConcurrentGames() {
+        AtomicInteger gamesInProgress = new AtomicInteger();
+        AtomicInteger peakGamesInProgress = new AtomicInteger();
+        try (TournamentRunner runner = new TournamentRunner(14, () -> new ConcurrencyCountingStrategy(
+                gamesInProgress, peakGamesInProgress), MiningRandomStrategy::new)) {
+            for (int maxConcurrentGames : new int[] {1, 3}) {
+                peakGamesInProgress.set(0);
+                runner.setThreadPerGame(maxConcurrentGames);
+                assertEquals(NUM_GAMES, runner.playGames(NUM_GAMES, 5).getNumGamesPlayed());
+
+                String message = "Limit " + maxConcurrentGames;
+                assertEquals(message, 0, gamesInProgress.get());
+                assertTrue(message, peakGamesInProgress.get() <= maxConcurrentGames);
+                // Otherwise the games never overlapped and the limit was never tested
+                assertEquals(message, maxConcurrentGames, peakGamesInProgress.get());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeConcurrentGames() {
+        try (TournamentRunner runner = new TournamentRunner(14, MiningRandomStrategy::new,
+                                                            MiningRandomStrategy::new)) {
+            runner.setThreadPerGame(-1);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package test;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.TurnCompletedEvent;
+import mineopoly_three.game.Economy;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.MinePlayer;
+import mineopoly_three.game.TurnOrder;
+import mineopoly_three.game.TurnTimeoutException;
+import mineopoly_three.game.TurnTimeoutPolicy;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TurnTimeLimitTest {
+    private static final int BOARD_SIZE = 14;
+    private static final long SEED = 1234;
+
+    /**
+     * Takes a fixed amount of time on its first turn, then does nothing every turn after that. Keeps track of how
+     *  many threads are inside it at once, which should never be more than one
+     */
+    private static class SlowFirstTurnStrategy implements MinePlayerStrategy {
+        private final long firstTurnMillis;
+        private final boolean ignoresInterrupts;
+        private final AtomicInteger numCallsInProgress = new AtomicInteger();
+        private volatile int maxCallsInProgress;
+        private volatile int numTurnActionCalls;
+        private volatile boolean wasInterrupted;
+        private volatile int numEndRoundCalls;
+
+        SlowFirstTurnStrategy(long firstTurnMillis, boolean ignoresInterrupts) {
+            this.firstTurnMillis = firstTurnMillis;
+            this.ignoresInterrupts = ignoresInterrupts;
+        }
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+            enter();
+            exit();
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            enter();
+            try {
+                if (numTurnActionCalls++ == 0) {
+                    takeTime(firstTurnMillis);
+                }
+                return null;
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public void onReceiveItem(InventoryItem itemReceived) {
+            enter();
+            exit();
+        }
+
+        @Override
+        public void onSoldInventory(int totalSellPrice) {
+            enter();
+            exit();
+        }
+
+        @Override
+        public String getName() {
+            return "SlowFirstTurnStrategy";
+        }
+
+        @Override
+        public void endRound(int pointsScored, int opponentPointsScored) {
+            enter();
+            numEndRoundCalls++;
+            exit();
+        }
+
+        private void takeTime(long millis) {
+            long endTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+            if (ignoresInterrupts) {
+                // Spins instead of sleeping, like a strategy stuck in a long search that never checks for interrupts
+                while (System.nanoTime() < endTime) {
+                    // Keep spinning
+                }
+                return;
+            }
+
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                wasInterrupted = true;
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void enter() {
+            maxCallsInProgress = Math.max(maxCallsInProgress, numCallsInProgress.incrementAndGet());
+        }
+
+        private void exit() {
+            numCallsInProgress.decrementAndGet();
+        }
+
+        private boolean hasReturnedWithin(long millis) throws InterruptedException {
+            long endTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+            while (numCallsInProgress.get() > 0 && System.nanoTime() < endTime) {
+                Thread.sleep(5);
+            }
+            return numCallsInProgress.get() == 0;
+        }
+    }
+
+    @Test
+    public void testSkipTurnWaitsForTimedOutStrategy() {
+        SlowFirstTurnStrategy slowStrategy = new SlowFirstTurnStrategy(300, true);
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, slowStrategy, new RandomStrategy(), SEED);
+        gameEngine.setTurnTimeLimit(10, 0, TurnTimeoutPolicy.SKIP_TURN);
+        gameEngine.runGame();
+
+        MinePlayer redPlayer = gameEngine.getRedPlayer();
+        assertNull(gameEngine.getExceptionThrown());
+        assertEquals(1, slowStrategy.maxCallsInProgress);
+        // Every turn the first call was still running counts as out of time, and the strategy wasn't asked on them
+        assertTrue(redPlayer.getTimedOutTurns().get(0));
+        assertTrue(redPlayer.getNumTimedOutTurns() > 1);
+        assertEquals(redPlayer.getAllTurnActions().size() - redPlayer.getNumTimedOutTurns() + 1,
+                     slowStrategy.numTurnActionCalls);
+    }
+
+    @Test
+    public void testSkipTurnWaitsForTimedOutStrategySimultaneous() {
+        SlowFirstTurnStrategy slowStrategy = new SlowFirstTurnStrategy(300, true);
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, new RandomStrategy(), slowStrategy, SEED);
+        gameEngine.setTurnTimeLimit(10, 0, TurnTimeoutPolicy.SKIP_TURN);
+        gameEngine.setTurnOrder(TurnOrder.SIMULTANEOUS);
+        gameEngine.runGame();
+
+        MinePlayer bluePlayer = gameEngine.getBluePlayer();
+        assertNull(gameEngine.getExceptionThrown());
+        assertEquals(1, slowStrategy.maxCallsInProgress);
+        assertTrue(bluePlayer.getTimedOutTurns().get(0));
+        assertTrue(bluePlayer.getNumTimedOutTurns() > 1);
+        assertEquals(bluePlayer.getAllTurnActions().size() - bluePlayer.getNumTimedOutTurns() + 1,
+                     slowStrategy.numTurnActionCalls);
+    }
+
+    @Test
+    public void testForfeitOnTimeout() {
+        SlowFirstTurnStrategy slowStrategy = new SlowFirstTurnStrategy(300, true);
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, slowStrategy, new RandomStrategy(), SEED);
+        gameEngine.setTurnTimeLimit(10, 0, TurnTimeoutPolicy.FORFEIT);
+        gameEngine.runGame();
+
+        assertTrue(gameEngine.getExceptionThrown() instanceof TurnTimeoutException);
+        assertEquals(-1, gameEngine.getRedPlayerScore());
+        assertTrue(gameEngine.getRedPlayer().getTimedOutTurns().get(0));
+        assertEquals(1, slowStrategy.numTurnActionCalls);
+    }
+
+    @Test
+    public void testTimeBankPaysForSlowTurn() {
+        SlowFirstTurnStrategy slowStrategy = new SlowFirstTurnStrategy(100, false);
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, slowStrategy, new RandomStrategy(), SEED);
+        gameEngine.setTurnTimeLimit(20, 1000, TurnTimeoutPolicy.FORFEIT);
+        gameEngine.runGame();
+
+        // The 80ms over the turn limit came out of the bank instead of running out of time
+        long timeBankLeftMillis = TimeUnit.NANOSECONDS.toMillis(gameEngine.getRedPlayer().getTimeBankNanos());
+        assertNull(gameEngine.getExceptionThrown());
+        assertEquals(0, gameEngine.getRedPlayer().getNumTimedOutTurns());
+        assertTrue(timeBankLeftMillis <= 920);
+        assertTrue(timeBankLeftMillis > 0);
+    }
+
+    @Test
+    public void testTimeBankRunsOut() {
+        SlowFirstTurnStrategy slowStrategy = new SlowFirstTurnStrategy(300, false);
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, slowStrategy, new RandomStrategy(), SEED);
+        gameEngine.setTurnTimeLimit(20, 100, TurnTimeoutPolicy.SKIP_TURN);
+        gameEngine.runGame();
+
+        // Allowed 120ms in all, so the strategy ran out of time and the whole bank is gone
+        MinePlayer redPlayer = gameEngine.getRedPlayer();
+        assertNull(gameEngine.getExceptionThrown());
+        assertTrue(redPlayer.getTimedOutTurns().get(0));
+        assertFalse(redPlayer.getTimeBankNanos() > 0);
+        assertEquals(1, slowStrategy.maxCallsInProgress);
+    }
+
+    @Test
+    public void testSimultaneousForfeitStopsOtherStrategy() {
+        SlowFirstTurnStrategy redStrategy = new SlowFirstTurnStrategy(5000, false);
+        SlowFirstTurnStrategy blueStrategy = new SlowFirstTurnStrategy(5000, false);
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, redStrategy, blueStrategy, SEED);
+        gameEngine.setTurnTimeLimit(10, 0, TurnTimeoutPolicy.FORFEIT);
+        gameEngine.setTurnOrder(TurnOrder.SIMULTANEOUS);
+
+        // Whichever strategy forfeits first, the other one is interrupted as soon as the game ends, not left
+        //  deciding on a turn that won't be played
+        boolean[] bothReturned = new boolean[1];
+        gameEngine.getEventBus().subscribe(TurnCompletedEvent.class, event -> {
+            try {
+                bothReturned[0] = redStrategy.hasReturnedWithin(1000) && blueStrategy.hasReturnedWithin(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        gameEngine.runGame();
+
+        assertTrue(gameEngine.getExceptionThrown() instanceof TurnTimeoutException);
+        assertTrue(bothReturned[0]);
+        assertTrue(redStrategy.wasInterrupted);
+        assertTrue(blueStrategy.wasInterrupted);
+    }
+
+    @Test
+    public void testSimultaneousChargesEachPlayerItsOwnTime() {
+        SlowFirstTurnStrategy slowStrategy = new SlowFirstTurnStrategy(100, false);
+        SlowFirstTurnStrategy fastStrategy = new SlowFirstTurnStrategy(0, false);
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, slowStrategy, fastStrategy, SEED);
+        gameEngine.setTurnTimeLimit(50, 1000, TurnTimeoutPolicy.FORFEIT);
+        gameEngine.setTurnOrder(TurnOrder.SIMULTANEOUS);
+        gameEngine.runGame();
+
+        // The engine waited on the slow strategy, but only the slow strategy's player pays for it
+        assertNull(gameEngine.getExceptionThrown());
+        assertTrue(gameEngine.getRedPlayer().getTimeBankNanos() < TimeUnit.MILLISECONDS.toNanos(1000));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), gameEngine.getBluePlayer().getTimeBankNanos());
+    }
+
+    private static void checkNoTimeLeftLeavesStrategyFree(TurnOrder turnOrder) {
+        // The time bank runs out on the first turn, and with no per-turn limit there's no time on any turn after
+        SlowFirstTurnStrategy slowStrategy = new SlowFirstTurnStrategy(30, false);
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, slowStrategy, new RandomStrategy(), SEED);
+        gameEngine.setTurnTimeLimit(0, 10, TurnTimeoutPolicy.SKIP_TURN);
+        gameEngine.setTurnOrder(turnOrder);
+        gameEngine.runGame();
+
+        // The strategy isn't started on turns with no time left, so it isn't left counted as running forever
+        MinePlayer redPlayer = gameEngine.getRedPlayer();
+        assertNull(gameEngine.getExceptionThrown());
+        assertEquals(1, slowStrategy.numTurnActionCalls);
+        assertEquals(redPlayer.getAllTurnActions().size(), redPlayer.getNumTimedOutTurns());
+        assertEquals(1, slowStrategy.numEndRoundCalls);
+
+        // And the next game on the same engine starts normally
+        gameEngine.reset(BOARD_SIZE, SEED + 1, false);
+        gameEngine.runGame();
+        assertNull(gameEngine.getExceptionThrown());
+        assertEquals(2, slowStrategy.numEndRoundCalls);
+        assertEquals(1, slowStrategy.maxCallsInProgress);
+    }
+
+    @Test
+    public void testNoTimeLeftLeavesStrategyFree() {
+        checkNoTimeLeftLeavesStrategyFree(TurnOrder.SEQUENTIAL);
+    }
+
+    @Test
+    public void testNoTimeLeftLeavesStrategyFreeSimultaneous() {
+        checkNoTimeLeftLeavesStrategyFree(TurnOrder.SIMULTANEOUS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTurnTimeLimit() {
+        GameEngine gameEngine = new GameEngine(BOARD_SIZE, new RandomStrategy(), new RandomStrategy(), SEED);
+        gameEngine.setTurnTimeLimit(-1, 0, TurnTimeoutPolicy.SKIP_TURN);
+    }
+}